@@ -0,0 +1,26 @@
+package multibank.DaminiSinghAssignment.Benchmarks;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * BenchmarkSupport
+ * ------------------------------------------------------------------
+ * Shared setup for the JMH benchmarks (-Pjmh).
+ */
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Discards System.out in the forked benchmark JVM. The framework logs with
+     * System.out.println on paths like test-data parsing and screenshot
+     * writing; thousands of lines per second would flood the JMH output and
+     * measure the console instead of the code. JMH reports results over its
+     * own channel, so they are unaffected.
+     */
+    public static void silenceConsole() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+}
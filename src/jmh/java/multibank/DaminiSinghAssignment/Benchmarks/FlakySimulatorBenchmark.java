@@ -0,0 +1,63 @@
+package multibank.DaminiSinghAssignment.Benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import multibank.DaminiSinghAssignment.Utilities.FlakySimulator;
+
+/**
+ * FlakySimulatorBenchmark
+ * ------------------------------------------------------------------
+ * FlakySimulator.isFirstRun is a static synchronized method; this measures
+ * what the single monitor costs once parallel test threads call it
+ * (1 thread vs 16 threads over a fixed set of 256 keys, so after warm-up
+ * nearly every call is a "not first run" lookup, like retried tests).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlakySimulatorBenchmark {
+
+    private static final String[] KEYS = new String[256];
+
+    static {
+        for (int i = 0; i < KEYS.length; i++) {
+            KEYS[i] = "RETRY_" + i + "_demoRetryOnTransientFailure";
+        }
+    }
+
+    /** Per-thread position in the key set. */
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        String key() {
+            next = (next + 1) & (KEYS.length - 1);
+            return KEYS[next];
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean uncontended(Cursor cursor) {
+        return FlakySimulator.isFirstRun(cursor.key());
+    }
+
+    @Benchmark
+    @Threads(16)
+    public boolean contended16Threads(Cursor cursor) {
+        return FlakySimulator.isFirstRun(cursor.key());
+    }
+}
@@ -0,0 +1,71 @@
+package multibank.DaminiSinghAssignment.Benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import multibank.DaminiSinghAssignment.PageObjects.SpotSectionPage;
+
+/**
+ * PairSymbolValidationBenchmark
+ * ------------------------------------------------------------------
+ * Framework overhead of SpotSectionPage.arePairSymbolsInCorrectFormat on a
+ * stub driver: PageFactory list proxy lookup, scrollIntoView script call and
+ * getText per cell, plus the pair regex (one reused Matcher).
+ *
+ * regexOnlyStringMatches isolates the regex part in its old form
+ * (String.matches compiles the pattern per cell) for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PairSymbolValidationBenchmark {
+
+    @Param({"12", "200"})
+    public int rows;
+
+    private SpotSectionPage page;
+    private List<String> symbols;
+
+    @Setup
+    public void setUp() {
+        String[] bases = {"BTC", "ETH", "SOL", "XRP", "ADA", "DOGE", "1INCH", "AVAX"};
+        symbols = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            symbols.add(bases[i % bases.length] + "-USDT");
+        }
+        StubWebDriver driver = new StubWebDriver()
+                .withElements("asset-list_pair", StubWebDriver.elementsWithText(symbols));
+        page = new SpotSectionPage(driver);
+    }
+
+    @Benchmark
+    public boolean pageObject() {
+        return page.arePairSymbolsInCorrectFormat();
+    }
+
+    @Benchmark
+    public boolean regexOnlyStringMatches() {
+        for (String symbol : symbols) {
+            if (!symbol.matches("[A-Z0-9]+-[A-Z0-9]+")) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,292 @@
+package multibank.DaminiSinghAssignment.Benchmarks;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+import javax.imageio.ImageIO;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * StubWebDriver
+ * ------------------------------------------------------------------
+ * In-memory WebDriver for benchmarks: no browser, no wire protocol, so a
+ * benchmark measures only the framework code around the driver and gives the
+ * same numbers on every machine.
+ *
+ *   • findElement(s) returns canned elements registered for a locator
+ *     fragment (matched against By.toString(), e.g. "asset-list_pair"),
+ *     or nothing.
+ *   • executeScript returns null (scrolls, highlights).
+ *   • getScreenshotAs returns a real PNG of the configured size; every call
+ *     carries a unique tEXt chunk, so content-addressed storage never
+ *     deduplicates two captures.
+ */
+public final class StubWebDriver implements WebDriver, JavascriptExecutor, TakesScreenshot {
+
+    private final Map<String, List<WebElement>> elements = new LinkedHashMap<>();
+    private final AtomicLong captures = new AtomicLong();
+    private byte[] screenshot;
+    private String url = "about:blank";
+
+    /** Registers the elements returned for locators containing the fragment. */
+    public StubWebDriver withElements(String locatorFragment, List<WebElement> found) {
+        elements.put(locatorFragment, found);
+        return this;
+    }
+
+    /** Renders the PNG returned by getScreenshotAs (gradient + blocks, roughly page-like entropy). */
+    public StubWebDriver withScreenshot(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int block = ((x / 40) + (y / 24)) % 5 == 0 ? 0x203040 : 0xF4F6F8;
+                image.setRGB(x, y, block ^ ((x * 3 + y) & 0x0F));
+            }
+        }
+        try {
+            ByteArrayOutputStream png = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", png);
+            screenshot = png.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return this;
+    }
+
+    /** Creates simple visible elements with the given texts. */
+    public static List<WebElement> elementsWithText(List<String> texts) {
+        List<WebElement> found = new ArrayList<>();
+        texts.forEach(text -> found.add(new StubElement(text)));
+        return found;
+    }
+
+    // =========================================================================
+    //  WebDriver
+    // =========================================================================
+
+    @Override
+    public void get(String url) {
+        this.url = url;
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return url;
+    }
+
+    @Override
+    public String getTitle() {
+        return "stub";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        String locator = by.toString();
+        for (Map.Entry<String, List<WebElement>> entry : elements.entrySet()) {
+            if (locator.contains(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return List.of();
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        List<WebElement> found = findElements(by);
+        if (found.isEmpty()) {
+            throw new NoSuchElementException("Stub has no element for " + by);
+        }
+        return found.get(0);
+    }
+
+    @Override
+    public String getPageSource() {
+        return "<html></html>";
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void quit() {
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return Set.of("stub");
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return "stub";
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedOperationException("switchTo is not stubbed");
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw new UnsupportedOperationException("navigate is not stubbed");
+    }
+
+    @Override
+    public Options manage() {
+        throw new UnsupportedOperationException("manage is not stubbed");
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        return null;
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return null;
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+        if (screenshot == null) {
+            throw new WebDriverException("No stub screenshot configured");
+        }
+        return target.convertFromPngBytes(withTextChunk(screenshot, "capture " + captures.incrementAndGet()));
+    }
+
+    /** Inserts a tEXt chunk (valid CRC) before IEND, so each capture hashes differently. */
+    static byte[] withTextChunk(byte[] png, String text) {
+        byte[] data = ("bench\0" + text).getBytes(StandardCharsets.ISO_8859_1);
+        byte[] type = "tEXt".getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(type);
+        crc.update(data);
+
+        ByteBuffer chunk = ByteBuffer.allocate(12 + data.length);
+        chunk.putInt(data.length).put(type).put(data).putInt((int) crc.getValue());
+
+        int iend = png.length - 12;   // IEND is always the last 12 bytes
+        byte[] out = Arrays.copyOf(png, png.length + chunk.capacity());
+        System.arraycopy(chunk.array(), 0, out, iend, chunk.capacity());
+        System.arraycopy(png, iend, out, iend + chunk.capacity(), 12);
+        return out;
+    }
+
+    // =========================================================================
+    //  Element
+    // =========================================================================
+
+    /** Visible, enabled element with fixed text. */
+    static final class StubElement implements WebElement {
+        private final String text;
+
+        StubElement(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public boolean isDisplayed() {
+            return true;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isSelected() {
+            return false;
+        }
+
+        @Override
+        public void click() {
+        }
+
+        @Override
+        public void submit() {
+        }
+
+        @Override
+        public void sendKeys(CharSequence... keysToSend) {
+        }
+
+        @Override
+        public void clear() {
+        }
+
+        @Override
+        public String getTagName() {
+            return "div";
+        }
+
+        @Override
+        public String getAttribute(String name) {
+            return null;
+        }
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            return List.of();
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            throw new NoSuchElementException("Stub element has no children");
+        }
+
+        @Override
+        public Point getLocation() {
+            return new Point(0, 0);
+        }
+
+        @Override
+        public Dimension getSize() {
+            return new Dimension(120, 24);
+        }
+
+        @Override
+        public Rectangle getRect() {
+            return new Rectangle(getLocation(), getSize());
+        }
+
+        @Override
+        public String getCssValue(String propertyName) {
+            return "";
+        }
+
+        @Override
+        public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+            throw new WebDriverException("Element screenshots are not stubbed");
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package multibank.DaminiSinghAssignment.Benchmarks;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import multibank.DaminiSinghAssignment.Utilities.TestDataLoader;
+import multibank.DaminiSinghAssignment.Utilities.TestDataRepository;
+
+/**
+ * TestDataLoaderBenchmark
+ * ------------------------------------------------------------------
+ * Test-data loading as used by WhyMultiLinkPageTest:
+ *
+ *   coldParse   index the testdata directory and stream-parse the dataset
+ *               (what the first test of a run pays)
+ *   warmLookup  TestDataLoader.loadWhyMultiLinkExpectedTexts() once the shared
+ *               repository holds the parsed dataset (every later test)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestDataLoaderBenchmark {
+
+    private static final String DATASET = "why_multilink_expected_texts";
+
+    private Path testdata;
+
+    @Setup
+    public void setUp() throws URISyntaxException, IOException {
+        BenchmarkSupport.silenceConsole();
+        testdata = Path.of(TestDataLoaderBenchmark.class.getResource("/testdata").toURI());
+        TestDataLoader.loadWhyMultiLinkExpectedTexts();
+    }
+
+    @Benchmark
+    public Map<String, List<String>> coldParse() {
+        return TestDataRepository.fromDirectory(testdata).get(DATASET).asMap();
+    }
+
+    @Benchmark
+    public Map<String, List<String>> warmLookup() throws IOException {
+        return TestDataLoader.loadWhyMultiLinkExpectedTexts();
+    }
+}
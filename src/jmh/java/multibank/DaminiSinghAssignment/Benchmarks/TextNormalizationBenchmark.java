@@ -0,0 +1,63 @@
+package multibank.DaminiSinghAssignment.Benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import multibank.DaminiSinghAssignment.Utilities.TextNormalizer;
+
+/**
+ * TextNormalizationBenchmark
+ * ------------------------------------------------------------------
+ * Cost of normalising scraped UI text (WhyMultiLinkPage.normalizeText
+ * delegates to TextNormalizer.normalize) against the naive
+ * replaceAll("\\s+", " ").trim() it replaced.
+ *
+ * Inputs are shaped like innerText of the Why Multibank page: a heading,
+ * a card paragraph with line breaks and non-breaking spaces, and a long
+ * section with many whitespace runs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextNormalizationBenchmark {
+
+    @Param({"heading", "paragraph", "section"})
+    public String shape;
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        String paragraph = "  Trade with confidence\n\n  on a regulated\u00A0\u00A0platform\twith "
+                + "tight spreads,\r\n deep liquidity and 24/7 support.  ";
+        text = switch (shape) {
+            case "heading" -> "  Why MultiBank?  ";
+            case "paragraph" -> paragraph;
+            default -> paragraph.repeat(20);
+        };
+    }
+
+    @Benchmark
+    public String textNormalizer() {
+        return TextNormalizer.normalize(text);
+    }
+
+    @Benchmark
+    public String replaceAllBaseline() {
+        return text.replaceAll("[\\s\\u00A0\\u2007\\u202F]+", " ").trim();
+    }
+}
@@ -0,0 +1,98 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlTest;
+
+import com.aventstack.extentreports.Status;
+
+/**
+ * ExtentListenerBenchmark
+ * ------------------------------------------------------------------
+ * Reporting overhead per test as seen by the test threads: one
+ * ExtentTestNGListener lifecycle (onTestStart → 5 step logs → onTestSuccess)
+ * into a real ReportEventLog, with 1 and 16 threads reporting at once.
+ *
+ * ITestResult / ITestContext are minimal proxies: the listener only reads the
+ * method name and the <test> name.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExtentListenerBenchmark {
+
+    private final ExtentTestNGListener listener = new ExtentTestNGListener();
+    private ReportEventLog log;
+    private ITestResult result;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Path file = Files.createTempDirectory("jmh-report").resolve("events.jsonl");
+        log = ReportEventLog.open(file);
+
+        XmlTest xmlTest = new XmlTest();
+        xmlTest.setName("Chrome_Tests");
+        ITestContext context = proxy(ITestContext.class, "getCurrentXmlTest", xmlTest);
+        ITestNGMethod method = proxy(ITestNGMethod.class, "getMethodName", "verifyNavigationMenu");
+        result = (ITestResult) Proxy.newProxyInstance(ITestResult.class.getClassLoader(),
+                new Class<?>[] {ITestResult.class}, (p, m, args) -> switch (m.getName()) {
+                    case "getMethod" -> method;
+                    case "getTestContext" -> context;
+                    default -> null;
+                });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        log.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, String getter, Object value) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (p, m, args) -> m.getName().equals(getter) ? value : null);
+    }
+
+    private void oneTest() {
+        listener.onTestStart(result);
+        for (int step = 0; step < 5; step++) {
+            ExtentTestNGListener.log(Status.INFO, "Step " + step + ": hover 'Markets' and open 'Spot'");
+        }
+        listener.onTestSuccess(result);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void testLifecycleSingleThread() {
+        oneTest();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void testLifecycle16Threads() {
+        oneTest();
+    }
+}
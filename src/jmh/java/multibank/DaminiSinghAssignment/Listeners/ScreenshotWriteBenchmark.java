@@ -0,0 +1,73 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.OutputType;
+
+import multibank.DaminiSinghAssignment.Benchmarks.BenchmarkSupport;
+import multibank.DaminiSinghAssignment.Benchmarks.StubWebDriver;
+
+/**
+ * ScreenshotWriteBenchmark
+ * ------------------------------------------------------------------
+ * Failure-screenshot write path with a 1280x720 stub screenshot:
+ *
+ *   submitAndDrain  full path: capture bytes, queue hand-off, encode (scale /
+ *                   format), SHA-256, PNG
+ *                   recompression, atomic blob write and index append
+ *   encode          the downscale / re-encode step alone
+ *
+ * Every capture carries a unique PNG chunk, so the content-addressed store
+ * always takes the "new blob" path instead of the exact-duplicate shortcut.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScreenshotWriteBenchmark {
+
+    @Param({"png:1.0", "png:0.5", "jpg:1.0"})
+    public String output;
+
+    private StubWebDriver driver;
+    private ScreenshotWriter writer;
+    private byte[] screenshot;
+    private long counter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BenchmarkSupport.silenceConsole();
+        String[] formatAndScale = output.split(":");
+        driver = new StubWebDriver().withScreenshot(1280, 720);
+        screenshot = driver.getScreenshotAs(OutputType.BYTES);
+        ArtifactStore store = new ArtifactStore(Files.createTempDirectory("jmh-artifacts"), false, 4);
+        writer = new ScreenshotWriter(store, 16, Double.parseDouble(formatAndScale[1]), formatAndScale[0], 0.8f);
+    }
+
+    @Benchmark
+    public boolean submitAndDrain() {
+        writer.submit("chrome/T1/bench/" + counter++, driver.getScreenshotAs(OutputType.BYTES));
+        return writer.drain();
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.encode(screenshot);
+    }
+}
@@ -1,6 +1,7 @@
 package multibank.DaminiSinghAssignment.Core;
 
 import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.MutableCapabilities;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
@@ -8,11 +9,14 @@ import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.remote.Augmenter;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
 import java.net.MalformedURLException;
 import java.net.URL;
 
+import multibank.DaminiSinghAssignment.Utilities.Metrics;
+
 /**
  * DriverFactory
  * ----------------
@@ -31,6 +35,7 @@ import java.net.URL;
  *  - browserName → selects browser (chrome|firefox|edge)
  *  - headless=true|false → toggles headless execution
  *  - remote=true|false → runs tests locally or in Selenium Grid/Selenoid
+ *  - bidi=true|false → enables WebDriver BiDi (webSocketUrl) for event-driven features
  */
 public class DriverFactory {
 
@@ -43,29 +48,64 @@ public class DriverFactory {
      * @return Initialized WebDriver
      */
     public static WebDriver createInstance(String browserName) {
+        return createInstance(browserName, Boolean.parseBoolean(System.getProperty("headless", "false")));
+    }
+
+    /**
+     * Same as {@link #createInstance(String)} with headless mode chosen by the
+     * caller instead of -Dheadless (load runs always use headless browsers).
+     *
+     * @param browserName browser name (chrome|firefox|edge)
+     * @param isHeadless  whether headless mode should be enabled
+     * @return Initialized WebDriver
+     */
+    public static WebDriver createInstance(String browserName, boolean isHeadless) {
         WebDriver driver;
+        long start = System.nanoTime();
 
         // Read runtime flags (from Maven command or TestNG XML)
-        boolean isHeadless = Boolean.parseBoolean(System.getProperty("headless", "false"));
         boolean isRemote  = Boolean.parseBoolean(System.getProperty("remote",  "false"));
+        boolean isBiDi    = isBiDiEnabled();
 
         // Remote vs Local driver selection
         if (isRemote) {
-            driver = createRemoteDriver(browserName, isHeadless);
+            driver = createRemoteDriver(browserName, isHeadless, isBiDi);
         } else {
-            driver = createLocalDriver(browserName, isHeadless);
+            driver = createLocalDriver(browserName, isHeadless, isBiDi);
         }
+
+        // Startup latency histogram (OpenMetrics), per browser
+        Metrics.driverStartup(browserName.toLowerCase()).observeSince(start);
         return driver;
     }
 
+    /**
+     * Returns true when WebDriver BiDi was requested via -Dbidi=true.
+     */
+    public static boolean isBiDiEnabled() {
+        return Boolean.parseBoolean(System.getProperty("bidi", "false"));
+    }
+
+    /**
+     * Requests a BiDi WebSocket from the driver (W3C "webSocketUrl" capability).
+     * Page objects use it for event-driven checks (e.g. new-window interception).
+     */
+    private static <T extends MutableCapabilities> T applyBiDi(T options, boolean isBiDi) {
+        if (isBiDi) {
+            options.setCapability("webSocketUrl", true);
+        }
+        return options;
+    }
+
     /**
      * Creates a local WebDriver instance for Chrome, Firefox or Edge.
      * Uses WebDriverManager for automatic driver binary handling.
      *
      * @param browserName browser to launch
      * @param isHeadless whether headless mode should be enabled
+     * @param isBiDi whether the BiDi WebSocket should be enabled
      */
-    private static WebDriver createLocalDriver(String browserName, boolean isHeadless) {
+    private static WebDriver createLocalDriver(String browserName, boolean isHeadless, boolean isBiDi) {
         WebDriver driver;
 
         switch (browserName.toLowerCase()) {
@@ -77,7 +117,7 @@ public class DriverFactory {
                 if (isHeadless) {
                     ffOptions.addArguments("--headless", "--width=1920", "--height=1080");
                 }
-                driver = new FirefoxDriver(ffOptions);
+                driver = new FirefoxDriver(applyBiDi(ffOptions, isBiDi));
                 break;
             }
 
@@ -88,7 +128,7 @@ public class DriverFactory {
                 if (isHeadless) {
                     edgeOptions.addArguments("--headless=new", "--window-size=1920,1080");
                 }
-                driver = new EdgeDriver(edgeOptions);
+                driver = new EdgeDriver(applyBiDi(edgeOptions, isBiDi));
                 break;
             }
 
@@ -105,7 +145,7 @@ public class DriverFactory {
                             "--window-size=1920,1080"
                     );
                 }
-                driver = new ChromeDriver(chOptions);
+                driver = new ChromeDriver(applyBiDi(chOptions, isBiDi));
                 break;
             }
         }
@@ -122,8 +162,9 @@ public class DriverFactory {
      *
      * @param browserName browser capability to use remotely
      * @param isHeadless enable headless inside container/grid
+     * @param isBiDi enable BiDi; the driver is augmented so HasBiDi is available remotely
      */
-    private static WebDriver createRemoteDriver(String browserName, boolean isHeadless) {
+    private static WebDriver createRemoteDriver(String browserName, boolean isHeadless, boolean isBiDi) {
 
         // Fallback URL if not supplied
         String gridUrl = System.getProperty("gridUrl", "http://localhost:4444/wd/hub");
@@ -137,7 +178,7 @@ public class DriverFactory {
                     if (isHeadless) {
                         ff.addArguments("--headless", "--width=1920", "--height=1080");
                     }
-                    return new RemoteWebDriver(new URL(gridUrl), ff);
+                    return remote(gridUrl, applyBiDi(ff, isBiDi), isBiDi);
                 }
 
                 case "edge": {
@@ -145,7 +186,7 @@ public class DriverFactory {
                     if (isHeadless) {
                         edge.addArguments("--headless=new", "--window-size=1920,1080");
                     }
-                    return new RemoteWebDriver(new URL(gridUrl), edge);
+                    return remote(gridUrl, applyBiDi(edge, isBiDi), isBiDi);
                 }
 
                 case "chrome":
@@ -159,7 +200,7 @@ public class DriverFactory {
                                 "--window-size=1920,1080"
                         );
                     }
-                    return new RemoteWebDriver(new URL(gridUrl), ch);
+                    return remote(gridUrl, applyBiDi(ch, isBiDi), isBiDi);
                 }
             }
         }
@@ -167,4 +208,14 @@ public class DriverFactory {
             throw new RuntimeException("Invalid Grid URL: " + gridUrl, e);
         }
     }
+
+    /**
+     * Creates the RemoteWebDriver; with BiDi enabled it is augmented so that
+     * HasBiDi / HasDevTools interfaces are exposed like on local drivers.
+     */
+    private static WebDriver remote(String gridUrl, MutableCapabilities options, boolean isBiDi)
+            throws MalformedURLException {
+        WebDriver driver = new RemoteWebDriver(new URL(gridUrl), options);
+        return isBiDi ? new Augmenter().augment(driver) : driver;
+    }
 }
@@ -1,6 +1,12 @@
 package multibank.DaminiSinghAssignment.Core;
 
+import java.util.concurrent.atomic.LongAdder;
+
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import multibank.DaminiSinghAssignment.Utilities.Metrics;
 
 /**
  * DriverManager
@@ -23,12 +29,31 @@ import org.openqa.selenium.WebDriver;
  *  - BaseTest @BeforeMethod → calls setDriver()
  *  - Tests use DriverManager.getDriver()
  *  - BaseTest @AfterMethod → quit() and unload() to prevent memory leaks
+ *
+ * Driver reuse on retry:
+ *  - RetryAnalyzer may request that a still-healthy driver survives the retry
+ *    (requestReuseForRetry); BaseTest then skips quit/launch and only resets
+ *    browser state. Launch and reset times are tracked here to report the
+ *    time each reuse saved.
  */
 public class DriverManager {
 
     // Holds WebDriver for the current thread only
     private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
 
+    // Set by RetryAnalyzer: keep this thread's driver for the upcoming retry
+    private static final ThreadLocal<Boolean> reuseRequested = ThreadLocal.withInitial(() -> false);
+
+    // Time the current thread's driver took to launch (baseline for "time saved")
+    private static final ThreadLocal<Long> launchMillis = new ThreadLocal<>();
+
+    // Observed quit() times, to estimate the quit a reuse skips
+    private static final LongAdder quitMillis = new LongAdder();
+    private static final LongAdder quitCount = new LongAdder();
+
+    // Total time saved by driver reuse across all threads
+    private static final LongAdder savedMillis = new LongAdder();
+
     /**
      * Returns the WebDriver instance assigned to the current thread.
      *
@@ -44,7 +69,15 @@ public class DriverManager {
      * @param driverInstance WebDriver created by DriverFactory
      */
     public static void setDriver(WebDriver driverInstance) {
+        WebDriver previous = driver.get();
         driver.set(driverInstance);
+
+        // Active-session gauge (OpenMetrics)
+        if (previous == null && driverInstance != null) {
+            Metrics.ACTIVE_SESSIONS.increment();
+        } else if (previous != null && driverInstance == null) {
+            Metrics.ACTIVE_SESSIONS.decrement();
+        }
     }
 
     /**
@@ -53,6 +86,76 @@ public class DriverManager {
      *  - stale driver references
      */
     public static void unload() {
+        if (driver.get() != null) {
+            Metrics.ACTIVE_SESSIONS.decrement();
+        }
         driver.remove();
     }
+
+    // =========================================================================
+    //  Driver reuse on retry
+    // =========================================================================
+
+    /** Asks BaseTest to keep the current driver for the retry of the failed test. */
+    public static void requestReuseForRetry() {
+        reuseRequested.set(true);
+    }
+
+    /** True if the current driver should survive teardown for a retry. */
+    public static boolean isReuseRequested() {
+        return reuseRequested.get() && driver.get() != null;
+    }
+
+    /** Clears a pending reuse request (consumed by setUp, or on fallback). */
+    public static void clearReuseRequest() {
+        reuseRequested.remove();
+    }
+
+    /** Records how long launching the current thread's driver took. */
+    public static void recordLaunch(long millis) {
+        launchMillis.set(millis);
+    }
+
+    /** Records how long a quit() took. */
+    public static void recordQuit(long millis) {
+        quitMillis.add(millis);
+        quitCount.increment();
+    }
+
+    /**
+     * Records a reuse and returns the time it saved:
+     * launch time of the reused driver + average quit time, minus the state reset.
+     */
+    public static long recordReuse(long resetMillis) {
+        Long launch = launchMillis.get();
+        long quits = quitCount.sum();
+        long avgQuit = quits == 0 ? 0 : quitMillis.sum() / quits;
+        long saved = Math.max(0, (launch == null ? 0 : launch) + avgQuit - resetMillis);
+        savedMillis.add(saved);
+        return saved;
+    }
+
+    /** Total time saved by driver reuse so far (all threads). */
+    public static long getTotalSavedMillis() {
+        return savedMillis.sum();
+    }
+
+    /**
+     * Cheap health check of the current session: session id present and one
+     * round trip (window handle) succeeds.
+     */
+    public static boolean isSessionHealthy() {
+        WebDriver current = driver.get();
+        if (current == null) {
+            return false;
+        }
+        if (current instanceof RemoteWebDriver && ((RemoteWebDriver) current).getSessionId() == null) {
+            return false;   // quit() already called
+        }
+        try {
+            return current.getWindowHandle() != null;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
 }
@@ -1,13 +1,20 @@
 package multibank.DaminiSinghAssignment.PageObjects;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.HasCapabilities;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.PageFactory;
@@ -16,6 +23,10 @@ import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.Wait;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import multibank.DaminiSinghAssignment.Utilities.Metrics;
+import multibank.DaminiSinghAssignment.Utilities.PageTiming;
+import multibank.DaminiSinghAssignment.Utilities.PerformanceHistory;
+
 /**
  * BasePage:
  * -----------
@@ -27,6 +38,8 @@ import org.openqa.selenium.support.ui.WebDriverWait;
  *  - Provide safe interaction helpers (click, visibility waits)
  *  - Provide scroll helpers for lazy-loaded or below-fold elements
  *  - Provide utility methods for table, SVG and dynamic content handling
+ *  - Measure page performance after navigations (Navigation Timing, LCP, CLS,
+ *    long tasks, resources) against the page object's @PerformanceBudget
  *
  * Pattern:
  *  - All page classes extend BasePage
@@ -58,13 +71,34 @@ public abstract class BasePage {
      * - 30-second timeout
      * - 500ms polling
      * - Ignores common transient exceptions (NoSuchElement, StaleElement)
+     * - Records the time spent waiting (Metrics wait histogram)
      */
     protected Wait<WebDriver> getFluentWait() {
-        return new FluentWait<>(driver)
+        return timed(new FluentWait<>(driver)
                 .withTimeout(DEFAULT_TIMEOUT)
                 .pollingEvery(DEFAULT_POLLING)
                 .ignoring(NoSuchElementException.class)
-                .ignoring(StaleElementReferenceException.class);
+                .ignoring(StaleElementReferenceException.class));
+    }
+
+    /**
+     * Wraps a wait so every until() is recorded as "satisfied" or "timeout".
+     */
+    protected static Wait<WebDriver> timed(Wait<WebDriver> wait) {
+        return new Wait<>() {
+            @Override
+            public <T> T until(Function<? super WebDriver, T> isTrue) {
+                long start = System.nanoTime();
+                try {
+                    T value = wait.until(isTrue);
+                    Metrics.waits("satisfied").observeSince(start);
+                    return value;
+                } catch (TimeoutException e) {
+                    Metrics.waits("timeout").observeSince(start);
+                    throw e;
+                }
+            }
+        };
     }
 
     // =========================================================================
@@ -130,7 +164,7 @@ public abstract class BasePage {
      */
     protected WebElement scrollAndWaitVisible(WebElement element) {
         scrollIntoView(element);
-        return new WebDriverWait(driver, DEFAULT_TIMEOUT)
+        return timed(new WebDriverWait(driver, DEFAULT_TIMEOUT))
                 .until(ExpectedConditions.visibilityOf(element));
     }
 
@@ -176,4 +210,165 @@ public abstract class BasePage {
             return false;
         }
     }
+
+    // =========================================================================
+    //  PAGE PERFORMANCE (Navigation Timing + web vitals)
+    // =========================================================================
+
+    // Measurements taken on this thread since the last drain (PerformanceBudgetListener)
+    private static final ThreadLocal<List<PageTiming>> capturedTimings = ThreadLocal.withInitial(ArrayList::new);
+
+    /**
+     * Async script: waits for document.readyState "complete", reads buffered
+     * PerformanceObserver entries for -Dperf.settleMillis, then returns
+     * Navigation Timing, LCP, CLS (largest session window), long tasks and
+     * resource counts. Entry types the browser does not support stay null.
+     */
+    private static final String PERFORMANCE_SCRIPT =
+            "var settle = arguments[0], done = arguments[arguments.length - 1];" +
+            "function measure() {" +
+            "  var out = { url: location.href };" +
+            "  var nav = performance.getEntriesByType('navigation')[0];" +
+            "  out.soft = !nav || nav.name !== location.href;" +
+            "  var types = (window.PerformanceObserver && PerformanceObserver.supportedEntryTypes) || [];" +
+            "  var observers = [];" +
+            "  function observe(type, onEntry) {" +
+            "    if (types.indexOf(type) < 0) { return false; }" +
+            "    var o = new PerformanceObserver(function (list) { list.getEntries().forEach(onEntry); });" +
+            "    o.observe({ type: type, buffered: true });" +
+            "    observers.push(o);" +
+            "    return true;" +
+            "  }" +
+            "  var lcp = null, cls = null, session = 0, first = 0, last = 0, tasks = null, blocking = null;" +
+            "  if (!out.soft) { observe('largest-contentful-paint', function (e) { lcp = e.startTime; }); }" +
+            "  if (observe('layout-shift', function (e) {" +
+            "    if (e.hadRecentInput) { return; }" +
+            "    if (session && e.startTime - last < 1000 && e.startTime - first < 5000) { session += e.value; }" +
+            "    else { session = e.value; first = e.startTime; }" +
+            "    last = e.startTime; cls = Math.max(cls, session);" +
+            "  })) { cls = 0; }" +
+            "  if (observe('longtask', function (e) { tasks++; blocking += Math.max(0, e.duration - 50); })) {" +
+            "    tasks = 0; blocking = 0;" +
+            "  }" +
+            "  setTimeout(function () {" +
+            "    observers.forEach(function (o) { o.disconnect(); });" +
+            "    var bytes = 0, resources = performance.getEntriesByType('resource');" +
+            "    if (!out.soft) {" +
+            "      out.ttfb = Math.round(nav.responseStart - nav.startTime);" +
+            "      out.domContentLoaded = Math.round(nav.domContentLoadedEventEnd - nav.startTime);" +
+            "      if (nav.loadEventEnd > 0) { out.load = Math.round(nav.loadEventEnd - nav.startTime); }" +
+            "      bytes = nav.transferSize || 0;" +
+            "    }" +
+            "    resources.forEach(function (r) { bytes += r.transferSize || 0; });" +
+            "    out.resources = resources.length;" +
+            "    out.transferKb = Math.round(bytes / 1024);" +
+            "    if (lcp !== null) { out.lcp = Math.round(lcp); }" +
+            "    if (cls !== null) { out.cls = Math.round(cls * 1000) / 1000; }" +
+            "    if (tasks !== null) { out.longTasks = tasks; out.totalBlocking = Math.round(blocking); }" +
+            "    done(out);" +
+            "  }, settle);" +
+            "}" +
+            "(function ready() {" +
+            "  if (document.readyState === 'complete') { measure(); } else { setTimeout(ready, 100); }" +
+            "})();";
+
+    /**
+     * Measures the current page against this page object's @PerformanceBudget.
+     *
+     * @param page logical page name used in logs and the percentile tables
+     * @return the measurement, or null if disabled (-Dperf=false) or not measurable
+     */
+    public PageTiming capturePerformance(String page) {
+        return capturePerformance(page, getClass());
+    }
+
+    /**
+     * Measures the current page against the budget of another page object,
+     * e.g. the page a menu navigation leads to.
+     *
+     * Every measurement is appended to PerformanceHistory and kept for the
+     * current test (drainCapturedTimings). A breached budget never throws here,
+     * so a measurement in @BeforeMethod cannot turn into a configuration failure;
+     * PerformanceBudgetListener decides at test end (-Dperf.budgets=warn|fail).
+     *
+     * Metrics describe the session as it is, so they only mean something
+     * against a comparable network and cache state (fresh browser per test).
+     *
+     * @param budgetOwner page object whose @PerformanceBudget applies (null = measure only)
+     */
+    public PageTiming capturePerformance(String page, Class<? extends BasePage> budgetOwner) {
+        if (!Boolean.parseBoolean(System.getProperty("perf", "true"))) {
+            return null;
+        }
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> raw = (Map<String, Object>) ((JavascriptExecutor) driver)
+                    .executeAsyncScript(PERFORMANCE_SCRIPT, Long.getLong("perf.settleMillis", 500));
+            PageTiming timing = PageTiming.fromScript(page, browserName(), raw, budgetLimits(budgetOwner));
+
+            PerformanceHistory.shared().append(timing);
+            capturedTimings.get().add(timing);
+            System.out.println("Page performance: " + timing.summary());
+            return timing;
+        } catch (WebDriverException | ClassCastException e) {
+            System.out.println("Page performance not captured for " + page + ": " + e.getClass().getSimpleName());
+            return null;
+        }
+    }
+
+    /**
+     * Measures the page a click navigated to: waits (up to 10 s) until the URL
+     * differs from {@code previousUrl}, then captures. A click that does not
+     * change the URL is measured as is.
+     */
+    protected PageTiming capturePerformanceAfterNavigation(String previousUrl, String page,
+                                                           Class<? extends BasePage> budgetOwner) {
+        if (!Boolean.parseBoolean(System.getProperty("perf", "true"))) {
+            return null;
+        }
+        try {
+            new WebDriverWait(driver, Duration.ofSeconds(10))
+                    .until(d -> !previousUrl.equals(d.getCurrentUrl()));
+        } catch (TimeoutException e) {
+            System.out.println("URL unchanged after navigating to " + page + ", measuring current page");
+        }
+        return capturePerformance(page, budgetOwner);
+    }
+
+    /**
+     * Returns and clears the measurements taken on this thread.
+     */
+    public static List<PageTiming> drainCapturedTimings() {
+        List<PageTiming> timings = capturedTimings.get();
+        capturedTimings.remove();
+        return timings;
+    }
+
+    private String browserName() {
+        return driver instanceof HasCapabilities
+                ? ((HasCapabilities) driver).getCapabilities().getBrowserName()
+                : "unknown";
+    }
+
+    /** Limits of a page object's @PerformanceBudget as metric name → value (unset limits omitted). */
+    static Map<String, Double> budgetLimits(Class<? extends BasePage> budgetOwner) {
+        Map<String, Double> limits = new LinkedHashMap<>();
+        PerformanceBudget budget = budgetOwner == null ? null : budgetOwner.getAnnotation(PerformanceBudget.class);
+        if (budget == null) {
+            return limits;
+        }
+        putLimit(limits, PageTiming.LCP, budget.lcpMillis());
+        putLimit(limits, PageTiming.CLS, budget.cls());
+        putLimit(limits, PageTiming.TOTAL_BLOCKING, budget.totalBlockingMillis());
+        putLimit(limits, PageTiming.TTFB, budget.ttfbMillis());
+        putLimit(limits, PageTiming.LOAD, budget.loadMillis());
+        putLimit(limits, PageTiming.RESOURCES, budget.maxResources());
+        return limits;
+    }
+
+    private static void putLimit(Map<String, Double> limits, String metric, double value) {
+        if (value >= 0) {
+            limits.put(metric, value);
+        }
+    }
 }
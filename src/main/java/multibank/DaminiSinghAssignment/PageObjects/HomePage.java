@@ -2,11 +2,21 @@ package multibank.DaminiSinghAssignment.PageObjects;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.browsingcontext.BrowsingContext;
+import org.openqa.selenium.bidi.browsingcontext.NavigationInfo;
+import org.openqa.selenium.bidi.module.BrowsingContextInspector;
 import org.openqa.selenium.support.FindBy;
 
 /**
@@ -19,15 +29,210 @@ import org.openqa.selenium.support.FindBy;
  *
  * Exposes:
  *  - Methods to read navigation items and hover/open submenus
- *  - Methods to inspect marketing banners
+ *  - Direct URL navigation via the shared NavigationMap (no hover needed)
+ *  - Methods to inspect marketing banners (active slide or all slides in one pass)
  *  - Methods to click store download buttons and handle edge cases
+ *  - Event-driven capture of new-window targets (store links) without loading them
+ *  - Page performance of every menu navigation (BasePage.capturePerformance)
  */
+@PerformanceBudget(lcpMillis = 2500, cls = 0.1)
 public class HomePage extends BasePage {
 
     public HomePage(WebDriver driver) {
         super(driver);
     }
 
+    /** XPath of the top-level navigation items (shared by @FindBy and batch scripts). */
+    private static final String NAV_ITEMS_XPATH =
+            "//div[contains(@class,'style_menu-container')]//*[self::a or self::span][contains(@class,'style_menu-item')]";
+
+    /**
+     * Returns the top navigation element whose trimmed innerText equals arguments[1]
+     * (case-insensitive), or null.
+     */
+    private static final String FIND_NAV_ITEM_SCRIPT =
+            "var snap = document.evaluate(arguments[0], document, null,"
+          + "    XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+          + "var wanted = arguments[1].trim().toLowerCase();"
+          + "for (var i = 0; i < snap.snapshotLength; i++) {"
+          + "  var el = snap.snapshotItem(i);"
+          + "  if (el.innerText.trim().toLowerCase() === wanted) { return el; }"
+          + "}"
+          + "return null;";
+
+    /**
+     * Identifies the deployed site build: origin + Next.js build id
+     * (from __NEXT_DATA__ or the _buildManifest.js script path) when available.
+     */
+    private static final String SITE_BUILD_KEY_SCRIPT =
+            "var id = (window.__NEXT_DATA__ && window.__NEXT_DATA__.buildId) || '';"
+          + "if (!id) {"
+          + "  var s = document.querySelector(\"script[src*='_buildManifest']\");"
+          + "  var m = s ? s.src.match(/_next\\/static\\/([^\\/]+)\\/_buildManifest/) : null;"
+          + "  if (m) { id = m[1]; }"
+          + "}"
+          + "return location.origin + '|' + (id || 'unknown-build');";
+
+    /**
+     * Async script exporting the whole navigation tree in one round trip.
+     *
+     * For each top-level item:
+     *  - records its own href (null for pure popover triggers)
+     *  - dispatches synthetic hover events so the popover renders
+     *  - waits (animation frames, max ~1s) for popover entries and records them
+     *  - dispatches mouse-leave events and lets the popover close
+     *
+     * Resolves: [[menu, subItem|null, href|null], ...]
+     */
+    private static final String EXPORT_NAVIGATION_SCRIPT =
+            "var done = arguments[arguments.length - 1];"
+          + "var snap = document.evaluate(arguments[0], document, null,"
+          + "    XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+          + "var items = [];"
+          + "for (var i = 0; i < snap.snapshotLength; i++) { items.push(snap.snapshotItem(i)); }"
+          + "var out = [];"
+          + "function fire(el, types) {"
+          + "  types.forEach(function (t) {"
+          + "    el.dispatchEvent(new MouseEvent(t, {bubbles: t.indexOf('enter') < 0 && t.indexOf('leave') < 0,"
+          + "        cancelable: true, view: window}));"
+          + "  });"
+          + "}"
+          + "function entries() {"
+          + "  var found = [];"
+          + "  document.querySelectorAll(\"div[class*='popover'] div[class*='style_text']\").forEach(function (t) {"
+          + "    var a = t.closest('a[href]');"
+          + "    found.push([t.innerText.trim().split('\\n')[0], a ? a.href : null]);"
+          + "  });"
+          + "  return found;"
+          + "}"
+          + "function waitFor(test, frames, cb) {"
+          + "  (function tick(n) {"
+          + "    if (test() || n <= 0) { cb(); return; }"
+          + "    requestAnimationFrame(function () { tick(n - 1); });"
+          + "  })(frames);"
+          + "}"
+          + "(function next(idx) {"
+          + "  if (idx >= items.length) { done(out); return; }"
+          + "  var item = items[idx];"
+          + "  var menu = item.innerText.trim();"
+          + "  var link = item.closest('a[href]');"
+          + "  out.push([menu, null, link ? link.href : null]);"
+          + "  fire(item, ['pointerover', 'pointerenter', 'mouseover', 'mouseenter']);"
+          + "  waitFor(function () { return entries().length > 0; }, 60, function () {"
+          + "    entries().forEach(function (e) { out.push([menu, e[0], e[1]]); });"
+          + "    fire(item, ['pointerout', 'pointerleave', 'mouseout', 'mouseleave']);"
+          + "    waitFor(function () { return entries().length === 0; }, 30, function () { next(idx + 1); });"
+          + "  });"
+          + "})(0);";
+
+    /**
+     * Reads every real slide of the slick carousel in one round trip
+     * (slick's infinite-scroll clones are skipped).
+     *
+     * Returns: [[index, active, [texts], [images], [links]], ...]
+     *  - texts use textContent so off-screen slides are read too
+     *  - images are "alt|src" pairs
+     */
+    private static final String READ_BANNER_SLIDES_SCRIPT =
+            "var slides = document.querySelectorAll('.slick-list .slick-track > .slick-slide:not(.slick-cloned)');"
+          + "var out = [];"
+          + "slides.forEach(function (slide, i) {"
+          + "  var idx = parseInt(slide.getAttribute('data-index'), 10);"
+          + "  out.push([isNaN(idx) ? i : idx,"
+          + "    slide.classList.contains('slick-active'),"
+          + "    Array.from(slide.querySelectorAll('span'))"
+          + "        .map(function (s) { return s.textContent.replace(/\\s+/g, ' ').trim(); })"
+          + "        .filter(function (t) { return t.length > 0; }),"
+          + "    Array.from(slide.querySelectorAll('img'))"
+          + "        .map(function (img) { return (img.getAttribute('alt') || '') + '|' + img.currentSrc; }),"
+          + "    Array.from(slide.querySelectorAll('a[href]')).map(function (a) { return a.href; })]);"
+          + "});"
+          + "return out;";
+
+    /**
+     * Async script resolving once the carousel track has no running transition/animation.
+     *
+     * Uses the Web Animations API (CSS transitions show up in getAnimations())
+     * and waits on their `finished` promises; falls back to `transitionend`.
+     * Resolves true when settled, false if still moving after the timeout (arguments[0] ms).
+     */
+    private static final String WAIT_CAROUSEL_SETTLED_SCRIPT =
+            "var done = arguments[arguments.length - 1];"
+          + "var timeoutMs = arguments[0];"
+          + "var track = document.querySelector('.slick-list .slick-track');"
+          + "if (!track) { done(false); return; }"
+          + "var finished = false;"
+          + "function finish(result) { if (!finished) { finished = true; done(result); } }"
+          + "setTimeout(function () { finish(false); }, timeoutMs);"
+          + "function running() {"
+          + "  return track.getAnimations ? track.getAnimations({subtree: true})"
+          + "      .filter(function (a) { return a.playState === 'running'; }) : [];"
+          + "}"
+          + "(function check() {"
+          + "  requestAnimationFrame(function () {"
+          + "    var anims = running();"
+          + "    if (anims.length === 0) {"
+          + "      if (!track.getAnimations) {"
+          + "        track.addEventListener('transitionend', function () { finish(true); }, {once: true});"
+          + "        setTimeout(function () { finish(true); }, 600);"
+          + "        return;"
+          + "      }"
+          + "      finish(true);"
+          + "      return;"
+          + "    }"
+          + "    Promise.all(anims.map(function (a) { return a.finished.catch(function () {}); }))"
+          + "        .then(check);"
+          + "  });"
+          + "})();";
+
+    // Max time to wait for a carousel transition to settle
+    private static final long CAROUSEL_SETTLE_TIMEOUT_MS = 5_000;
+
+    /**
+     * Installs (once per document) hooks that record the target of new-window navigations:
+     *  - window.open(url, ...)
+     *  - clicks on <a target="_blank">
+     *
+     * arguments[0] = cancel flag → when true the new window is never opened.
+     * A pending waiter (window.__qaOnOpen) is notified synchronously from the hook.
+     */
+    private static final String INSTALL_WINDOW_OPEN_HOOK_SCRIPT =
+            "window.__qaOpened = null;"
+          + "window.__qaCancel = arguments[0];"
+          + "if (!window.__qaHooked) {"
+          + "  window.__qaHooked = true;"
+          + "  var record = function (url) {"
+          + "    window.__qaOpened = url;"
+          + "    var cb = window.__qaOnOpen;"
+          + "    if (cb) { window.__qaOnOpen = null; cb(url); }"
+          + "  };"
+          + "  var originalOpen = window.open;"
+          + "  window.open = function (url) {"
+          + "    record(url ? new URL(url, location.href).href : 'about:blank');"
+          + "    return window.__qaCancel ? null : originalOpen.apply(window, arguments);"
+          + "  };"
+          + "  document.addEventListener('click', function (e) {"
+          + "    var a = e.target.closest ? e.target.closest(\"a[target='_blank']\") : null;"
+          + "    if (!a) { return; }"
+          + "    record(a.href);"
+          + "    if (window.__qaCancel) { e.preventDefault(); }"
+          + "  }, true);"
+          + "}";
+
+    /**
+     * Async script resolving with the intercepted URL as soon as the hook fires
+     * (or null after arguments[0] ms).
+     */
+    private static final String AWAIT_WINDOW_OPEN_SCRIPT =
+            "var done = arguments[arguments.length - 1];"
+          + "if (window.__qaOpened) { done(window.__qaOpened); return; }"
+          + "window.__qaOnOpen = done;"
+          + "setTimeout(function () { if (window.__qaOnOpen === done) { window.__qaOnOpen = null; done(null); } },"
+          + "    arguments[0]);";
+
+    // Max time to wait for a new window navigation after a click
+    private static final long WINDOW_OPEN_TIMEOUT_MS = 10_000;
+
     // ============================================
     // ====== Top Navigation (NAV-001 / NAV-002)
     // ============================================
@@ -37,7 +242,7 @@ public class HomePage extends BasePage {
      * Example: Dashboard, Markets, Trade, Wallet, About Us, etc.
      *
      */
-    @FindBy(xpath = "//div[contains(@class,'style_menu-container')]//*[self::a or self::span][contains(@class,'style_menu-item')]")
+    @FindBy(xpath = NAV_ITEMS_XPATH)
     private List<WebElement> navigationItemList;
 
     /**
@@ -147,13 +352,7 @@ public class HomePage extends BasePage {
      * Used for navigation-based tests or deep-link flows.
      */
     public void clickNavigationItem(String name) {
-        for (WebElement element : navigationItemList) {
-            if (element.getText().trim().equalsIgnoreCase(name)) {
-                element.click();
-                return;
-            }
-        }
-        throw new RuntimeException("Navigation item not found: " + name);
+        findNavigationItem(name, "Navigation item not found: ").click();
     }
 
     /**
@@ -165,13 +364,7 @@ public class HomePage extends BasePage {
      *       - assert sub-menu visibility and links
      */
     public void hoverNavigationItem(String name) {
-        for (WebElement element : navigationItemList) {
-            if (element.getText().trim().equalsIgnoreCase(name)) {
-                actions.moveToElement(element).perform();
-                return;
-            }
-        }
-        throw new RuntimeException("Navigation item not found to hover: " + name);
+        actions.moveToElement(findNavigationItem(name, "Navigation item not found to hover: ")).perform();
     }
 
     /**
@@ -182,12 +375,61 @@ public class HomePage extends BasePage {
      *     without necessarily clicking through.
      */
     public String getNavigationItemHref(String name) {
-        for (WebElement element : navigationItemList) {
-            if (element.getText().trim().equalsIgnoreCase(name)) {
-                return element.getAttribute("href");
-            }
+        return findNavigationItem(name, "Navigation item not found: ").getAttribute("href");
+    }
+
+    /**
+     * Resolves a top navigation item by visible text (case-insensitive) in one script call,
+     * instead of calling getText() on every item through WebDriver.
+     */
+    private WebElement findNavigationItem(String name, String errorPrefix) {
+        Object element = ((JavascriptExecutor) driver)
+                .executeScript(FIND_NAV_ITEM_SCRIPT, NAV_ITEMS_XPATH, name);
+        if (!(element instanceof WebElement)) {
+            throw new RuntimeException(errorPrefix + name);
+        }
+        return (WebElement) element;
+    }
+
+    /**
+     * Exports all top-nav and sub-menu hrefs.
+     *
+     * Keys:
+     *   - "Menu"          → href of the top-level item (may be null for popover triggers)
+     *   - "Menu > SubItem" → href of the sub-menu entry (null when it is a JS-only button)
+     *
+     * Backed by the shared NavigationMap, so the scripted DOM pass runs once per site build.
+     * Supports NAV-002 link validation without hovering item by item through WebDriver.
+     */
+    public Map<String, String> getNavigationHrefs() {
+        return getNavigationMap().asHrefMap();
+    }
+
+    /**
+     * Returns the navigation map for the current site build.
+     * The first caller in the run builds it (one async script); all other
+     * threads and browsers reuse the cached instance.
+     */
+    public NavigationMap getNavigationMap() {
+        String buildKey = (String) ((JavascriptExecutor) driver).executeScript(SITE_BUILD_KEY_SCRIPT);
+        return NavigationMap.get(buildKey, this::exportNavigationEntries);
+    }
+
+    /**
+     * Runs the scripted DOM pass over the whole navigation tree.
+     *
+     * @return [[menu, subItem|null, href|null], ...]
+     */
+    @SuppressWarnings("unchecked")
+    private List<List<Object>> exportNavigationEntries() {
+        List<Object> raw = (List<Object>) ((JavascriptExecutor) driver)
+                .executeAsyncScript(EXPORT_NAVIGATION_SCRIPT, NAV_ITEMS_XPATH);
+
+        List<List<Object>> entries = new ArrayList<>();
+        for (Object item : raw) {
+            entries.add((List<Object>) item);
         }
-        throw new RuntimeException("Navigation item not found: " + name);
+        return entries;
     }
 
     // ==============================
@@ -218,11 +460,63 @@ public class HomePage extends BasePage {
     }
 
     /**
-     * Clicks the "next" arrow of the banner carousel.
+     * Clicks the "next" arrow of the banner carousel and waits
+     * for the slide transition to finish.
      *
      */
     public void clickNextBanner() {
         bannerNextArrow.click();
+        waitForCarouselToSettle();
+    }
+
+    /**
+     * Waits until the carousel track has no running transition,
+     * driven by animation events instead of a fixed sleep.
+     *
+     * @return true when settled, false if the carousel was still moving at timeout
+     */
+    public boolean waitForCarouselToSettle() {
+        Object settled = ((JavascriptExecutor) driver)
+                .executeAsyncScript(WAIT_CAROUSEL_SETTLED_SCRIPT, CAROUSEL_SETTLE_TIMEOUT_MS);
+        return Boolean.TRUE.equals(settled);
+    }
+
+    /**
+     * Reads texts, images and link targets of ALL banner slides in one script.
+     *
+     * Supports FOOT-001:
+     *   - No need to click through the carousel slide by slide
+     *   - Slick clones (used for infinite looping) are excluded
+     */
+    @SuppressWarnings("unchecked")
+    public List<BannerSlide> getAllBannerSlides() {
+        List<Object> raw = (List<Object>) ((JavascriptExecutor) driver)
+                .executeScript(READ_BANNER_SLIDES_SCRIPT);
+
+        List<BannerSlide> slides = new ArrayList<>();
+        for (Object item : raw) {
+            List<Object> slide = (List<Object>) item;
+            slides.add(new BannerSlide(
+                    ((Number) slide.get(0)).intValue(),
+                    Boolean.TRUE.equals(slide.get(1)),
+                    List.copyOf((List<String>) slide.get(2)),
+                    List.copyOf((List<String>) slide.get(3)),
+                    List.copyOf((List<String>) slide.get(4))));
+        }
+        return slides;
+    }
+
+    /**
+     * One slide of the marketing banner carousel.
+     *
+     * @param index  slick data-index of the slide
+     * @param active true if the slide is currently shown
+     * @param texts  normalized span texts of the slide
+     * @param images "alt|src" of every image in the slide
+     * @param links  absolute hrefs of links in the slide
+     */
+    public record BannerSlide(int index, boolean active, List<String> texts,
+                              List<String> images, List<String> links) {
     }
 
     // ==============================
@@ -296,6 +590,94 @@ public class HomePage extends BasePage {
         }
     }
 
+    /**
+     * APP-001: clicks the App Store button and returns the intercepted new-window target.
+     *
+     * @param cancel true → the store page is never loaded (no external network dependency)
+     */
+    public NewWindowTarget captureAppleAppStoreTarget(boolean cancel) {
+        return captureNewWindowTarget(this::clickAppleAppStore, cancel);
+    }
+
+    /**
+     * APP-002: clicks the Google Play button and returns the intercepted new-window target.
+     *
+     * @param cancel true → the store page is never loaded (no external network dependency)
+     */
+    public NewWindowTarget captureGooglePlayTarget(boolean cancel) {
+        return captureNewWindowTarget(this::clickGooglePlayStore, cancel);
+    }
+
+    /**
+     * Performs a click that opens a new tab/window and captures its target URL
+     * from events instead of polling getWindowHandles().
+     *
+     * Strategy:
+     *  - BiDi available (-Dbidi=true): listen for browsingContext.navigationStarted
+     *    in any context other than the current one; when cancelling, the new
+     *    context is closed immediately so the external page never finishes loading
+     *  - Otherwise: in-page hooks on window.open / target=_blank clicks record the URL
+     *    and can suppress the new window entirely
+     *
+     * @param click  action that triggers the new window
+     * @param cancel whether the new window/navigation should be cancelled
+     * @return intercepted target (contextId is null when captured by the in-page hook)
+     */
+    public NewWindowTarget captureNewWindowTarget(Runnable click, boolean cancel) {
+        if (driver instanceof HasBiDi && ((HasBiDi) driver).maybeGetBiDi().isPresent()) {
+            return captureWithBiDi(click, cancel);
+        }
+
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        js.executeScript(INSTALL_WINDOW_OPEN_HOOK_SCRIPT, cancel);
+        click.run();
+
+        Object url = js.executeAsyncScript(AWAIT_WINDOW_OPEN_SCRIPT, WINDOW_OPEN_TIMEOUT_MS);
+        if (url == null) {
+            throw new RuntimeException("No new window navigation was triggered by the click");
+        }
+        return new NewWindowTarget(url.toString(), null);
+    }
+
+    private NewWindowTarget captureWithBiDi(Runnable click, boolean cancel) {
+        String originalContext = driver.getWindowHandle();
+        CompletableFuture<NavigationInfo> navigation = new CompletableFuture<>();
+
+        try (BrowsingContextInspector inspector = new BrowsingContextInspector(driver)) {
+            inspector.onNavigationStarted(info -> {
+                if (!originalContext.equals(info.getBrowsingContextId())
+                        && !"about:blank".equals(info.getUrl())) {
+                    navigation.complete(info);
+                }
+            });
+
+            click.run();
+
+            NavigationInfo info = navigation.get(WINDOW_OPEN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            if (cancel) {
+                new BrowsingContext(driver, info.getBrowsingContextId()).close();
+                driver.switchTo().window(originalContext);
+            }
+            return new NewWindowTarget(info.getUrl(), info.getBrowsingContextId());
+        } catch (TimeoutException e) {
+            throw new RuntimeException("No new window navigation was triggered by the click", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for new window navigation", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Failed to capture new window navigation", e.getCause());
+        }
+    }
+
+    /**
+     * Target of an intercepted new-window navigation.
+     *
+     * @param url       URL the new tab/window navigated (or would navigate) to
+     * @param contextId BiDi browsing context / window handle of the new tab, null if it was never opened
+     */
+    public record NewWindowTarget(String url, String contextId) {
+    }
+
     // ==============================
     // ====== Composite navigation
     // ==============================
@@ -311,9 +693,57 @@ public class HomePage extends BasePage {
      *   - And can also support other flows needing nested nav access.
      */
     public void openMenuItem(String menuName, String subMenuName) {
+        openMenuItem(menuName, subMenuName, null);
+    }
+
+    /**
+     * openMenuItem(...) whose target page is measured against the budget of
+     * {@code targetPage} (null = measured without a budget).
+     */
+    public void openMenuItem(String menuName, String subMenuName, Class<? extends BasePage> targetPage) {
+        long start = System.nanoTime();
+        String previousUrl = driver.getCurrentUrl();
         hoverNavigationItem(menuName);
         waitForVisibility(By.xpath("//div[contains(@class,'popover')]//div[contains(@class,'style_text')]"));
         clickSubMenuItem(subMenuName);
+        NavigationMap.recordHoverNavigation(System.nanoTime() - start);
+
+        capturePerformanceAfterNavigation(previousUrl, menuName + " > " + subMenuName, targetPage);
+    }
+
+    /**
+     * Composite helper for tests that need the target page, not the hover interaction:
+     *   - Looks up the sub-menu href in the shared NavigationMap
+     *   - Navigates straight to it with driver.get(...)
+     *   - Falls back to openMenuItem(...) when the entry has no href (JS-only button)
+     *
+     * Example:
+     *   navigateToMenuItem("About Us", "Why Multibank?");
+     */
+    public void navigateToMenuItem(String menuName, String subMenuName) {
+        navigateToMenuItem(menuName, subMenuName, null);
+    }
+
+    /**
+     * navigateToMenuItem(...) whose target page is measured against the budget
+     * of {@code targetPage} (null = measured without a budget).
+     *
+     * Example:
+     *   navigateToMenuItem("About Us", "Why Multibank?", WhyMultiLinkPage.class);
+     */
+    public void navigateToMenuItem(String menuName, String subMenuName, Class<? extends BasePage> targetPage) {
+        String href = getNavigationMap().href(menuName, subMenuName);
+        if (href == null) {
+            System.out.println("No href for " + menuName + " > " + subMenuName + ", using hover navigation");
+            openMenuItem(menuName, subMenuName, targetPage);
+            return;
+        }
+
+        long start = System.nanoTime();
+        driver.get(href);
+        NavigationMap.logDirectNavigation(menuName + " > " + subMenuName, System.nanoTime() - start);
+
+        capturePerformance(menuName + " > " + subMenuName, targetPage);
     }
 
     // =========================================
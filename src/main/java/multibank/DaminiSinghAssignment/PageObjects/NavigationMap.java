@@ -0,0 +1,193 @@
+package multibank.DaminiSinghAssignment.PageObjects;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * NavigationMap
+ * --------------------------------------------------
+ * Precomputed header navigation tree: menu → sub-items → hrefs.
+ *
+ * Why:
+ *  - Resolving a menu item through WebDriver means re-scanning every nav item
+ *    with getText() and hovering to render its popover.
+ *  - The navigation of one site build is identical for every test, thread and browser.
+ *
+ * How:
+ *  - Built once per site build (key = origin + build id) from a single scripted DOM pass
+ *  - Shared across all threads/browsers of the run through a static cache;
+ *    concurrent callers wait for the one build in progress instead of building again
+ *  - Page objects use it to navigate directly by URL when a test does not
+ *    exercise the hover interaction itself
+ *
+ * Metrics (logged):
+ *  - build time of the map
+ *  - average hover-navigation time vs. direct-navigation time → time saved per test
+ */
+public final class NavigationMap {
+
+    // One map per site build, shared by all threads and browsers
+    private static final Map<String, CompletableFuture<NavigationMap>> CACHE = new ConcurrentHashMap<>();
+
+    // Hover-path timings (openMenuItem) used as the baseline for "time saved"
+    private static final LongAdder HOVER_NAV_NANOS = new LongAdder();
+    private static final LongAdder HOVER_NAV_COUNT = new LongAdder();
+
+    private final String buildKey;
+    private final Map<String, String> topHrefs;
+    private final Map<String, Map<String, String>> subHrefs;
+    private final long buildMillis;
+
+    private NavigationMap(String buildKey, Map<String, String> topHrefs,
+                          Map<String, Map<String, String>> subHrefs, long buildMillis) {
+        this.buildKey = buildKey;
+        this.topHrefs = topHrefs;
+        this.subHrefs = subHrefs;
+        this.buildMillis = buildMillis;
+    }
+
+    /**
+     * Returns the cached map for the given site build, building it on first use.
+     *
+     * @param buildKey identifies the site build (origin + build id)
+     * @param exporter performs the scripted DOM pass; returns [[menu, subItem|null, href|null], ...]
+     */
+    public static NavigationMap get(String buildKey, Supplier<List<List<Object>>> exporter) {
+        CompletableFuture<NavigationMap> created = new CompletableFuture<>();
+        CompletableFuture<NavigationMap> existing = CACHE.putIfAbsent(buildKey, created);
+        if (existing != null) {
+            return existing.join();
+        }
+
+        try {
+            long start = System.nanoTime();
+            List<List<Object>> entries = exporter.get();
+            long millis = (System.nanoTime() - start) / 1_000_000;
+
+            NavigationMap map = fromEntries(buildKey, entries, millis);
+            System.out.println("NavigationMap built for " + buildKey + " in " + millis + " ms: "
+                    + map.topHrefs.size() + " menus, " + map.subItemCount() + " sub-items");
+            created.complete(map);
+            return map;
+        } catch (RuntimeException e) {
+            // Allow a later caller to retry instead of caching the failure
+            CACHE.remove(buildKey, created);
+            created.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static NavigationMap fromEntries(String buildKey, List<List<Object>> entries, long millis) {
+        Map<String, String> top = new LinkedHashMap<>();
+        Map<String, Map<String, String>> subs = new LinkedHashMap<>();
+
+        for (List<Object> entry : entries) {
+            String menu = String.valueOf(entry.get(0));
+            String href = (String) entry.get(2);
+            if (entry.get(1) == null) {
+                top.put(menu, href);
+            } else {
+                subs.computeIfAbsent(menu, k -> new LinkedHashMap<>()).put(String.valueOf(entry.get(1)), href);
+            }
+        }
+
+        Map<String, Map<String, String>> frozenSubs = new LinkedHashMap<>();
+        subs.forEach((menu, items) -> frozenSubs.put(menu, Collections.unmodifiableMap(items)));
+        return new NavigationMap(buildKey, Collections.unmodifiableMap(top),
+                Collections.unmodifiableMap(frozenSubs), millis);
+    }
+
+    // =========================================================================
+    //  Lookups
+    // =========================================================================
+
+    /** Href of a top-level item (case-insensitive), or null if absent / not a link. */
+    public String href(String menu) {
+        String key = findKey(topHrefs, menu, false);
+        return key == null ? null : topHrefs.get(key);
+    }
+
+    /**
+     * Href of a sub-menu item, or null if absent / JS-only.
+     * Matches exactly (case-insensitive) first, then by "contains" like clickSubMenuItem.
+     */
+    public String href(String menu, String subItem) {
+        String menuKey = findKey(subHrefs, menu, false);
+        if (menuKey == null) {
+            return null;
+        }
+        Map<String, String> items = subHrefs.get(menuKey);
+        String itemKey = findKey(items, subItem, true);
+        return itemKey == null ? null : items.get(itemKey);
+    }
+
+    private static String findKey(Map<String, ?> map, String wanted, boolean allowContains) {
+        for (String key : map.keySet()) {
+            if (key.equalsIgnoreCase(wanted)) {
+                return key;
+            }
+        }
+        if (allowContains) {
+            for (String key : map.keySet()) {
+                if (key.contains(wanted)) {
+                    return key;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Flattened view: "Menu" → href and "Menu > SubItem" → href, in DOM order.
+     */
+    public Map<String, String> asHrefMap() {
+        Map<String, String> flat = new LinkedHashMap<>();
+        topHrefs.forEach((menu, href) -> {
+            flat.put(menu, href);
+            subHrefs.getOrDefault(menu, Map.of()).forEach((sub, subHref) -> flat.put(menu + " > " + sub, subHref));
+        });
+        return flat;
+    }
+
+    public String getBuildKey() {
+        return buildKey;
+    }
+
+    public long getBuildMillis() {
+        return buildMillis;
+    }
+
+    private int subItemCount() {
+        return subHrefs.values().stream().mapToInt(Map::size).sum();
+    }
+
+    // =========================================================================
+    //  Timing bookkeeping
+    // =========================================================================
+
+    /** Records the duration of one hover-based navigation (baseline). */
+    static void recordHoverNavigation(long nanos) {
+        HOVER_NAV_NANOS.add(nanos);
+        HOVER_NAV_COUNT.increment();
+    }
+
+    /** Logs a direct navigation and the time saved against the hover baseline. */
+    static void logDirectNavigation(String target, long nanos) {
+        long directMs = nanos / 1_000_000;
+        long count = HOVER_NAV_COUNT.sum();
+        if (count == 0) {
+            System.out.println("Direct navigation to " + target + " took " + directMs
+                    + " ms (no hover baseline recorded yet)");
+            return;
+        }
+        long hoverMs = HOVER_NAV_NANOS.sum() / count / 1_000_000;
+        System.out.println("Direct navigation to " + target + " took " + directMs + " ms, saved ~"
+                + (hoverMs - directMs) + " ms vs. hover navigation (avg " + hoverMs + " ms)");
+    }
+}
@@ -0,0 +1,45 @@
+package multibank.DaminiSinghAssignment.PageObjects;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * PerformanceBudget
+ * ------------------------------------------------------------------
+ * Front-end performance budget of a page object, checked against every
+ * BasePage.capturePerformance(...) measurement of that page.
+ *
+ * Example:
+ *
+ *   @PerformanceBudget(lcpMillis = 2500, cls = 0.1)
+ *   public class HomePage extends BasePage { ... }
+ *
+ * Any limit left at its default (-1) is not checked. Metrics the browser does
+ * not report (e.g. CLS / long tasks on Firefox) are never counted as a breach.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface PerformanceBudget {
+
+    /** Largest Contentful Paint, ms after navigation start. */
+    long lcpMillis() default -1;
+
+    /** Cumulative Layout Shift (largest session window). */
+    double cls() default -1;
+
+    /** Total blocking time of long tasks (sum of duration - 50 ms). */
+    long totalBlockingMillis() default -1;
+
+    /** Time to first byte. */
+    long ttfbMillis() default -1;
+
+    /** loadEventEnd, ms after navigation start. */
+    long loadMillis() default -1;
+
+    /** Number of resource requests made by the page. */
+    int maxResources() default -1;
+}
@@ -2,23 +2,36 @@ package multibank.DaminiSinghAssignment.PageObjects;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
 
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
+import multibank.DaminiSinghAssignment.Utilities.SparklineSeries;
+import multibank.DaminiSinghAssignment.Utilities.SpotNumberParser;
+import multibank.DaminiSinghAssignment.Utilities.SpotRow;
+import multibank.DaminiSinghAssignment.Utilities.SpotRowStream;
+import multibank.DaminiSinghAssignment.Utilities.SpotRowValidator;
+import multibank.DaminiSinghAssignment.Utilities.SvgPathParser;
+
 /**
  * Page Object Model for the "Spot" section on the homepage.
  *
  * This class supports:
  *  - SPOT-001: Navigating through all Spot categories and scraping trading pairs
  *  - SPOT-002: Validating structural elements (column headers, price data, format)
+ *  - Batch/streaming row access for large or virtualized tables (getSpotRows, streamSpotRows)
  *
  * It relies on BasePage utility methods such as:
  *  - getTextWhenVisible(...)
  *  - clickWhenReady(...)
  *  - scrollIntoView(...)
- *  - hasSvgInside(...)
+ *
+ * Table-wide reads (rows, sparklines) use single batch scripts instead of per-cell lookups.
  */
 public class SpotSectionPage extends BasePage {
 
@@ -26,6 +39,140 @@ public class SpotSectionPage extends BasePage {
         super(driver);
     }
 
+    /**
+     * XPath of the Spot table container (shared by @FindBy cells and batch scripts).
+     */
+    private static final String SPOT_TABLE_XPATH =
+            "//div[contains(@class,'home_home')]//div[.//span[normalize-space()='Spot']]//div[contains(@class, 'style_table')]";
+
+    /**
+     * Shared JS prelude: resolves the table root and defines readRow(tr).
+     *
+     * readRow returns [symbol, price, change, high, low, changeClasses] or null for non-data rows.
+     * changeClasses are the class names of the change cell and its descendants;
+     * the direction is derived from them in Java (SpotRow.directionOf).
+     */
+    private static final String ROW_READER_JS =
+            "var root = document.evaluate(arguments[0], document, null,"
+          + "    XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+          + "function text(tr, sel) { var el = tr.querySelector(sel); return el ? el.innerText.trim() : ''; }"
+          + "function classes(td) {"
+          + "  if (!td) { return ''; }"
+          + "  return [td].concat(Array.from(td.querySelectorAll('*')))"
+          + "      .map(function (e) { return e.getAttribute('class') || ''; }).join(' ');"
+          + "}"
+          + "function readRow(tr) {"
+          + "  var pair = tr.querySelector(\"div[class*='asset-list_pair']\");"
+          + "  if (!pair) { return null; }"
+          + "  return [pair.innerText.trim(),"
+          + "    text(tr, \"td[id$='price-td']:not([id*='change'])\"),"
+          + "    text(tr, \"td[id*='change_in_price']\"),"
+          + "    text(tr, \"td[id*='high']\"),"
+          + "    text(tr, \"td[id*='low']\"),"
+          + "    classes(tr.querySelector(\"td[id*='change_in_price']\"))];"
+          + "}";
+
+    /**
+     * Reads every rendered Spot row in one round trip.
+     * Returns: [[symbol, price, change, high, low, changeClasses], ...]
+     */
+    private static final String READ_ROWS_SCRIPT =
+            ROW_READER_JS
+          + "if (!root) { return []; }"
+          + "var out = [];"
+          + "root.querySelectorAll('tr').forEach(function (tr) {"
+          + "  var row = readRow(tr);"
+          + "  if (row) { out.push(row); }"
+          + "});"
+          + "return out;";
+
+    /**
+     * Reads every row's "Last 7 days" sparkline in one round trip.
+     *
+     * Returns: [[symbol, change, hasSvg, pathData], ...]
+     *  - pathData is the longest path "d" in the cell (the sparkline line, not the fill/axis)
+     *  - polylines are converted to path syntax by prefixing their points with "M"
+     *  - rows without a base_volume cell are skipped
+     */
+    private static final String READ_SPARKLINES_SCRIPT =
+            ROW_READER_JS
+          + "if (!root) { return []; }"
+          + "var out = [];"
+          + "root.querySelectorAll('tr').forEach(function (tr) {"
+          + "  var row = readRow(tr);"
+          + "  var cell = tr.querySelector(\"td[id*='base_volume']\");"
+          + "  if (!row || !cell) { return; }"
+          + "  var d = '';"
+          + "  cell.querySelectorAll('path, polyline').forEach(function (p) {"
+          + "    var v = p.tagName.toLowerCase() === 'polyline'"
+          + "        ? 'M' + (p.getAttribute('points') || '') : (p.getAttribute('d') || '');"
+          + "    if (v.length > d.length) { d = v; }"
+          + "  });"
+          + "  out.push([row[0], row[2], cell.querySelector('path, g') !== null, d]);"
+          + "});"
+          + "return out;";
+
+    /**
+     * Async script returning the next chunk of not-yet-emitted rows.
+     *
+     * Arguments: [0] table XPath, [1] chunk size, [2] max scroll steps per call, [3] reset flag.
+     *
+     * Logic:
+     *  - Rows already handed out are tagged with data-qa-emitted=<symbol>
+     *    (recycled nodes of a virtualized table show a new symbol, so they are picked up again)
+     *  - When the rendered rows are exhausted, the nearest scrollable ancestor
+     *    (or the window) is scrolled by 80% of a viewport and rows are read after two frames
+     *  - Resolves {rows: [...], end: true|false}; end means scrolling no longer reveals anything
+     */
+    private static final String STREAM_CHUNK_SCRIPT =
+            ROW_READER_JS
+          + "var done = arguments[arguments.length - 1];"
+          + "var chunk = arguments[1], maxSteps = arguments[2], reset = arguments[3];"
+          + "if (!root) { done({rows: [], end: true}); return; }"
+          + "function scroller(el) {"
+          + "  for (var n = el.parentElement; n; n = n.parentElement) {"
+          + "    var oy = getComputedStyle(n).overflowY;"
+          + "    if ((oy === 'auto' || oy === 'scroll') && n.scrollHeight > n.clientHeight) { return n; }"
+          + "  }"
+          + "  return null;"
+          + "}"
+          + "var box = scroller(root);"
+          + "if (reset) {"
+          + "  root.querySelectorAll('tr[data-qa-emitted]').forEach(function (tr) { tr.removeAttribute('data-qa-emitted'); });"
+          + "  if (box) { box.scrollTop = 0; } else { root.scrollIntoView({block: 'start'}); }"
+          + "}"
+          + "var out = [], steps = 0;"
+          + "function harvest() {"
+          + "  var trs = root.querySelectorAll('tr');"
+          + "  for (var i = 0; i < trs.length && out.length < chunk; i++) {"
+          + "    var row = readRow(trs[i]);"
+          + "    if (!row || trs[i].getAttribute('data-qa-emitted') === row[0]) { continue; }"
+          + "    trs[i].setAttribute('data-qa-emitted', row[0]);"
+          + "    out.push(row);"
+          + "  }"
+          + "}"
+          + "function position() { return box ? box.scrollTop : window.scrollY; }"
+          + "function exhausted() {"
+          + "  return box ? false : root.getBoundingClientRect().bottom <= window.innerHeight;"
+          + "}"
+          + "function frames(cb) { requestAnimationFrame(function () { requestAnimationFrame(cb); }); }"
+          + "(function loop() {"
+          + "  harvest();"
+          + "  if (out.length >= chunk) { done({rows: out, end: false}); return; }"
+          + "  if (exhausted()) { done({rows: out, end: true}); return; }"
+          + "  var before = position();"
+          + "  if (box) { box.scrollTop += box.clientHeight * 0.8; } else { window.scrollBy(0, window.innerHeight * 0.8); }"
+          + "  steps++;"
+          + "  frames(function () {"
+          + "    if (position() === before) { harvest(); done({rows: out, end: true}); return; }"
+          + "    if (steps >= maxSteps) { harvest(); done({rows: out, end: false}); return; }"
+          + "    loop();"
+          + "  });"
+          + "})();";
+
+    // Max scroll steps per streaming call (keeps each round trip well below the script timeout)
+    private static final int STREAM_MAX_STEPS_PER_CALL = 20;
+
     // =========================
     // Locators for Spot section
     // =========================
@@ -54,39 +201,33 @@ public class SpotSectionPage extends BasePage {
      * Trading pair symbols for the current Spot category.
      * Example values: "BTC-USDT", "ETH-USDT".
      */
-    @FindBy(xpath = "//div[contains(@class,'home_home')]//div[.//span[normalize-space()='Spot']]//div[contains(@class, 'style_table')]//div[contains(@class, 'asset-list_pair')]")
+    @FindBy(xpath = SPOT_TABLE_XPATH + "//div[contains(@class, 'asset-list_pair')]")
     private List<WebElement> SpotAssetPairsColumn;
 
     /**
      * Price column values for each trading pair.
      */
-    @FindBy(xpath = "//div[contains(@class,'home_home')]//div[.//span[normalize-space()='Spot']]//div[contains(@class, 'style_table')]//td[contains(@id, 'price-td')]")
+    @FindBy(xpath = SPOT_TABLE_XPATH + "//td[contains(@id, 'price-td')]")
     private List<WebElement> SpotPriceColumn;
 
     /**
      * 24h change column values (percentage or absolute).
      */
-    @FindBy(xpath = "//div[contains(@class,'home_home')]//div[.//span[normalize-space()='Spot']]//div[contains(@class, 'style_table')]//td[contains(@id, 'change_in_price-td')]")
+    @FindBy(xpath = SPOT_TABLE_XPATH + "//td[contains(@id, 'change_in_price-td')]")
     private List<WebElement> Spot24HrChangeColumn;
 
     /**
      * Daily high price column values.
      */
-    @FindBy(xpath = "//div[contains(@class,'home_home')]//div[.//span[normalize-space()='Spot']]//div[contains(@class, 'style_table')]//td[contains(@id, 'high')]")
+    @FindBy(xpath = SPOT_TABLE_XPATH + "//td[contains(@id, 'high')]")
     private List<WebElement> SpotHighColumn;
 
     /**
      * Daily low price column values.
      */
-    @FindBy(xpath = "//div[contains(@class,'home_home')]//div[.//span[normalize-space()='Spot']]//div[contains(@class, 'style_table')]//td[contains(@id, 'low')]")
+    @FindBy(xpath = SPOT_TABLE_XPATH + "//td[contains(@id, 'low')]")
     private List<WebElement> SpotLowColumn;
 
-    /**
-     * Last 7 days / base volume column values (often visualised with SVG charts).
-     */
-    @FindBy(xpath = "//div[contains(@class,'home_home')]//div[.//span[normalize-space()='Spot']]//div[contains(@class, 'style_table')]//td[contains(@id, 'base_volume')]")
-    private List<WebElement> SpotLast7Column;
-
     // =========================
     // Public API methods
     // =========================
@@ -188,15 +329,99 @@ public class SpotSectionPage extends BasePage {
      * Used in SPOT-002 as part of structural & data validation.
      */
     public boolean arePairSymbolsInCorrectFormat() {
+        // Reuse one Matcher instead of String.matches() recompiling the regex per cell
+        Matcher matcher = SpotRowValidator.PAIR_SYMBOL_PATTERN.matcher("");
         for (WebElement pairElement : SpotAssetPairsColumn) {
             String text = getTextWhenVisible(pairElement);
-            if (!text.matches("[A-Z0-9]+-[A-Z0-9]+")) {
+            if (!matcher.reset(text).matches()) {
                 return false;
             }
         }
         return true;
     }
 
+    /**
+     * Returns all rendered Spot rows for the active category using a single script.
+     *
+     * Replaces N x M getText() round trips (one per cell) with one executeScript call.
+     * Used by SPOT-002 data validation via SpotRowValidator.
+     */
+    public List<SpotRow> getSpotRows() {
+        Object raw = ((JavascriptExecutor) driver).executeScript(READ_ROWS_SCRIPT, SPOT_TABLE_XPATH);
+        return toSpotRows(raw);
+    }
+
+    /**
+     * SPOT-002 data validation:
+     * Scrapes all rows in one round trip and checks row invariants
+     * (pair format, numeric cells, low ≤ price ≤ high, change sign).
+     *
+     * @return violations found; empty list means the table data is consistent
+     */
+    public List<SpotRowValidator.Violation> validateSpotRows() {
+        List<SpotRow> rows = getSpotRows();
+
+        long start = System.nanoTime();
+        List<SpotRowValidator.Violation> violations = SpotRowValidator.withDefaultRules().validate(rows);
+        long micros = (System.nanoTime() - start) / 1_000;
+
+        System.out.println("Validated " + rows.size() + " Spot rows in " + micros + " µs, violations: "
+                + violations.size());
+        return violations;
+    }
+
+    /**
+     * Streams all Spot rows of the active category to a consumer, chunk by chunk.
+     *
+     * Designed for virtualized or very long tables:
+     *  - Scrolls the table container (or window) in steps and reads rows as they render
+     *  - Each round trip returns at most chunkSize new rows
+     *  - Rows are not collected; duplicates are dropped by symbol against every
+     *    symbol emitted so far (see SpotRowStream)
+     *
+     * Example:
+     *   SpotRowStream.Stats stats = spotSectionPage.streamSpotRows(50, row -> validate(row));
+     *
+     * @param chunkSize max rows returned per round trip
+     * @param consumer  receives each unique row as soon as its chunk arrives
+     * @return throughput statistics for the run
+     */
+    public SpotRowStream.Stats streamSpotRows(int chunkSize, Consumer<SpotRow> consumer) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+
+        SpotRowStream.Stats stats = SpotRowStream.stream(reset -> {
+            Map<?, ?> result = (Map<?, ?>) js.executeAsyncScript(STREAM_CHUNK_SCRIPT,
+                    SPOT_TABLE_XPATH, chunkSize, STREAM_MAX_STEPS_PER_CALL, reset);
+            return new SpotRowStream.Chunk(toSpotRows(result.get("rows")), Boolean.TRUE.equals(result.get("end")));
+        }, consumer);
+
+        System.out.println("Spot stream finished: " + stats);
+        return stats;
+    }
+
+    /**
+     * Converts the raw script result ([[symbol, price, change, high, low, changeClasses], ...])
+     * into SpotRow records.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<SpotRow> toSpotRows(Object raw) {
+        List<SpotRow> rows = new ArrayList<>();
+        if (!(raw instanceof List)) {
+            return rows;
+        }
+        for (Object item : (List<Object>) raw) {
+            List<Object> cells = (List<Object>) item;
+            rows.add(new SpotRow(
+                    String.valueOf(cells.get(0)),
+                    String.valueOf(cells.get(1)),
+                    String.valueOf(cells.get(2)),
+                    String.valueOf(cells.get(3)),
+                    String.valueOf(cells.get(4)),
+                    SpotRow.directionOf(String.valueOf(cells.get(5)))));
+        }
+        return rows;
+    }
+
     /**
      * Generic helper to check if a numeric/text column contains
      * at least one non-empty value for the current category.
@@ -218,27 +443,81 @@ public class SpotSectionPage extends BasePage {
      * contains SVG indicators (mini charts/sparkline).
      *
      * This method:
-     *   - Scrolls cells into view if needed
-     *   - Uses a BasePage helper hasSvgInside(cell) to detect inline graphs
+     *   - Reads all sparkline cells with a single script (getSparklines)
+     *   - Requires a <path> or <g> inside every cell
+     *   - Logs the symbols of rows missing their chart
      */
     public boolean isBaseVolumeColumnHavingSvgIndicators() {
+        List<String> missing = new ArrayList<>();
+        for (SparklineSeries series : getSparklines()) {
+            if (!series.hasSvg()) {
+                missing.add(series.symbol());
+            }
+        }
 
-        for (WebElement cell : SpotLast7Column) {
+        if (!missing.isEmpty()) {
+            System.out.println("No SVG found in Last 7 days column for: " + missing);
+        }
 
-            // Ensure the cell is visible in viewport
-            if (!cell.isDisplayed()) {
-                scrollIntoView(cell);
-            }
+        // Only returns true if every cell contains required SVG markup
+        return missing.isEmpty();
+    }
 
-            // Check whether SVG-based indicator exists inside the cell
-            if (!hasSvgInside(cell)) {
-                System.out.println("No SVG found inside: " + cell.getText());
-                return false;
+    /**
+     * Decodes the "Last 7 days" sparkline of every row into a point series.
+     *
+     * Costs one script round trip for the whole table; path data is parsed
+     * in Java by SvgPathParser.
+     */
+    @SuppressWarnings("unchecked")
+    public List<SparklineSeries> getSparklines() {
+        Object raw = ((JavascriptExecutor) driver).executeScript(READ_SPARKLINES_SCRIPT, SPOT_TABLE_XPATH);
+
+        List<SparklineSeries> series = new ArrayList<>();
+        for (Object item : (List<Object>) raw) {
+            List<Object> cells = (List<Object>) item;
+            String symbol = String.valueOf(cells.get(0));
+            SvgPathParser.Points points;
+            try {
+                points = SvgPathParser.parse(String.valueOf(cells.get(3)));
+            } catch (IllegalArgumentException e) {
+                System.out.println("Unparseable sparkline for " + symbol + ": " + e.getMessage());
+                points = SvgPathParser.parse(null);
             }
+            series.add(new SparklineSeries(symbol, String.valueOf(cells.get(1)),
+                    Boolean.TRUE.equals(cells.get(2)), points));
         }
+        return series;
+    }
 
-        // Only returns true if every cell contains required SVG markup
-        return true;
+    /**
+     * Validates the shape of every decoded sparkline.
+     *
+     * Checks:
+     *  - at least minPoints points
+     *  - not flat, unless the 24h change is zero (e.g. stablecoin pairs)
+     *  - optional: direction of the last 1/7 of the series (≈ last 24h of 7 days)
+     *    matches the sign of the 24h change
+     *
+     * @return human-readable issues, one per offending row; empty when all sparklines are valid
+     */
+    public List<String> findInvalidSparklines(int minPoints, boolean checkTrend) {
+        List<String> issues = new ArrayList<>();
+
+        for (SparklineSeries series : getSparklines()) {
+            double change = SpotNumberParser.parse(series.change());
+
+            if (series.pointCount() < minPoints) {
+                issues.add(series.symbol() + ": only " + series.pointCount() + " sparkline points");
+            } else if (series.isFlat(1e-6) && !Double.isNaN(change) && change != 0) {
+                issues.add(series.symbol() + ": flat sparkline but 24h change is " + series.change());
+            } else if (checkTrend && !Double.isNaN(change) && change != 0
+                    && series.tailDirection(1 / 7.0) != (int) Math.signum(change)) {
+                issues.add(series.symbol() + ": sparkline tail direction " + series.tailDirection(1 / 7.0)
+                        + " disagrees with 24h change " + series.change());
+            }
+        }
+        return issues;
     }
 
     /**
@@ -1,12 +1,20 @@
 package multibank.DaminiSinghAssignment.PageObjects;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
+import multibank.DaminiSinghAssignment.Utilities.ContentSnapshot;
+import multibank.DaminiSinghAssignment.Utilities.ContentValidationCache;
+import multibank.DaminiSinghAssignment.Utilities.SnapshotDiff;
+import multibank.DaminiSinghAssignment.Utilities.TextNormalizer;
+
 /**
  * Page Object Model for the "Why MultiBank" page.
  * 
@@ -15,32 +23,64 @@ import org.openqa.selenium.support.FindBy;
  *  - Text extraction for all headings, subheadings, and CTAs
  *  - Scroll handling to ensure lazy-loaded elements become visible
  *  - Normalized text outputs for JSON comparison (assignment requirement)
+ *  - One-pass content snapshot of all sections (captureContentSnapshot)
+ *  - Incremental validation that skips sections unchanged since the last pass (validateContent)
+ *
+ * Performance budget applies to navigations that name this page as their target
+ * (HomePage.navigateToMenuItem(..., WhyMultiLinkPage.class)).
  */
+@PerformanceBudget(lcpMillis = 2500, cls = 0.1)
 public class WhyMultiLinkPage extends BasePage {
 
     public WhyMultiLinkPage(WebDriver driver) {
         super(driver);
     }
 
+    // Cache key of this page in the content-validation cache
+    private static final String CONTENT_PAGE_KEY = "why-multibank";
+
+    // XPaths shared by @FindBy fields and the one-pass content snapshot
+    private static final String MAIN_CARDS_HEADING_XPATH = "//h2[contains(@class,'text-white heading')]";
+    private static final String MAIN_CARD_SUB_HEADING_XPATH = "//p[contains(@class,'text-secondary')]";
+    private static final String OUR_ADVANTAGES_HEADING_XPATH = "//h3[contains(@class,'text-white heading')]";
+    private static final String BUTTONS_XPATH = "//button[contains(@class,'button_btn')]";
+
+    /**
+     * Named content sections of the page, keyed like the expected-data JSON.
+     *  - headings / paragraphs: every non-blank text
+     *  - buttons: visible only, duplicates removed (same rules as getWhyMultiLinkButtonTexts)
+     */
+    private static final Map<String, ContentSnapshot.Section> CONTENT_SECTIONS = new LinkedHashMap<>();
+    static {
+        CONTENT_SECTIONS.put("mainCardsHeadings",
+                new ContentSnapshot.Section(MAIN_CARDS_HEADING_XPATH, false, false));
+        CONTENT_SECTIONS.put("mainCardsSubHeadings",
+                new ContentSnapshot.Section(MAIN_CARD_SUB_HEADING_XPATH, false, false));
+        CONTENT_SECTIONS.put("ourAdvantagesHeadings",
+                new ContentSnapshot.Section(OUR_ADVANTAGES_HEADING_XPATH, false, false));
+        CONTENT_SECTIONS.put("buttons",
+                new ContentSnapshot.Section(BUTTONS_XPATH, true, true));
+    }
+
     /** 
      * Locators for all main sections on the Why MultiBank page.
      * These elements are collected into lists based on repeating UI structure.
      */
 
     // Main section headings (e.g., “Securely Build…”, “Our Advantages”)
-    @FindBy(xpath = "//h2[contains(@class,'text-white heading')]")
+    @FindBy(xpath = MAIN_CARDS_HEADING_XPATH)
     private List<WebElement> MainCardsHeading;
 
     // Subheadings / paragraph descriptions under the main info cards
-    @FindBy(xpath = "//p[contains(@class,'text-secondary')]")
+    @FindBy(xpath = MAIN_CARD_SUB_HEADING_XPATH)
     private List<WebElement> MainCardSubHeading;
 
     // Advantage section headings (Fiat On/Off Ramp, Heavily Regulated, etc.)
-    @FindBy(xpath = "//h3[contains(@class,'text-white heading')]")
+    @FindBy(xpath = OUR_ADVANTAGES_HEADING_XPATH)
     private List<WebElement> OurAdvantagesCardHeading;
 
     // CTA buttons shown across the page (“Open Live Account”, “Get Started”, etc.)
-    @FindBy(xpath = "//button[contains(@class,'button_btn')]")
+    @FindBy(xpath = BUTTONS_XPATH)
     private List<WebElement> WhyMultiLinkButtons;
 
     /**
@@ -77,7 +117,35 @@ public class WhyMultiLinkPage extends BasePage {
      * Removes extra whitespace, newlines, and formatting differences.
      */
     private String normalizeText(String text) {
-        return text.trim().replaceAll("\\s+", " ");
+        return TextNormalizer.normalize(text);
+    }
+
+    /**
+     * Captures all named content sections (headings, paragraphs, CTAs) in ONE
+     * in-browser pass, keyed like the expected-data JSON.
+     *
+     * The page is scrolled top → bottom inside the script first, so lazy-loaded
+     * sections are mounted before their text is read.
+     * Used by ABOUT-002 together with SnapshotDiff.
+     */
+    public ContentSnapshot captureContentSnapshot() {
+        waitForPageToLoad();
+        return ContentSnapshot.capture(driver, CONTENT_SECTIONS, true);
+    }
+
+    /**
+     * Validates all content sections against expected data, incrementally.
+     *
+     * Section hashes are computed in the browser; sections already verified with
+     * the same content and expected data are reported as "verified, unchanged",
+     * only changed sections are read and diffed (see ContentValidationCache).
+     *
+     * @param expected       section name → expected texts (JSON keys)
+     * @param strictSections sections that must match exactly and in order
+     */
+    public SnapshotDiff validateContent(Map<String, List<String>> expected, Set<String> strictSections) {
+        waitForPageToLoad();
+        return ContentValidationCache.validate(driver, CONTENT_PAGE_KEY, CONTENT_SECTIONS, expected, strictSections);
     }
 
     /**
@@ -87,10 +155,6 @@ public class WhyMultiLinkPage extends BasePage {
     public List<String> getMainCardsHeadingTexts() {
         waitForPageToLoad();
 
-        MainCardsHeading.forEach(e ->
-            System.out.println("Raw subheading text: [" + e.getText() + "]")
-        );
-
         return MainCardsHeading.stream()
                 .map(e -> {
                     WebElement visible = scrollAndWaitVisible(e);
@@ -107,10 +171,6 @@ public class WhyMultiLinkPage extends BasePage {
     public List<String> getMainCardSubHeadingTexts() {
         waitForPageToLoad();
 
-        MainCardSubHeading.forEach(e ->
-            System.out.println("Raw subheading text: [" + e.getText() + "]")
-        );
-
         return MainCardSubHeading.stream()
                 .map(e -> {
                     WebElement visible = scrollAndWaitVisible(e);
@@ -126,10 +186,6 @@ public class WhyMultiLinkPage extends BasePage {
     public List<String> getOurAdvantagesCardHeadingTexts() {
         waitForPageToLoad();
 
-        OurAdvantagesCardHeading.forEach(e ->
-            System.out.println("Raw subheading text: [" + e.getText() + "]")
-        );
-
         return OurAdvantagesCardHeading.stream()
                 .map(e -> {
                     WebElement visible = scrollAndWaitVisible(e);
@@ -0,0 +1,184 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * ContentSnapshot
+ * --------------------------------------------------
+ * Named text sections of a content page, extracted in ONE in-browser pass.
+ *
+ * Replaces per-element scrollAndWaitVisible + getText round trips:
+ *  - The script optionally scrolls the page top → bottom first so lazy-loaded
+ *    sections are mounted, then reads every section's innerText at once
+ *  - Text is normalized in Java with the precompiled TextNormalizer
+ *  - Each section also gets a content hash computed in the browser, so callers
+ *    can skip unchanged sections (see ContentValidationCache / hashSections)
+ *
+ * Usage:
+ *   Map<String, Section> spec = new LinkedHashMap<>();
+ *   spec.put("buttons", new Section("//button[...]", true, true));
+ *   ContentSnapshot snapshot = ContentSnapshot.capture(driver, spec, true);
+ *   List<String> buttons = snapshot.get("buttons");
+ */
+public final class ContentSnapshot {
+
+    /**
+     * Async extraction script.
+     * arguments[0] = [[name, xpath, visibleOnly, distinct], ...], arguments[1] = prescroll flag,
+     * arguments[2] = hashOnly flag
+     * Resolves { texts: { name: [rawText, ...] } | null, hashes: { name: hash } }
+     *
+     * The hash is taken over the NORMALIZED texts (same rules as TextNormalizer,
+     * blanks dropped, duplicates dropped for distinct sections): two 32-bit
+     * FNV-1a style lanes with different seeds → 16 hex chars.
+     * With hashOnly only the hashes cross the wire.
+     */
+    private static final String CAPTURE_SCRIPT =
+            "var done = arguments[arguments.length - 1];"
+          + "var specs = arguments[0], prescroll = arguments[1], hashOnly = arguments[2];"
+          + "var WS = /[ \\t\\n\\u000B\\f\\r\\u00A0\\u2007\\u202F]+/g;"
+          + "function visible(el) {"
+          + "  if (el.getClientRects().length === 0) { return false; }"
+          + "  var st = getComputedStyle(el);"
+          + "  return st.visibility !== 'hidden' && st.display !== 'none';"
+          + "}"
+          + "function hex(h) { return ('0000000' + (h >>> 0).toString(16)).slice(-8); }"
+          + "function hash(texts, distinct) {"
+          + "  var a = 0x811c9dc5, b = 0x050c5d1f, seen = {}, n = 0;"
+          + "  texts.forEach(function (raw) {"
+          + "    var t = raw.replace(WS, ' ').trim();"
+          + "    if (!t || (distinct && seen[t])) { return; }"
+          + "    seen[t] = true; n++;"
+          + "    for (var i = 0; i <= t.length; i++) {"
+          + "      var c = i < t.length ? t.charCodeAt(i) : 1;"   // 1 = text separator
+          + "      a = Math.imul(a ^ c, 0x01000193);"
+          + "      b = Math.imul(b ^ c, 0x5bd1e995); b ^= b >>> 15;"
+          + "    }"
+          + "  });"
+          + "  return hex(a ^ n) + hex(b);"
+          + "}"
+          + "function extract() {"
+          + "  var texts = hashOnly ? null : {}, hashes = {};"
+          + "  specs.forEach(function (spec) {"
+          + "    var snap = document.evaluate(spec[1], document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+          + "    var list = [];"
+          + "    for (var i = 0; i < snap.snapshotLength; i++) {"
+          + "      var el = snap.snapshotItem(i);"
+          + "      if (spec[2] && !visible(el)) { continue; }"
+          + "      list.push(el.innerText || el.textContent || '');"
+          + "    }"
+          + "    hashes[spec[0]] = hash(list, spec[3]);"
+          + "    if (texts) { texts[spec[0]] = list; }"
+          + "  });"
+          + "  done({ texts: texts, hashes: hashes });"
+          + "}"
+          + "if (!prescroll) { extract(); return; }"
+          + "var y = 0;"
+          + "(function step() {"
+          + "  window.scrollTo(0, y);"
+          + "  requestAnimationFrame(function () { requestAnimationFrame(function () {"
+          + "    var max = document.documentElement.scrollHeight - window.innerHeight;"
+          + "    if (y >= max) { window.scrollTo(0, 0); requestAnimationFrame(extract); return; }"
+          + "    y = Math.min(y + window.innerHeight * 0.9, max);"
+          + "    step();"
+          + "  }); });"
+          + "})();";
+
+    /**
+     * Definition of one named section.
+     *
+     * @param xpath       elements whose text makes up the section
+     * @param visibleOnly skip elements that are not rendered (hidden duplicates, other layouts)
+     * @param distinct    drop duplicate texts (e.g. the same CTA rendered twice)
+     */
+    public record Section(String xpath, boolean visibleOnly, boolean distinct) {
+    }
+
+    private final Map<String, List<String>> sections;
+    private final Map<String, String> hashes;
+
+    private ContentSnapshot(Map<String, List<String>> sections, Map<String, String> hashes) {
+        this.sections = sections;
+        this.hashes = hashes;
+    }
+
+    /**
+     * Extracts all sections in a single async script call.
+     *
+     * @param driver    active driver
+     * @param spec      section name → definition (order is preserved)
+     * @param prescroll scroll through the page first to trigger lazy loading
+     */
+    @SuppressWarnings("unchecked")
+    public static ContentSnapshot capture(WebDriver driver, Map<String, Section> spec, boolean prescroll) {
+        Map<String, Object> result = run(driver, spec, prescroll, false);
+        Map<String, Object> raw = (Map<String, Object>) result.get("texts");
+
+        Map<String, List<String>> sections = new LinkedHashMap<>();
+        spec.forEach((name, section) -> {
+            List<Object> texts = (List<Object>) raw.getOrDefault(name, List.of());
+            Collection<String> normalized =
+                    section.distinct() ? new LinkedHashSet<>() : new ArrayList<>();
+            for (Object text : texts) {
+                String value = TextNormalizer.normalize(String.valueOf(text));
+                if (!value.isEmpty()) {
+                    normalized.add(value);
+                }
+            }
+            sections.put(name, List.copyOf(normalized));
+        });
+        return new ContentSnapshot(Collections.unmodifiableMap(sections), toHashes(result));
+    }
+
+    /**
+     * Computes only the content hash of every section, in the browser.
+     * The response is a few bytes per section regardless of how much text the page has.
+     *
+     * @return section name → content hash (same value as {@link #hash(String)} of a full capture)
+     */
+    public static Map<String, String> hashSections(WebDriver driver, Map<String, Section> spec, boolean prescroll) {
+        return toHashes(run(driver, spec, prescroll, true));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> run(WebDriver driver, Map<String, Section> spec,
+                                           boolean prescroll, boolean hashOnly) {
+        List<List<Object>> specArg = new ArrayList<>();
+        spec.forEach((name, section) ->
+                specArg.add(List.of(name, section.xpath(), section.visibleOnly(), section.distinct())));
+
+        return (Map<String, Object>) ((JavascriptExecutor) driver)
+                .executeAsyncScript(CAPTURE_SCRIPT, specArg, prescroll, hashOnly);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, String> toHashes(Map<String, Object> result) {
+        Map<String, String> hashes = new LinkedHashMap<>();
+        ((Map<String, Object>) result.get("hashes")).forEach((name, hash) -> hashes.put(name, String.valueOf(hash)));
+        return Collections.unmodifiableMap(hashes);
+    }
+
+    /** Normalized texts of a section (empty list if the section is unknown). */
+    public List<String> get(String name) {
+        return sections.getOrDefault(name, List.of());
+    }
+
+    /** In-browser content hash of a section (null if the section is unknown). */
+    public String hash(String name) {
+        return hashes.get(name);
+    }
+
+    /** All sections, in definition order. */
+    public Map<String, List<String>> sections() {
+        return sections;
+    }
+}
@@ -0,0 +1,253 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.WebDriver;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * ContentValidationCache
+ * --------------------------------------------------
+ * Incremental text validation for content pages.
+ *
+ * Most runs validate exactly the same page content against exactly the same
+ * expected data as the previous run. Each successful section comparison is
+ * therefore remembered under:
+ *
+ *      page / section  →  (in-browser section hash, expected-data hash)
+ *
+ * On the next run only the section hashes are fetched from the browser; sections
+ * whose hashes still match are reported as "verified, unchanged" without reading
+ * their text. Only changed sections get the full capture, comparison and diff.
+ *
+ * Persistence:
+ *  - JSON file under .validation-cache/ (git-ignored), shared by all threads
+ *  - Written to a temp file and atomically moved into place
+ *
+ * Flags:
+ *  - -Dvalidation.cache=false   → always compare everything (cache ignored, not written)
+ *  - -Dvalidation.cache.dir=... → cache location (default: .validation-cache)
+ */
+public final class ContentValidationCache {
+
+    private static final String CACHE_FILE = "content-validation.json";
+
+    private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    // One instance per cache directory, shared across threads
+    private static final Map<Path, ContentValidationCache> INSTANCES = new ConcurrentHashMap<>();
+
+    /**
+     * One verified section.
+     *
+     * @param sectionHash  in-browser hash of the normalized section texts
+     * @param expectedHash hash of the expected data + comparison mode
+     * @param verifiedAt   ISO-8601 timestamp of the full comparison that passed
+     */
+    public record Entry(String sectionHash, String expectedHash, String verifiedAt) {
+    }
+
+    private final Path file;
+    private final Map<String, Entry> entries;
+
+    private ContentValidationCache(Path file, Map<String, Entry> entries) {
+        this.file = file;
+        this.entries = new ConcurrentHashMap<>(entries);
+    }
+
+    /** True unless disabled with -Dvalidation.cache=false. */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("validation.cache", "true"));
+    }
+
+    /** Shared cache for the configured directory, loaded on first use. */
+    public static ContentValidationCache shared() {
+        Path dir = Paths.get(System.getProperty("validation.cache.dir", ".validation-cache")).toAbsolutePath();
+        return INSTANCES.computeIfAbsent(dir, d -> load(d.resolve(CACHE_FILE)));
+    }
+
+    /** Loads a cache file; a missing or unreadable file yields an empty cache. */
+    public static ContentValidationCache load(Path file) {
+        if (!Files.exists(file)) {
+            return new ContentValidationCache(file, Map.of());
+        }
+        try {
+            Map<String, Entry> entries = mapper.readValue(file.toFile(), new TypeReference<Map<String, Entry>>() {});
+            return new ContentValidationCache(file, entries);
+        } catch (IOException e) {
+            System.out.println("Validation cache unreadable, starting empty: " + file + " (" + e.getMessage() + ")");
+            return new ContentValidationCache(file, Map.of());
+        }
+    }
+
+    // =========================================================================
+    //  Cache lookups
+    // =========================================================================
+
+    /** True if this exact section content was already verified against this exact expected data. */
+    public boolean isVerified(String page, String section, String sectionHash, String expectedHash) {
+        Entry entry = entries.get(key(page, section));
+        return entry != null && entry.sectionHash().equals(sectionHash) && entry.expectedHash().equals(expectedHash);
+    }
+
+    /** Remembers a passed comparison (in memory; call save() to persist). */
+    public void markVerified(String page, String section, String sectionHash, String expectedHash) {
+        entries.put(key(page, section), new Entry(sectionHash, expectedHash, Instant.now().toString()));
+    }
+
+    /** Drops a section, e.g. after a failed comparison. */
+    public void invalidate(String page, String section) {
+        entries.remove(key(page, section));
+    }
+
+    private static String key(String page, String section) {
+        return page + "/" + section;
+    }
+
+    /**
+     * Writes the cache atomically: temp file in the same directory, then move.
+     * Concurrent writers (parallel <test> blocks) are serialized per instance.
+     */
+    public synchronized void save() {
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = Files.createTempFile(file.getParent(), CACHE_FILE, ".tmp");
+            try {
+                mapper.writeValue(tmp.toFile(), new TreeMap<>(entries));
+                try {
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            // A cache that cannot be written only costs time on the next run
+            System.out.println("Could not write validation cache " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Hash of the expected texts of one section plus its comparison mode,
+     * so changing either the JSON or the rule invalidates the cached result.
+     */
+    public static String hashExpected(List<String> expected, boolean strict) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((strict ? "strict" : "presence").getBytes(StandardCharsets.UTF_8));
+            for (String text : expected) {
+                digest.update((byte) 1);
+                digest.update(TextNormalizer.normalize(text).getBytes(StandardCharsets.UTF_8));
+            }
+            StringBuilder hex = new StringBuilder();
+            byte[] bytes = digest.digest();
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", bytes[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 not available", e);
+        }
+    }
+
+    // =========================================================================
+    //  Incremental validation
+    // =========================================================================
+
+    /**
+     * Validates a content page, comparing only sections that changed since the last pass.
+     *
+     * Steps:
+     *  1. One script call returns the hash of every section (prescroll included)
+     *  2. Sections whose (section hash, expected hash) pair is cached → "verified, unchanged"
+     *  3. Remaining sections are captured in one more call and compared with SnapshotDiff
+     *  4. Passed sections are cached, failed ones invalidated, cache saved atomically
+     *
+     * Pass criteria used for caching:
+     *  - strict sections: exact, ordered match (SectionDiff.isClean)
+     *  - other sections : every expected text present (SectionDiff.containsAllExpected)
+     *
+     * @param driver         active driver
+     * @param page           stable page identifier used in cache keys, e.g. "why-multibank"
+     * @param spec           section definitions of the page
+     * @param expected       section name → expected texts
+     * @param strictSections sections compared in order and without extras
+     */
+    public static SnapshotDiff validate(WebDriver driver, String page, Map<String, ContentSnapshot.Section> spec,
+                                        Map<String, List<String>> expected, Set<String> strictSections) {
+        long start = System.nanoTime();
+        boolean enabled = isEnabled();
+        ContentValidationCache cache = enabled ? shared() : null;
+
+        Map<String, String> expectedHashes = new HashMap<>();
+        expected.forEach((name, texts) -> expectedHashes.put(name, hashExpected(texts, strictSections.contains(name))));
+
+        // 1 + 2) Hash pass → split sections into unchanged / to-compare
+        Map<String, String> pageHashes = ContentSnapshot.hashSections(driver, spec, true);
+        Map<String, SnapshotDiff.SectionDiff> results = new LinkedHashMap<>();
+        Map<String, ContentSnapshot.Section> toCompare = new LinkedHashMap<>();
+
+        for (String name : expected.keySet()) {
+            if (cache != null && cache.isVerified(page, name, pageHashes.get(name), expectedHashes.get(name))) {
+                results.put(name, SnapshotDiff.SectionDiff.verifiedUnchanged(name));
+            } else if (spec.containsKey(name)) {
+                results.put(name, null);   // placeholder keeps the expected-data order
+                toCompare.put(name, spec.get(name));
+            } else {
+                results.put(name, SnapshotDiff.compareSection(name, List.of(), expected.get(name),
+                        strictSections.contains(name)));
+            }
+        }
+
+        // 3) Full capture + diff only for changed sections (page already prescrolled)
+        if (!toCompare.isEmpty()) {
+            ContentSnapshot snapshot = ContentSnapshot.capture(driver, toCompare, false);
+            for (String name : toCompare.keySet()) {
+                boolean strict = strictSections.contains(name);
+                SnapshotDiff.SectionDiff diff =
+                        SnapshotDiff.compareSection(name, snapshot.get(name), expected.get(name), strict);
+                results.put(name, diff);
+
+                // 4) Remember passes, forget failures
+                if (cache != null) {
+                    if (strict ? diff.isClean() : diff.containsAllExpected()) {
+                        cache.markVerified(page, name, snapshot.hash(name), expectedHashes.get(name));
+                    } else {
+                        cache.invalidate(page, name);
+                    }
+                }
+            }
+            if (cache != null) {
+                cache.save();
+            }
+        }
+
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        long unchanged = results.values().stream().filter(SnapshotDiff.SectionDiff::unchanged).count();
+        System.out.println("Content validation [" + page + "]: " + unchanged + " section(s) verified unchanged, "
+                + toCompare.size() + " compared in full, " + millis + " ms"
+                + (enabled ? "" : " (cache disabled)"));
+
+        return SnapshotDiff.of(results);
+    }
+}
@@ -20,6 +20,11 @@ import java.util.Set;
  *        → Add key to the set to mark that the first run is done
  *        → If the key already exists → return FALSE (not first run)
  *
+ * Retry policy:
+ *  - RetryAnalyzer retries this deterministic-looking (assertion) failure on the
+ *    first run because the test has no history yet; afterwards the recorded
+ *    "failed, then passed on retry" history marks it as flaky and keeps it retried.
+ *
  * Thread Safety:
  *  - `synchronized` ensures no concurrency issues when tests run in parallel.
  *
@@ -0,0 +1,214 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * LinkChecker
+ * --------------------------------------------------
+ * Concurrent HTTP checker for navigation targets, built on java.net.http.HttpClient.
+ *
+ * Purpose:
+ *  - Validate every nav / sub-menu href without driving the browser
+ *  - Report status, redirect chain and latency per link
+ *
+ * Behaviour per link:
+ *  1. HEAD request (cheap, no body)
+ *  2. If HEAD fails or returns >= 400 (many servers reject HEAD) → retry with GET,
+ *     body discarded
+ *  3. 3xx responses are followed manually (up to maxRedirects) so every hop is recorded
+ *
+ * Concurrency:
+ *  - Links are checked on a pool bounded to `concurrency` threads,
+ *    so at most that many requests are in flight at once.
+ *  - The project targets Java 17, so a fixed platform-thread pool is used;
+ *    on Java 21 this is a drop-in swap for a virtual-thread executor.
+ *
+ * Usage:
+ *   List<LinkResult> results = new LinkChecker(8, Duration.ofSeconds(10), 5).check(hrefsByLabel);
+ */
+public class LinkChecker {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (compatible; MultibankLinkChecker/1.0)";
+
+    private final int concurrency;
+    private final Duration timeout;
+    private final int maxRedirects;
+    private final HttpClient client;
+
+    /**
+     * @param concurrency  max links checked at the same time
+     * @param timeout      connect + request timeout per HTTP call
+     * @param maxRedirects max redirect hops followed per link
+     */
+    public LinkChecker(int concurrency, Duration timeout, int maxRedirects) {
+        this.concurrency = concurrency;
+        this.timeout = timeout;
+        this.maxRedirects = maxRedirects;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NEVER)   // redirects are tracked manually
+                .build();
+    }
+
+    /**
+     * Result of checking one link.
+     *
+     * @param label         menu label the href belongs to
+     * @param url           original href
+     * @param status        final HTTP status (-1 when no response was received)
+     * @param method        HTTP method that produced the final status (HEAD or GET)
+     * @param redirects     every Location followed, in order
+     * @param latencyMillis wall time including fallbacks and redirects
+     * @param error         failure description, null when a response was received
+     */
+    public record LinkResult(String label, String url, int status, String method,
+                             List<String> redirects, long latencyMillis, String error) {
+
+        /** True for a 2xx/3xx final status without transport error. */
+        public boolean isOk() {
+            return error == null && status >= 200 && status < 400;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-40s %s %-4s %4d ms %s%s",
+                    label, status, method, latencyMillis, url,
+                    (redirects.isEmpty() ? "" : " -> " + redirects)
+                    + (error == null ? "" : " [" + error + "]"));
+        }
+    }
+
+    /**
+     * Checks all links concurrently.
+     * Non-HTTP(S) hrefs (javascript:, mailto:, #anchors) are skipped and logged.
+     *
+     * @param hrefsByLabel label → href, e.g. "About Us > Why Multibank?" → "https://..."
+     * @return one result per HTTP(S) link, in input order
+     */
+    public List<LinkResult> check(Map<String, String> hrefsByLabel) {
+        List<Callable<LinkResult>> tasks = new ArrayList<>();
+        hrefsByLabel.forEach((label, href) -> {
+            if (href != null && (href.startsWith("http://") || href.startsWith("https://"))) {
+                tasks.add(() -> checkOne(label, href));
+            } else {
+                System.out.println("Link check skipped (non-HTTP href) for " + label + ": " + href);
+            }
+        });
+
+        List<LinkResult> results = new ArrayList<>();
+        if (tasks.isEmpty()) {
+            return results;
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(concurrency, tasks.size()), r -> {
+            Thread t = new Thread(r, "link-checker");
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            for (Future<LinkResult> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Link check interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Link check failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        return results;
+    }
+
+    /**
+     * HEAD first, GET as fallback, redirects followed hop by hop.
+     */
+    private LinkResult checkOne(String label, String href) {
+        long start = System.nanoTime();
+        List<String> redirects = new ArrayList<>();
+
+        String method = "HEAD";
+        URI uri;
+        try {
+            uri = URI.create(href);
+        } catch (IllegalArgumentException e) {
+            return new LinkResult(label, href, -1, method, redirects, 0, "Invalid URL: " + e.getMessage());
+        }
+
+        int status = -1;
+        String error = null;
+
+        for (int hop = 0; hop <= maxRedirects; hop++) {
+            error = null;
+            HttpResponse<Void> response = null;
+
+            try {
+                response = send(uri, "HEAD");
+                method = "HEAD";
+            } catch (IOException e) {
+                error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                error = "Interrupted";
+                break;
+            }
+
+            // Fallback: servers frequently reject or mishandle HEAD
+            if (response == null || response.statusCode() >= 400) {
+                try {
+                    response = send(uri, "GET");
+                    method = "GET";
+                    error = null;
+                } catch (IOException e) {
+                    error = e.getClass().getSimpleName() + ": " + e.getMessage();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    error = "Interrupted";
+                    break;
+                }
+            }
+
+            if (response == null) {
+                break;
+            }
+            status = response.statusCode();
+
+            String location = response.headers().firstValue("Location").orElse(null);
+            if (status < 300 || status >= 400 || location == null) {
+                break;
+            }
+            if (hop == maxRedirects) {
+                error = "Too many redirects (> " + maxRedirects + ")";
+                break;
+            }
+            uri = uri.resolve(location);
+            redirects.add(uri.toString());
+        }
+
+        long latency = (System.nanoTime() - start) / 1_000_000;
+        return new LinkResult(label, href, status, method, List.copyOf(redirects), latency, error);
+    }
+
+    private HttpResponse<Void> send(URI uri, String method) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header("User-Agent", USER_AGENT)
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+}
@@ -0,0 +1,221 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics
+ * ------------------------------------------------------------------
+ * Minimal, lock-free metrics registry rendered as OpenMetrics text.
+ *
+ * Update path (test threads):
+ *   • Counters, gauges and histogram buckets are LongAdders → increments never
+ *     block and never contend on a shared lock, even with many parallel tests.
+ *   • Frequently used series are held in static fields; labelled lookups go
+ *     through a ConcurrentSkipListMap (lock-free get, sorted output).
+ *
+ * Read path (scrape):
+ *   • render() sums the adders; a scrape sees a near-consistent snapshot,
+ *     which is all OpenMetrics requires.
+ *
+ * Series:
+ *   multibank_tests_total{outcome}            passed | failed | skipped | retried
+ *   multibank_webdriver_active_sessions       drivers currently held by DriverManager
+ *   multibank_webdriver_startup_seconds{browser}  DriverFactory.createInstance latency
+ *   multibank_wait_seconds{outcome}           BasePage waits (satisfied | timeout)
+ *   multibank_screenshot_write_seconds        background screenshot encode + store time
+ *
+ * Served by MetricsListener (-Dmetrics.port).
+ */
+public final class Metrics {
+
+    private static final String PREFIX = "multibank_";
+
+    /** Upper bounds (seconds) shared by all histograms: 10 ms … 60 s. */
+    private static final double[] BUCKETS = {0.01, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60};
+
+    private static final Map<String, Family> families = new ConcurrentSkipListMap<>();
+
+    // Well-known series
+    public static final Gauge ACTIVE_SESSIONS = gauge("webdriver_active_sessions",
+            "WebDriver sessions currently held by DriverManager");
+    public static final Histogram SCREENSHOT_WRITE = histogram("screenshot_write_seconds",
+            "Background screenshot encode + store time", null, null);
+
+    private Metrics() {
+    }
+
+    // =========================================================================
+    //  Series types
+    // =========================================================================
+
+    /** Monotonic counter. */
+    public static final class Counter {
+        private final LongAdder value = new LongAdder();
+
+        public void increment() {
+            value.increment();
+        }
+
+        public long get() {
+            return value.sum();
+        }
+    }
+
+    /** Value that goes up and down. */
+    public static final class Gauge {
+        private final LongAdder value = new LongAdder();
+
+        public void increment() {
+            value.increment();
+        }
+
+        public void decrement() {
+            value.decrement();
+        }
+
+        public long get() {
+            return value.sum();
+        }
+    }
+
+    /** Fixed-bucket histogram; buckets are stored non-cumulative and summed on render. */
+    public static final class Histogram {
+        private final LongAdder[] buckets = new LongAdder[BUCKETS.length + 1];
+        private final LongAdder sumNanos = new LongAdder();
+
+        private Histogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        public void observeNanos(long nanos) {
+            double seconds = nanos / 1e9;
+            int i = 0;
+            while (i < BUCKETS.length && seconds > BUCKETS[i]) {
+                i++;
+            }
+            buckets[i].increment();
+            sumNanos.add(nanos);
+        }
+
+        /** Records the time since a System.nanoTime() start value. */
+        public void observeSince(long startNanos) {
+            observeNanos(System.nanoTime() - startNanos);
+        }
+
+        public long count() {
+            long count = 0;
+            for (LongAdder bucket : buckets) {
+                count += bucket.sum();
+            }
+            return count;
+        }
+    }
+
+    /** All series of one metric name (one per label value). */
+    private record Family(String name, String type, String help, String label, Map<String, Object> series) {
+    }
+
+    // =========================================================================
+    //  Registration / lookup
+    // =========================================================================
+
+    private static Family family(String name, String type, String help, String label) {
+        return families.computeIfAbsent(name,
+                n -> new Family(PREFIX + n, type, help, label, new ConcurrentSkipListMap<>()));
+    }
+
+    private static String labelKey(String value) {
+        return value == null ? "" : value;
+    }
+
+    /** Counter series, e.g. counter("tests", "…", "outcome", "passed"). */
+    public static Counter counter(String name, String help, String label, String value) {
+        return (Counter) family(name, "counter", help, label).series()
+                .computeIfAbsent(labelKey(value), k -> new Counter());
+    }
+
+    public static Gauge gauge(String name, String help) {
+        return (Gauge) family(name, "gauge", help, null).series().computeIfAbsent("", k -> new Gauge());
+    }
+
+    public static Histogram histogram(String name, String help, String label, String value) {
+        return (Histogram) family(name, "histogram", help, label).series()
+                .computeIfAbsent(labelKey(value), k -> new Histogram());
+    }
+
+    /** Test outcome counter (passed | failed | skipped | retried). */
+    public static Counter tests(String outcome) {
+        return counter("tests", "Test executions by outcome", "outcome", outcome);
+    }
+
+    /** Driver startup latency per browser. */
+    public static Histogram driverStartup(String browser) {
+        return histogram("webdriver_startup_seconds", "DriverFactory.createInstance latency",
+                "browser", browser);
+    }
+
+    /** BasePage wait time per outcome (satisfied | timeout). */
+    public static Histogram waits(String outcome) {
+        return histogram("wait_seconds", "Time spent in BasePage waits", "outcome", outcome);
+    }
+
+    // =========================================================================
+    //  OpenMetrics text
+    // =========================================================================
+
+    /** Renders all series in OpenMetrics text format (terminated by "# EOF"). */
+    public static String render() {
+        StringBuilder out = new StringBuilder(4096);
+        for (Family family : families.values()) {
+            out.append("# TYPE ").append(family.name()).append(' ').append(family.type()).append('\n');
+            out.append("# HELP ").append(family.name()).append(' ').append(family.help()).append('\n');
+            for (Map.Entry<String, Object> entry : family.series().entrySet()) {
+                String labels = family.label() == null || entry.getKey().isEmpty()
+                        ? ""
+                        : family.label() + "=\"" + escape(entry.getKey()) + "\"";
+                Object series = entry.getValue();
+                if (series instanceof Counter counter) {
+                    sample(out, family.name() + "_total", labels, Long.toString(counter.get()));
+                } else if (series instanceof Gauge gauge) {
+                    sample(out, family.name(), labels, Long.toString(gauge.get()));
+                } else if (series instanceof Histogram histogram) {
+                    renderHistogram(out, family.name(), labels, histogram);
+                }
+            }
+        }
+        return out.append("# EOF\n").toString();
+    }
+
+    private static void renderHistogram(StringBuilder out, String name, String labels, Histogram histogram) {
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS.length; i++) {
+            cumulative += histogram.buckets[i].sum();
+            sample(out, name + "_bucket", prefix + "le=\"" + format(BUCKETS[i]) + "\"", Long.toString(cumulative));
+        }
+        cumulative += histogram.buckets[BUCKETS.length].sum();
+        sample(out, name + "_bucket", prefix + "le=\"+Inf\"", Long.toString(cumulative));
+        sample(out, name + "_sum", labels, format(histogram.sumNanos.sum() / 1e9));
+        sample(out, name + "_count", labels, Long.toString(cumulative));
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, String value) {
+        out.append(name);
+        if (!labels.isEmpty()) {
+            out.append('{').append(labels).append('}');
+        }
+        out.append(' ').append(value).append('\n');
+    }
+
+    private static String format(double value) {
+        return Double.toString(value);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
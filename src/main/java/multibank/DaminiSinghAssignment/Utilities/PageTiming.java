@@ -0,0 +1,102 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * PageTiming
+ * ------------------------------------------------------------------
+ * One front-end performance measurement of a page after a navigation:
+ * Navigation Timing, web vitals, long tasks and resource counts, together
+ * with the budget the page object declared at the time.
+ *
+ * Metric names (keys of metrics / budgets):
+ *   ttfb, domContentLoaded, load, lcp   ms after navigation start
+ *   cls                                 largest layout-shift session window
+ *   longTasks, totalBlocking            count / sum of (duration - 50 ms)
+ *   resources, transferKb               resource entries / bytes over the wire
+ *
+ * A metric is absent when the browser does not report it (Firefox has no
+ * layout-shift / longtask entries) or when it does not belong to this
+ * navigation (softNavigation: client-side route change, so Navigation Timing
+ * and LCP still describe the first document load).
+ *
+ * @param page           logical page name (e.g. "Home", "About Us > Why Multibank?")
+ * @param browser        browser name from the session capabilities
+ * @param url            location.href when measured
+ * @param capturedAt     epoch millis
+ * @param softNavigation true if no new document was loaded for this navigation
+ * @param metrics        metric name → value
+ * @param budgets        metric name → limit (from @PerformanceBudget)
+ */
+public record PageTiming(String page, String browser, String url, long capturedAt, boolean softNavigation,
+                         Map<String, Double> metrics, Map<String, Double> budgets) {
+
+    public static final String TTFB = "ttfb";
+    public static final String DOM_CONTENT_LOADED = "domContentLoaded";
+    public static final String LOAD = "load";
+    public static final String LCP = "lcp";
+    public static final String CLS = "cls";
+    public static final String LONG_TASKS = "longTasks";
+    public static final String TOTAL_BLOCKING = "totalBlocking";
+    public static final String RESOURCES = "resources";
+    public static final String TRANSFER_KB = "transferKb";
+
+    /** Report / table order of the metrics. */
+    public static final List<String> METRICS = List.of(TTFB, DOM_CONTENT_LOADED, LOAD, LCP, CLS,
+            LONG_TASKS, TOTAL_BLOCKING, RESOURCES, TRANSFER_KB);
+
+    /**
+     * Builds a timing from the map returned by BasePage's measurement script
+     * (JavaScript numbers arrive as Long or Double; null / missing = not reported).
+     */
+    public static PageTiming fromScript(String page, String browser, Map<String, Object> raw,
+                                        Map<String, Double> budgets) {
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        for (String metric : METRICS) {
+            Object value = raw.get(metric);
+            if (value instanceof Number) {
+                metrics.put(metric, ((Number) value).doubleValue());
+            }
+        }
+        return new PageTiming(page, browser, String.valueOf(raw.get("url")), System.currentTimeMillis(),
+                Boolean.TRUE.equals(raw.get("soft")), metrics, budgets);
+    }
+
+    /**
+     * Budget breaches, e.g. "lcp 3120 > 2500". Metrics that were not measured never breach.
+     */
+    public List<String> violations() {
+        List<String> violations = new ArrayList<>();
+        budgets.forEach((metric, limit) -> {
+            Double value = metrics.get(metric);
+            if (value != null && value > limit) {
+                violations.add(metric + " " + format(value) + " > " + format(limit));
+            }
+        });
+        return violations;
+    }
+
+    /** One-line summary for logs and the report. */
+    public String summary() {
+        StringBuilder line = new StringBuilder(page).append(" [").append(browser).append("]");
+        if (softNavigation) {
+            line.append(" (soft navigation)");
+        }
+        for (String metric : METRICS) {
+            Double value = metrics.get(metric);
+            if (value != null) {
+                line.append(" | ").append(metric).append(' ').append(format(value));
+            }
+        }
+        return line.toString();
+    }
+
+    /** Integers without decimals, small values (CLS) with three. */
+    public static String format(double value) {
+        return value == Math.rint(value) ? Long.toString((long) value) : String.format(Locale.ROOT, "%.3f", value);
+    }
+}
@@ -0,0 +1,182 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * PerformanceHistory
+ * ------------------------------------------------------------------
+ * Cross-run store of PageTiming measurements and their percentile tables.
+ *
+ * Persistence:
+ *  - JSON lines under .perf-history/page-timings.jsonl (git-ignored),
+ *    one line per measurement, appended as soon as it is taken
+ *  - An unreadable line (run killed mid-write) is skipped on load
+ *
+ * Aggregation:
+ *  - Per page + browser + metric, over the newest -Dperf.history.window
+ *    measurements (default 50, i.e. roughly the last 50 deploys)
+ *  - p50 / p75 / p95 (nearest rank) plus how many samples broke the budget
+ *
+ * Flags:
+ *  - -Dperf.history.dir=...    → history location (default: .perf-history)
+ *  - -Dperf.history.window=N   → samples per page/browser in the tables
+ */
+public final class PerformanceHistory {
+
+    private static final String HISTORY_FILE = "page-timings.jsonl";
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static volatile PerformanceHistory shared;
+
+    /**
+     * One line of the percentile table.
+     *
+     * @param samples    measurements that reported this metric
+     * @param budget     limit declared by the newest measurement, or null
+     * @param overBudget samples above that limit
+     */
+    public record Row(String page, String browser, String metric, int samples,
+                      double p50, double p75, double p95, Double budget, int overBudget) {
+    }
+
+    private final Path file;
+
+    PerformanceHistory(Path file) {
+        this.file = file;
+    }
+
+    /** History in the configured directory. */
+    public static PerformanceHistory shared() {
+        PerformanceHistory history = shared;
+        if (history == null) {
+            synchronized (PerformanceHistory.class) {
+                if (shared == null) {
+                    Path dir = Paths.get(System.getProperty("perf.history.dir", ".perf-history")).toAbsolutePath();
+                    shared = new PerformanceHistory(dir.resolve(HISTORY_FILE));
+                }
+                history = shared;
+            }
+        }
+        return history;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /** Appends one measurement (parallel test threads are serialized). */
+    public synchronized void append(PageTiming timing) {
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, mapper.writeValueAsString(timing) + "\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            // Losing one sample only thins the percentile tables
+            System.out.println("Could not append to performance history " + file + ": " + e.getMessage());
+        }
+    }
+
+    /** All recorded measurements, oldest first. */
+    public synchronized List<PageTiming> load() {
+        List<PageTiming> timings = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return timings;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    timings.add(mapper.readValue(line, PageTiming.class));
+                } catch (IOException e) {
+                    // partial line from a killed run
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Performance history unreadable: " + file + " (" + e.getMessage() + ")");
+        }
+        return timings;
+    }
+
+    /** Percentile table of the stored history. */
+    public List<Row> table() {
+        return aggregate(load(), Integer.getInteger("perf.history.window", 50));
+    }
+
+    /**
+     * Percentile table over the newest {@code window} measurements of every
+     * page + browser. Rows are sorted by page, browser, then metric order.
+     */
+    public static List<Row> aggregate(List<PageTiming> timings, int window) {
+        Map<String, List<PageTiming>> byPage = new TreeMap<>();
+        for (PageTiming timing : timings) {
+            byPage.computeIfAbsent(timing.page() + "\u0000" + timing.browser(), k -> new ArrayList<>()).add(timing);
+        }
+
+        List<Row> rows = new ArrayList<>();
+        for (List<PageTiming> samples : byPage.values()) {
+            List<PageTiming> recent = samples.subList(Math.max(0, samples.size() - window), samples.size());
+            PageTiming newest = recent.get(recent.size() - 1);
+
+            for (String metric : PageTiming.METRICS) {
+                double[] values = recent.stream()
+                        .map(t -> t.metrics().get(metric))
+                        .filter(v -> v != null)
+                        .mapToDouble(Double::doubleValue)
+                        .toArray();
+                if (values.length == 0) {
+                    continue;
+                }
+                Arrays.sort(values);
+                Double budget = newest.budgets().get(metric);
+                int over = 0;
+                if (budget != null) {
+                    for (double value : values) {
+                        over += value > budget ? 1 : 0;
+                    }
+                }
+                rows.add(new Row(newest.page(), newest.browser(), metric, values.length,
+                        percentile(values, 50), percentile(values, 75), percentile(values, 95), budget, over));
+            }
+        }
+        return rows;
+    }
+
+    /** Nearest-rank percentile of sorted values. */
+    public static double percentile(double[] sorted, double percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    /**
+     * Rows as a string table (header first), shared by the console output and
+     * the HTML report.
+     */
+    public static List<String[]> asTable(List<Row> rows) {
+        List<String[]> table = new ArrayList<>();
+        table.add(new String[] {"Page", "Browser", "Metric", "n", "p50", "p75", "p95", "Budget", "Over budget"});
+        for (Row row : rows) {
+            table.add(new String[] {row.page(), row.browser(), row.metric(), Integer.toString(row.samples()),
+                    PageTiming.format(row.p50()), PageTiming.format(row.p75()), PageTiming.format(row.p95()),
+                    row.budget() == null ? "" : PageTiming.format(row.budget()),
+                    row.budget() == null ? "" : row.overBudget() + "/" + row.samples()});
+        }
+        return table;
+    }
+}
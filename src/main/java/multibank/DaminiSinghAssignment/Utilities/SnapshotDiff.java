@@ -0,0 +1,238 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SnapshotDiff
+ * --------------------------------------------------
+ * Structured comparison of captured page text against expected data.
+ *
+ * Per section it reports:
+ *  - missing : expected texts not found on the page
+ *  - extra   : page texts not present in the expected data
+ *  - changed : a missing/extra pair that is close enough to be the same text edited
+ *              (reported with its Levenshtein edit distance)
+ *  - orderMismatch : same texts, different order (only for ordered sections)
+ *
+ * Lookups use hashed multisets, so each section is compared in O(n)
+ * instead of List.contains() inside a loop (O(n²)).
+ */
+public final class SnapshotDiff {
+
+    // A missing/extra pair counts as "changed" if the edit distance is at most
+    // max(MIN_CHANGE_DISTANCE, CHANGE_RATIO * longer length)
+    private static final int MIN_CHANGE_DISTANCE = 3;
+    private static final double CHANGE_RATIO = 0.2;
+
+    private final Map<String, SectionDiff> sections;
+
+    private SnapshotDiff(Map<String, SectionDiff> sections) {
+        this.sections = sections;
+    }
+
+    /**
+     * Compares every expected section with the actual one.
+     *
+     * @param actual          section name → normalized page texts
+     * @param expected        section name → expected texts
+     * @param orderedSections sections where order matters
+     */
+    public static SnapshotDiff compare(Map<String, List<String>> actual,
+                                       Map<String, List<String>> expected,
+                                       Set<String> orderedSections) {
+        Map<String, SectionDiff> result = new LinkedHashMap<>();
+        expected.forEach((name, exp) -> result.put(name,
+                compareSection(name, actual.getOrDefault(name, List.of()), exp, orderedSections.contains(name))));
+        return new SnapshotDiff(result);
+    }
+
+    /**
+     * Builds a diff from already computed section results
+     * (e.g. a mix of cached "unchanged" sections and freshly compared ones).
+     */
+    public static SnapshotDiff of(Map<String, SectionDiff> sections) {
+        return new SnapshotDiff(new LinkedHashMap<>(sections));
+    }
+
+    /**
+     * Compares one section.
+     */
+    public static SectionDiff compareSection(String name, List<String> actual, List<String> expected,
+                                             boolean ordered) {
+        // Multiset of actual texts
+        Map<String, Integer> remaining = new HashMap<>(actual.size() * 2);
+        for (String text : actual) {
+            remaining.merge(text, 1, Integer::sum);
+        }
+
+        List<String> missing = new ArrayList<>();
+        for (String text : expected) {
+            Integer count = remaining.get(text);
+            if (count == null) {
+                missing.add(text);
+            } else if (count == 1) {
+                remaining.remove(text);
+            } else {
+                remaining.put(text, count - 1);
+            }
+        }
+
+        List<String> extra = new ArrayList<>();
+        for (String text : actual) {
+            Integer count = remaining.get(text);
+            if (count != null) {
+                extra.add(text);
+                if (count == 1) {
+                    remaining.remove(text);
+                } else {
+                    remaining.put(text, count - 1);
+                }
+            }
+        }
+
+        // Pair the closest missing/extra texts as "changed"
+        List<Change> changed = new ArrayList<>();
+        for (int i = missing.size() - 1; i >= 0; i--) {
+            String exp = missing.get(i);
+            int bestIndex = -1;
+            int bestDistance = Integer.MAX_VALUE;
+
+            for (int j = 0; j < extra.size(); j++) {
+                String act = extra.get(j);
+                int limit = Math.max(MIN_CHANGE_DISTANCE, (int) (CHANGE_RATIO * Math.max(exp.length(), act.length())));
+                int distance = editDistance(exp, act, Math.min(limit, bestDistance - 1));
+                if (distance >= 0) {
+                    bestIndex = j;
+                    bestDistance = distance;
+                }
+            }
+
+            if (bestIndex >= 0) {
+                changed.add(0, new Change(exp, extra.remove(bestIndex), bestDistance));
+                missing.remove(i);
+            }
+        }
+
+        boolean orderMismatch = ordered && missing.isEmpty() && extra.isEmpty() && changed.isEmpty()
+                && !actual.equals(expected);
+
+        return new SectionDiff(name, List.copyOf(missing), List.copyOf(extra), List.copyOf(changed),
+                orderMismatch, false);
+    }
+
+    /**
+     * Levenshtein distance with an upper bound.
+     *
+     * @return the distance, or -1 if it exceeds maxDistance
+     */
+    static int editDistance(String a, String b, int maxDistance) {
+        if (maxDistance < 0 || Math.abs(a.length() - b.length()) > maxDistance) {
+            return -1;
+        }
+
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            char ca = a.charAt(i - 1);
+
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+
+            // Every path through this row already exceeds the bound
+            if (rowMin > maxDistance) {
+                return -1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        int distance = previous[b.length()];
+        return distance <= maxDistance ? distance : -1;
+    }
+
+    /** Diff of one section (null if the section was not part of the expected data). */
+    public SectionDiff section(String name) {
+        return sections.get(name);
+    }
+
+    /** True when every section matches completely. */
+    public boolean isClean() {
+        return sections.values().stream().allMatch(SectionDiff::isClean);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("=== CONTENT SNAPSHOT DIFF ===\n");
+        sections.values().forEach(section -> sb.append(section).append('\n'));
+        return sb.toString();
+    }
+
+    // =========================================================================
+    //  Result model
+    // =========================================================================
+
+    /**
+     * Expected text that appears on the page in edited form.
+     */
+    public record Change(String expected, String actual, int editDistance) {
+    }
+
+    /**
+     * Differences of one section.
+     *
+     * unchanged = section content and expected data are identical to a previously
+     * verified run, so the comparison itself was skipped (see ContentValidationCache).
+     */
+    public record SectionDiff(String name, List<String> missing, List<String> extra,
+                              List<Change> changed, boolean orderMismatch, boolean unchanged) {
+
+        /** Result for a section that was verified earlier with identical content. */
+        public static SectionDiff verifiedUnchanged(String name) {
+            return new SectionDiff(name, List.of(), List.of(), List.of(), false, true);
+        }
+
+        /** Exact match (including order for ordered sections). */
+        public boolean isClean() {
+            return missing.isEmpty() && extra.isEmpty() && changed.isEmpty() && !orderMismatch;
+        }
+
+        /** Every expected text is present verbatim; extra page texts are tolerated. */
+        public boolean containsAllExpected() {
+            return missing.isEmpty() && changed.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            if (unchanged) {
+                return "[" + name + "] OK (verified, unchanged)";
+            }
+            if (isClean()) {
+                return "[" + name + "] OK";
+            }
+            StringBuilder sb = new StringBuilder("[" + name + "]");
+            missing.forEach(t -> sb.append("\n  - missing: ").append(t));
+            extra.forEach(t -> sb.append("\n  + extra  : ").append(t));
+            changed.forEach(c -> sb.append("\n  ~ changed (distance ").append(c.editDistance()).append("): ")
+                    .append(c.expected()).append("\n                   → ").append(c.actual()));
+            if (orderMismatch) {
+                sb.append("\n  ! order differs from expected");
+            }
+            return sb.toString();
+        }
+    }
+}
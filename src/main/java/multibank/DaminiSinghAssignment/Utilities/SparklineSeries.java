@@ -0,0 +1,57 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+/**
+ * SparklineSeries
+ * --------------------------------------------------
+ * Decoded "Last 7 days" sparkline of one Spot row.
+ *
+ * Coordinates are kept in SVG user units. Because SVG y grows downwards,
+ * a rising price is a falling y value; the helpers below already account for it.
+ *
+ * @param symbol  trading pair, e.g. "BTC-USDT"
+ * @param change  24h Change cell text of the same row (e.g. "+2.31%")
+ * @param hasSvg  true when the cell contains any SVG path/group
+ * @param points  decoded path points (empty when no path data was found)
+ */
+public record SparklineSeries(String symbol, String change, boolean hasSvg, SvgPathParser.Points points) {
+
+    /** Number of decoded points. */
+    public int pointCount() {
+        return points.size();
+    }
+
+    /**
+     * Returns true when all points share (almost) the same y value.
+     *
+     * @param epsilon tolerance in SVG user units
+     */
+    public boolean isFlat(double epsilon) {
+        double[] ys = points.ys();
+        if (ys.length == 0) {
+            return true;
+        }
+        double min = ys[0];
+        double max = ys[0];
+        for (double y : ys) {
+            min = Math.min(min, y);
+            max = Math.max(max, y);
+        }
+        return max - min <= epsilon;
+    }
+
+    /**
+     * Direction of the tail of the series.
+     *
+     * @param tailFraction portion of the series to inspect, e.g. 1/7.0 for the last 24h of 7 days
+     * @return +1 rising, -1 falling, 0 flat or not enough points
+     */
+    public int tailDirection(double tailFraction) {
+        double[] ys = points.ys();
+        if (ys.length < 2) {
+            return 0;
+        }
+        int from = Math.min(ys.length - 2, (int) Math.floor((ys.length - 1) * (1 - tailFraction)));
+        double delta = ys[from] - ys[ys.length - 1];   // inverted y axis
+        return delta == 0 ? 0 : (delta > 0 ? 1 : -1);
+    }
+}
@@ -0,0 +1,131 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+/**
+ * SpotNumberParser
+ * --------------------------------------------------
+ * Allocation-free parser for the formatted numbers shown in the Spot table.
+ *
+ * Handles values such as:
+ *   "1,234.56"   → 1234.56
+ *   "+2.31%"     → 2.31
+ *   "-0.45 %"    → -0.45
+ *   "$ 68,000"   → 68000.0
+ *   "—", "-", "" → NaN (missing value placeholder)
+ *
+ * Why not Double.parseDouble(text.replace(",", "").replace("%", ""))?
+ *  - Every replace() allocates a new String per cell.
+ *  - Parsing thousands of rows this way dominates the validation time.
+ *
+ * This parser walks the characters once and accumulates the mantissa
+ * in a long, so no intermediate objects are created.
+ */
+public final class SpotNumberParser {
+
+    // Powers of ten used to scale the accumulated mantissa
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9,
+            1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18
+    };
+
+    // Mantissa digits beyond this are ignored (long overflow guard)
+    private static final int MAX_SIGNIFICANT_DIGITS = 18;
+
+    private SpotNumberParser() {
+    }
+
+    /**
+     * Parses a formatted number from the given text.
+     *
+     * @param text cell text (may be null)
+     * @return parsed value, or NaN when the cell is empty, a placeholder
+     *         ("—", "-", "--", "N/A") or otherwise not a number
+     */
+    public static double parse(CharSequence text) {
+        if (text == null) {
+            return Double.NaN;
+        }
+
+        int len = text.length();
+        int i = 0;
+
+        // Skip leading whitespace and currency symbols
+        while (i < len && isIgnorablePrefix(text.charAt(i))) {
+            i++;
+        }
+
+        boolean negative = false;
+        if (i < len) {
+            char c = text.charAt(i);
+            if (c == '+') {
+                i++;
+            } else if (c == '-' || c == '−') {   // ASCII minus or unicode minus sign
+                negative = true;
+                i++;
+            }
+        }
+
+        long mantissa = 0;
+        int significant = 0;
+        int scale = 0;           // digits after the decimal point kept in mantissa
+        int dropped = 0;         // integer digits not kept in mantissa
+        boolean seenDigit = false;
+        boolean seenDot = false;
+
+        for (; i < len; i++) {
+            char c = text.charAt(i);
+
+            if (c >= '0' && c <= '9') {
+                seenDigit = true;
+                if (significant < MAX_SIGNIFICANT_DIGITS) {
+                    if (mantissa != 0 || c != '0') {
+                        significant++;
+                    }
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (seenDot) {
+                        scale++;
+                    }
+                } else if (!seenDot) {
+                    dropped++;
+                }
+            } else if (c == ',' && !seenDot) {
+                // thousands separator
+            } else if (c == '.' && !seenDot) {
+                seenDot = true;
+            } else {
+                break;
+            }
+        }
+
+        if (!seenDigit) {
+            return Double.NaN;
+        }
+
+        // Only a percent sign and whitespace may follow the number
+        for (; i < len; i++) {
+            char c = text.charAt(i);
+            if (c != '%' && !Character.isWhitespace(c)) {
+                return Double.NaN;
+            }
+        }
+
+        double value = mantissa;
+        if (scale > 0) {
+            value = value / (scale < POW10.length ? POW10[scale] : Math.pow(10, scale));
+        }
+        if (dropped > 0) {
+            value = value * Math.pow(10, dropped);
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Returns true when the text represents a missing value ("—", "-", blank ...).
+     */
+    public static boolean isMissing(CharSequence text) {
+        return Double.isNaN(parse(text));
+    }
+
+    private static boolean isIgnorablePrefix(char c) {
+        return Character.isWhitespace(c) || c == '$' || c == '€' || c == '£';
+    }
+}
@@ -0,0 +1,54 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * SpotRow
+ * --------------------------------------------------
+ * Raw snapshot of one row of the Spot trading table.
+ *
+ * Values are kept exactly as rendered ("1,234.56", "+2.31%", "—");
+ * numeric interpretation is done by SpotNumberParser inside SpotRowValidator.
+ *
+ * @param symbol          trading pair, e.g. "BTC-USDT"
+ * @param price           Price cell text
+ * @param change          24h Change cell text
+ * @param high            High cell text
+ * @param low             Low cell text
+ * @param changeDirection direction shown by the change cell styling:
+ *                        +1 up/green, -1 down/red, 0 unknown (see directionOf)
+ */
+public record SpotRow(String symbol,
+                      String price,
+                      String change,
+                      String high,
+                      String low,
+                      int changeDirection) {
+
+    private static final Set<String> UP_TOKENS = Set.of("up", "rise", "green", "positive", "increase");
+    private static final Set<String> DOWN_TOKENS = Set.of("down", "fall", "red", "negative", "decrease");
+
+    /**
+     * Direction shown by the class names of a change cell and its descendants.
+     *
+     * Each class name is split on '-' and '_' and only whole tokens count, so
+     * "up", "text-green" and CSS-module names like "style_down__x1Yz" match,
+     * while "style_update__a", "icon_upper" or "style_reduced" do not.
+     *
+     * @return +1 up, -1 down, 0 when neither (or both) are shown
+     */
+    public static int directionOf(String classNames) {
+        boolean up = false;
+        boolean down = false;
+        if (classNames != null) {
+            for (String className : classNames.trim().split("\\s+")) {
+                for (String token : className.toLowerCase(Locale.ROOT).split("[-_]+")) {
+                    up |= UP_TOKENS.contains(token);
+                    down |= DOWN_TOKENS.contains(token);
+                }
+            }
+        }
+        return up == down ? 0 : (up ? 1 : -1);
+    }
+}
@@ -0,0 +1,119 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * SpotRowStream
+ * --------------------------------------------------
+ * Chunk/dedup loop behind SpotSectionPage.streamSpotRows(...).
+ *
+ * A ChunkSource hands out the rows that became visible since the previous
+ * call (in the page: one async script round trip that scrolls and reads).
+ * This class:
+ *  - passes every row to the consumer as soon as its chunk arrives
+ *    (rows are never collected, so a 10,000 row table is not held in memory)
+ *  - drops rows whose symbol was already emitted; scroll steps overlap and
+ *    virtualized tables re-render rows, so the same symbol can come back
+ *    at any point of the run
+ *  - stops on the source's end flag or after a few empty chunks in a row
+ *
+ * Memory: only the set of emitted symbols is kept (one short String per
+ * unique pair), which grows with the number of pairs, not with the number
+ * of scroll steps or re-renders.
+ */
+public final class SpotRowStream {
+
+    // Consecutive empty, non-final chunks tolerated before the stream gives up
+    static final int MAX_EMPTY_CHUNKS = 3;
+
+    private SpotRowStream() {
+    }
+
+    /**
+     * Source of row chunks.
+     */
+    @FunctionalInterface
+    public interface ChunkSource {
+
+        /**
+         * @param reset true on the first call (start again from the top of the table)
+         */
+        Chunk next(boolean reset);
+    }
+
+    /**
+     * One round trip.
+     *
+     * @param rows rows not yet handed out by the source (may still repeat earlier symbols)
+     * @param end  true when scrolling no longer reveals anything
+     */
+    public record Chunk(List<SpotRow> rows, boolean end) {
+    }
+
+    /**
+     * Streams all rows of the source to the consumer, each symbol once.
+     *
+     * @return throughput statistics for the run
+     */
+    public static Stats stream(ChunkSource source, Consumer<SpotRow> consumer) {
+        Set<String> emitted = new HashSet<>();
+
+        long start = System.nanoTime();
+        int rows = 0;
+        int chunks = 0;
+        int duplicates = 0;
+        int emptyChunks = 0;
+        boolean reset = true;
+
+        while (true) {
+            Chunk chunk = source.next(reset);
+            reset = false;
+            chunks++;
+
+            for (SpotRow row : chunk.rows()) {
+                if (emitted.add(row.symbol())) {
+                    consumer.accept(row);
+                    rows++;
+                } else {
+                    duplicates++;
+                }
+            }
+
+            if (chunk.end()) {
+                break;
+            }
+            emptyChunks = chunk.rows().isEmpty() ? emptyChunks + 1 : 0;
+            if (emptyChunks >= MAX_EMPTY_CHUNKS) {
+                System.out.println("Spot stream stopped: no new rows after " + emptyChunks + " chunks");
+                break;
+            }
+        }
+
+        return new Stats(rows, chunks, duplicates, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Throughput summary of a stream run.
+     *
+     * @param rows              unique rows handed to the consumer
+     * @param chunks            source round trips
+     * @param duplicatesSkipped rows dropped because their symbol was already emitted
+     * @param elapsedMillis     wall time of the whole stream
+     */
+    public record Stats(int rows, int chunks, int duplicatesSkipped, long elapsedMillis) {
+
+        /** Rows per second (rows / elapsed time). */
+        public double rowsPerSecond() {
+            return elapsedMillis == 0 ? rows : rows * 1000.0 / elapsedMillis;
+        }
+
+        @Override
+        public String toString() {
+            return rows + " rows in " + chunks + " chunks, " + duplicatesSkipped + " duplicates skipped, "
+                    + elapsedMillis + " ms (" + String.format("%.1f", rowsPerSecond()) + " rows/sec)";
+        }
+    }
+}
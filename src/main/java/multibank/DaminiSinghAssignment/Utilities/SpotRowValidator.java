@@ -0,0 +1,163 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * SpotRowValidator
+ * --------------------------------------------------
+ * Row-invariant validation engine for Spot table data.
+ *
+ * Responsibilities:
+ *  - Parse every numeric cell once (via SpotNumberParser) into a reusable buffer
+ *  - Evaluate a precompiled set of rules against each row in a single pass
+ *  - Collect violations with enough context for the test report
+ *
+ * Default rules:
+ *  - PAIR_FORMAT      → symbol looks like "BTC-USDT"
+ *  - PRICE_PRESENT    → price is a positive number
+ *  - CHANGE_PRESENT   → 24h change is a number
+ *  - HIGH_LOW_PRESENT → high and low are positive numbers
+ *  - LOW_LE_HIGH      → low ≤ high
+ *  - PRICE_IN_RANGE   → low ≤ price ≤ high (small tolerance for live ticks)
+ *  - CHANGE_SIGN      → change sign matches the up/down styling of the cell
+ *
+ * Usage:
+ *   List<Violation> violations = SpotRowValidator.withDefaultRules().validate(rows);
+ *
+ * Thread Safety:
+ *  - A validator instance is immutable and can be shared between threads.
+ *  - All per-row mutable state lives in a RowView created per validate() call.
+ */
+public final class SpotRowValidator {
+
+    /** Precompiled pair symbol format (alphanumeric base + dash + alphanumeric quote). */
+    public static final Pattern PAIR_SYMBOL_PATTERN = Pattern.compile("[A-Z0-9]+-[A-Z0-9]+");
+
+    // Relative tolerance for price vs. high/low (live prices may tick before high/low refresh)
+    private static final double RANGE_TOLERANCE = 0.001;
+
+    private final Rule[] rules;
+
+    private SpotRowValidator(Rule[] rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Creates a validator with the standard Spot table invariants.
+     */
+    public static SpotRowValidator withDefaultRules() {
+        return new SpotRowValidator(new Rule[] {
+                new Rule("PAIR_FORMAT",
+                        row -> row.pairMatcher.reset(row.symbol).matches()),
+                new Rule("PRICE_PRESENT",
+                        row -> row.price > 0),
+                new Rule("CHANGE_PRESENT",
+                        row -> !Double.isNaN(row.change)),
+                new Rule("HIGH_LOW_PRESENT",
+                        row -> row.high > 0 && row.low > 0),
+                new Rule("LOW_LE_HIGH",
+                        row -> !(row.high > 0 && row.low > 0) || row.low <= row.high),
+                new Rule("PRICE_IN_RANGE",
+                        row -> !(row.price > 0 && row.high > 0 && row.low > 0)
+                                || (row.price >= row.low * (1 - RANGE_TOLERANCE)
+                                    && row.price <= row.high * (1 + RANGE_TOLERANCE))),
+                new Rule("CHANGE_SIGN",
+                        row -> row.direction == 0 || Double.isNaN(row.change) || row.change == 0
+                                || Math.signum(row.change) == row.direction)
+        });
+    }
+
+    /**
+     * Validates all rows in one pass.
+     *
+     * @param rows rows scraped from the Spot table
+     * @return list of violations (empty when every row satisfies every rule)
+     */
+    public List<Violation> validate(List<SpotRow> rows) {
+        List<Violation> violations = new ArrayList<>();
+        RowView view = new RowView();
+
+        for (int i = 0; i < rows.size(); i++) {
+            SpotRow row = rows.get(i);
+            view.load(row);
+
+            for (Rule rule : rules) {
+                if (!rule.check.test(view)) {
+                    violations.add(new Violation(i, row.symbol(), rule.name, describe(row)));
+                }
+            }
+        }
+        return violations;
+    }
+
+    // Only called for failing rows, so the string building never hits the happy path
+    private static String describe(SpotRow row) {
+        return "price=" + row.price()
+                + ", change=" + row.change()
+                + ", high=" + row.high()
+                + ", low=" + row.low()
+                + ", direction=" + row.changeDirection();
+    }
+
+    // =========================================================================
+    //  Rule model
+    // =========================================================================
+
+    /**
+     * Mutable, reused view of the current row.
+     * Parsed numbers live in primitive fields so evaluating rules allocates nothing.
+     */
+    static final class RowView {
+        private final Matcher pairMatcher = PAIR_SYMBOL_PATTERN.matcher("");
+
+        String symbol;
+        double price;
+        double change;
+        double high;
+        double low;
+        int direction;
+
+        void load(SpotRow row) {
+            symbol    = row.symbol() == null ? "" : row.symbol().trim();
+            price     = SpotNumberParser.parse(row.price());
+            change    = SpotNumberParser.parse(row.change());
+            high      = SpotNumberParser.parse(row.high());
+            low       = SpotNumberParser.parse(row.low());
+            direction = row.changeDirection();
+        }
+    }
+
+    @FunctionalInterface
+    interface RowCheck {
+        boolean test(RowView row);
+    }
+
+    private static final class Rule {
+        private final String name;
+        private final RowCheck check;
+
+        private Rule(String name, RowCheck check) {
+            this.name = name;
+            this.check = check;
+        }
+    }
+
+    /**
+     * A single rule violation.
+     *
+     * @param rowIndex zero-based row index in the scraped list
+     * @param symbol   trading pair of the offending row
+     * @param rule     name of the violated rule
+     * @param detail   raw cell values of the row
+     */
+    public record Violation(int rowIndex, String symbol, String rule, String detail) {
+
+        @Override
+        public String toString() {
+            return "Row " + rowIndex + " [" + symbol + "] violates " + rule + " (" + detail + ")";
+        }
+    }
+}
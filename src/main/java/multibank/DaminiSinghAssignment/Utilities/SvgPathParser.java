@@ -0,0 +1,193 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+import java.util.Arrays;
+
+/**
+ * SvgPathParser
+ * --------------------------------------------------
+ * Minimal SVG path-data ("d" attribute) parser used to decode the
+ * "Last 7 days" sparklines of the Spot table into point series.
+ *
+ * Supported commands (absolute + relative):
+ *   M/m, L/l, H/h, V/v, C/c, S/s, Q/q, T/t, A/a, Z/z
+ *
+ * For curves and arcs only the segment end point is kept: a sparkline is a
+ * sampled series, so control points are not data points.
+ *
+ * Implicit command repetition is supported ("M0,10 5,8 10,6" = move + two line-tos),
+ * which also lets polyline "points" be parsed by prefixing them with "M".
+ */
+public final class SvgPathParser {
+
+    private SvgPathParser() {
+    }
+
+    /**
+     * Parsed path as parallel coordinate arrays.
+     *
+     * @param xs x coordinates in user units
+     * @param ys y coordinates in user units (SVG y grows downwards)
+     */
+    public record Points(double[] xs, double[] ys) {
+
+        public int size() {
+            return xs.length;
+        }
+    }
+
+    /**
+     * Parses SVG path data into the list of segment end points.
+     *
+     * @param d path data, may be null or empty
+     * @return decoded points (empty when nothing could be decoded)
+     * @throws IllegalArgumentException when the path data is malformed
+     */
+    public static Points parse(String d) {
+        if (d == null || d.isBlank()) {
+            return new Points(new double[0], new double[0]);
+        }
+
+        Cursor in = new Cursor(d);
+        double[] xs = new double[16];
+        double[] ys = new double[16];
+        int n = 0;
+
+        double x = 0, y = 0;          // current point
+        double startX = 0, startY = 0; // start of current sub-path
+        char command = 0;
+
+        while (in.skipSeparators()) {
+            char c = in.peek();
+            if (Character.isLetter(c)) {
+                command = c;
+                in.pos++;
+                if (command == 'Z' || command == 'z') {
+                    x = startX;
+                    y = startY;
+                    continue;
+                }
+            } else if (command == 0) {
+                throw new IllegalArgumentException("Path data must start with a command: " + d);
+            }
+
+            boolean relative = Character.isLowerCase(command);
+            double ox = relative ? x : 0;
+            double oy = relative ? y : 0;
+
+            switch (Character.toUpperCase(command)) {
+                case 'M':
+                case 'L':
+                case 'T':
+                    x = ox + in.number();
+                    y = oy + in.number();
+                    if (command == 'M' || command == 'm') {
+                        startX = x;
+                        startY = y;
+                        // Subsequent pairs after a moveto are implicit linetos
+                        command = relative ? 'l' : 'L';
+                    }
+                    break;
+                case 'H':
+                    x = ox + in.number();
+                    break;
+                case 'V':
+                    y = oy + in.number();
+                    break;
+                case 'C':
+                    in.number(); in.number(); in.number(); in.number();
+                    x = ox + in.number();
+                    y = oy + in.number();
+                    break;
+                case 'S':
+                case 'Q':
+                    in.number(); in.number();
+                    x = ox + in.number();
+                    y = oy + in.number();
+                    break;
+                case 'A':
+                    in.number(); in.number(); in.number(); in.flag(); in.flag();
+                    x = ox + in.number();
+                    y = oy + in.number();
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported path command '" + command + "' in: " + d);
+            }
+
+            if (n == xs.length) {
+                xs = Arrays.copyOf(xs, n * 2);
+                ys = Arrays.copyOf(ys, n * 2);
+            }
+            xs[n] = x;
+            ys[n] = y;
+            n++;
+        }
+
+        return new Points(Arrays.copyOf(xs, n), Arrays.copyOf(ys, n));
+    }
+
+    // =========================================================================
+    //  Tokenizer
+    // =========================================================================
+
+    /** Character cursor over the path string; numbers are parsed in place. */
+    private static final class Cursor {
+        private final String s;
+        private int pos;
+
+        Cursor(String s) {
+            this.s = s;
+        }
+
+        char peek() {
+            return s.charAt(pos);
+        }
+
+        /** Skips whitespace and commas; returns false at end of input. */
+        boolean skipSeparators() {
+            while (pos < s.length() && (Character.isWhitespace(s.charAt(pos)) || s.charAt(pos) == ',')) {
+                pos++;
+            }
+            return pos < s.length();
+        }
+
+        /** Arc flags may be written without separators ("a1 1 0 00 10 10"). */
+        void flag() {
+            if (!skipSeparators() || (s.charAt(pos) != '0' && s.charAt(pos) != '1')) {
+                throw new IllegalArgumentException("Expected arc flag at " + pos + " in: " + s);
+            }
+            pos++;
+        }
+
+        double number() {
+            if (!skipSeparators()) {
+                throw new IllegalArgumentException("Unexpected end of path data: " + s);
+            }
+            int start = pos;
+            if (s.charAt(pos) == '+' || s.charAt(pos) == '-') {
+                pos++;
+            }
+            boolean dot = false;
+            while (pos < s.length()) {
+                char c = s.charAt(pos);
+                if (c >= '0' && c <= '9') {
+                    pos++;
+                } else if (c == '.' && !dot) {
+                    // A second '.' starts the next number ("0.5.5" = 0.5, .5)
+                    dot = true;
+                    pos++;
+                } else if ((c == 'e' || c == 'E') && pos > start) {
+                    pos++;
+                    if (pos < s.length() && (s.charAt(pos) == '+' || s.charAt(pos) == '-')) {
+                        pos++;
+                    }
+                } else {
+                    break;
+                }
+            }
+            if (pos == start) {
+                throw new IllegalArgumentException("Expected number at " + pos + " in: " + s);
+            }
+            return Double.parseDouble(s.substring(start, pos));
+        }
+    }
+}
@@ -1,13 +1,9 @@
 package multibank.DaminiSinghAssignment.Utilities;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 /**
  * TestDataLoader
  * --------------------------------------------------
@@ -23,11 +19,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  *  - Load JSON test data bundled in classpath.
  *  - Deserialize JSON into Java types using Jackson.
  *  - Provide easy reusable methods for tests needing expected input data.
+ *
+ * Loading is delegated to TestDataRepository: every dataset is discovered once,
+ * parsed once with Jackson's streaming parser and shared (immutable) afterwards.
  */
 public class TestDataLoader {
 
-    // Jackson ObjectMapper instance used for JSON parsing
-    private static final ObjectMapper mapper = new ObjectMapper();
+    // Dataset name of the Why MultiBank expected texts (file name without .json)
+    private static final String WHY_MULTILINK_DATASET = "why_multilink_expected_texts";
 
     /**
      * Loads expected text content for the "Why Multibank?" page.
@@ -44,23 +43,21 @@ public class TestDataLoader {
      * }
      *
      * @return Map<String, List<String>>
-     *         where each JSON key maps to a list of text values.
+     *         where each JSON key maps to a list of text values (read-only, shared).
      *
      * @throws IOException if JSON fails to load or parse.
+     * @throws IllegalStateException if the dataset is not on the classpath.
      */
     public static Map<String, List<String>> loadWhyMultiLinkExpectedTexts() throws IOException {
 
-        // Load JSON from classpath as InputStream
-        try (InputStream is = TestDataLoader.class
-                .getResourceAsStream("/testdata/why_multilink_expected_texts.json")) {
-
-            // Fail fast if file is missing
-            if (is == null) {
-                throw new IllegalStateException("Test data JSON not found on classpath.");
+        // Parsed on first call, served from memory afterwards
+        try {
+            return TestDataRepository.shared().get(WHY_MULTILINK_DATASET).asMap();
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
             }
-
-            // Deserialize JSON into Map<String, List<String>>
-            return mapper.readValue(is, new TypeReference<Map<String, List<String>>>() {});
+            throw e;
         }
     }
 }
@@ -0,0 +1,248 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * TestDataRepository
+ * --------------------------------------------------
+ * Indexed, memoized access to every JSON dataset under testdata/.
+ *
+ * How it works:
+ *  - Discovery runs ONCE: all *.json files under the classpath folder testdata/
+ *    (directories and jars) are indexed by name, e.g. "why_multilink_expected_texts"
+ *  - Each dataset is parsed lazily on first use and only once, even when parallel
+ *    <test> blocks ask for it at the same time (ConcurrentHashMap.computeIfAbsent)
+ *  - Parsed datasets are immutable and shared by all threads
+ *  - Parsing uses Jackson's streaming JsonParser: texts go straight into the
+ *    dataset lists, no intermediate JsonNode tree is built
+ *
+ * Supported JSON shape (top level must be an object):
+ *   {
+ *     "buttons": ["Open Live Account", ...],      → key "buttons"
+ *     "title": "Why MultiBank",                    → key "title" (single text)
+ *     "footer": { "links": ["Legal", ...] }        → key "footer.links"
+ *   }
+ *
+ * Usage:
+ *   Dataset data = TestDataRepository.shared().get("why_multilink_expected_texts");
+ *   List<String> buttons = data.texts("buttons");
+ */
+public final class TestDataRepository {
+
+    private static final String ROOT = "testdata";
+    private static final String EXTENSION = ".json";
+
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    // Dataset name → location, built once by discovery
+    private final Map<String, URL> index;
+
+    // Dataset name → parsed dataset, filled lazily
+    private final Map<String, Dataset> loaded = new ConcurrentHashMap<>();
+
+    private TestDataRepository(Map<String, URL> index) {
+        this.index = Collections.unmodifiableMap(index);
+    }
+
+    /** Lazy holder: discovery happens on first access, exactly once. */
+    private static final class Holder {
+        private static final TestDataRepository INSTANCE = discoverClasspath();
+    }
+
+    /** Repository over classpath testdata/, shared by all tests. */
+    public static TestDataRepository shared() {
+        return Holder.INSTANCE;
+    }
+
+    /** Repository over an explicit directory (tooling, offline tests). */
+    public static TestDataRepository fromDirectory(Path dir) {
+        Map<String, URL> index = new TreeMap<>();
+        try {
+            scan(dir, index);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not index test data in " + dir, e);
+        }
+        return new TestDataRepository(index);
+    }
+
+    // =========================================================================
+    //  Discovery
+    // =========================================================================
+
+    private static TestDataRepository discoverClasspath() {
+        long start = System.nanoTime();
+        Map<String, URL> index = new TreeMap<>();
+
+        try {
+            Enumeration<URL> roots = TestDataRepository.class.getClassLoader().getResources(ROOT);
+            while (roots.hasMoreElements()) {
+                URL root = roots.nextElement();
+                if ("jar".equals(root.getProtocol())) {
+                    scanJar(root.toURI(), index);
+                } else {
+                    scan(Paths.get(root.toURI()), index);
+                }
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new RuntimeException("Could not discover test data under classpath " + ROOT + "/", e);
+        }
+
+        System.out.println("Test data discovered in " + (System.nanoTime() - start) / 1_000_000 + " ms: "
+                + index.keySet());
+        return new TestDataRepository(index);
+    }
+
+    private static void scanJar(URI root, Map<String, URL> index) throws IOException {
+        FileSystem fs;
+        try {
+            fs = FileSystems.newFileSystem(root, Map.of());
+        } catch (FileSystemAlreadyExistsException e) {
+            fs = FileSystems.getFileSystem(root);
+        }
+        // Kept open: dataset URLs point into the jar and are read later
+        scan(fs.provider().getPath(root), index);
+    }
+
+    private static void scan(Path dir, Map<String, URL> index) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = dir.relativize(file).toString().replace('\\', '/');
+                if (Files.isRegularFile(file) && name.endsWith(EXTENSION)) {
+                    // First classpath entry wins, like ClassLoader.getResource
+                    index.putIfAbsent(name.substring(0, name.length() - EXTENSION.length()), file.toUri().toURL());
+                }
+            }
+        }
+    }
+
+    // =========================================================================
+    //  Access
+    // =========================================================================
+
+    /** Names of all discovered datasets (relative path without .json). */
+    public Set<String> datasetNames() {
+        return index.keySet();
+    }
+
+    /**
+     * Returns a dataset, parsing it on first use.
+     * Concurrent callers for the same name wait for the single parse in progress.
+     *
+     * @throws IllegalStateException if no dataset with that name exists
+     */
+    public Dataset get(String name) {
+        URL location = index.get(name);
+        if (location == null) {
+            throw new IllegalStateException("Test data '" + name + "' not found under " + ROOT + "/. Known: "
+                    + index.keySet());
+        }
+        return loaded.computeIfAbsent(name, n -> parse(n, location));
+    }
+
+    private static Dataset parse(String name, URL location) {
+        long start = System.nanoTime();
+        try (InputStream in = location.openStream();
+             JsonParser parser = jsonFactory.createParser(in)) {
+
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("Test data '" + name + "' must be a JSON object");
+            }
+            Map<String, List<String>> values = new LinkedHashMap<>();
+            readObject(parser, "", values);
+
+            Map<String, List<String>> frozen = new LinkedHashMap<>();
+            values.forEach((key, texts) -> frozen.put(key, List.copyOf(texts)));
+
+            System.out.println("Test data '" + name + "' loaded in " + (System.nanoTime() - start) / 1_000_000
+                    + " ms (" + frozen.size() + " keys)");
+            return new Dataset(name, Collections.unmodifiableMap(frozen));
+        } catch (IOException e) {
+            throw new RuntimeException("Could not load test data '" + name + "' from " + location, e);
+        }
+    }
+
+    /** Streams the fields of an object; the parser is positioned on START_OBJECT. */
+    private static void readObject(JsonParser parser, String prefix, Map<String, List<String>> out)
+            throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = prefix + parser.currentName();
+            JsonToken token = parser.nextToken();
+
+            if (token == JsonToken.START_OBJECT) {
+                readObject(parser, key + ".", out);
+            } else if (token == JsonToken.START_ARRAY) {
+                List<String> texts = out.computeIfAbsent(key, k -> new ArrayList<>());
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (!token.isScalarValue()) {
+                        throw new IllegalStateException("Only text arrays are supported, key '" + key + "' at "
+                                + parser.currentLocation());
+                    }
+                    if (token != JsonToken.VALUE_NULL) {
+                        texts.add(parser.getValueAsString());
+                    }
+                }
+            } else if (token == JsonToken.VALUE_NULL) {
+                out.computeIfAbsent(key, k -> new ArrayList<>());
+            } else {
+                out.computeIfAbsent(key, k -> new ArrayList<>()).add(parser.getValueAsString());
+            }
+        }
+    }
+
+    // =========================================================================
+    //  Dataset
+    // =========================================================================
+
+    /**
+     * One parsed, immutable dataset indexed by key.
+     *
+     * @param name   dataset name, e.g. "why_multilink_expected_texts"
+     * @param values key → texts, in file order
+     */
+    public record Dataset(String name, Map<String, List<String>> values) {
+
+        /** Texts of a key (empty list if the key is absent). */
+        public List<String> texts(String key) {
+            return values.getOrDefault(key, List.of());
+        }
+
+        /** Single text of a key, or null if the key is absent or empty. */
+        public String text(String key) {
+            List<String> texts = values.get(key);
+            return texts == null || texts.isEmpty() ? null : texts.get(0);
+        }
+
+        public Set<String> keys() {
+            return values.keySet();
+        }
+
+        /** Read-only map view, e.g. for SnapshotDiff / ContentValidationCache. */
+        public Map<String, List<String>> asMap() {
+            return values;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+import java.util.regex.Pattern;
+
+/**
+ * TextNormalizer
+ * --------------------------------------------------
+ * Normalizes UI text so it can be compared with expected JSON data.
+ *
+ * Rules:
+ *  - Any run of whitespace (including non-breaking / narrow spaces that
+ *    innerText keeps but getText() converts) collapses to a single space
+ *  - Leading and trailing whitespace is removed
+ *
+ * The pattern is compiled once; String.replaceAll(...) would recompile it per call.
+ */
+public final class TextNormalizer {
+
+    private static final Pattern WHITESPACE = Pattern.compile("[\\s\\u00A0\\u2007\\u202F]+");
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * @param text raw UI text (null is treated as empty)
+     * @return normalized text
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        return WHITESPACE.matcher(text).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,206 @@
+package multibank.DaminiSinghAssignment.Benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RegressionCheck
+ * ------------------------------------------------------------------
+ * Compares a suite benchmark with its baseline, key by key.
+ *
+ * A key regresses only when all three hold:
+ *   • median ratio current / baseline above 1 + threshold (-Dbench.threshold, default 0.10)
+ *   • median slower by at least minDeltaMillis (-Dbench.minDeltaMillis, default 50):
+ *     a 5 ms teardown getting 20 % slower is noise, not a regression
+ *   • a one-sided Mann-Whitney U test says "current is slower" with
+ *     p < alpha (-Dbench.alpha, default 0.05)
+ *
+ * Mann-Whitney compares ranks, not means, so one browser hiccup in an
+ * iteration does not decide the verdict. The exact U distribution is used
+ * for small samples without ties, the normal approximation (tie- and
+ * continuity-corrected) otherwise. With n samples per side the smallest
+ * exact p-value is 1 / C(2n, n): 0.05 for n = 3, so at least 4 iterations
+ * are needed to ever flag a regression.
+ */
+public final class RegressionCheck {
+
+    public enum Verdict { REGRESSION, IMPROVEMENT, UNCHANGED, NEW, INSUFFICIENT }
+
+    /**
+     * Outcome for one key.
+     *
+     * @param pValue one-sided p-value in the direction of the change (NaN if not tested)
+     */
+    public record Finding(String key, Verdict verdict, double baselineMedian, double currentMedian, double pValue) {
+
+        public double ratio() {
+            return baselineMedian == 0 ? Double.NaN : currentMedian / baselineMedian;
+        }
+
+        public String describe() {
+            double ratio = ratio();
+            String change = Double.isNaN(ratio) || Double.isInfinite(ratio) ? "    n/a"
+                    : String.format(Locale.ROOT, "%+6.1f%%", (ratio - 1) * 100);
+            return String.format(Locale.ROOT, "%-12s %-70s %9.0f → %9.0f ms  %s  p=%.4f",
+                    verdict, key, baselineMedian, currentMedian, change, pValue);
+        }
+    }
+
+    private static final int MIN_SAMPLES = 3;
+    private static final int EXACT_LIMIT = 2_500;   // m * n up to which the exact distribution is used
+
+    private final double threshold;
+    private final double alpha;
+    private final long minDeltaMillis;
+
+    public RegressionCheck(double threshold, double alpha, long minDeltaMillis) {
+        this.threshold = threshold;
+        this.alpha = alpha;
+        this.minDeltaMillis = minDeltaMillis;
+    }
+
+    /** Check configured from -Dbench.threshold, -Dbench.alpha and -Dbench.minDeltaMillis. */
+    public static RegressionCheck fromSystemProperties() {
+        return new RegressionCheck(
+                Double.parseDouble(System.getProperty("bench.threshold", "0.10")),
+                Double.parseDouble(System.getProperty("bench.alpha", "0.05")),
+                Long.getLong("bench.minDeltaMillis", 50));
+    }
+
+    /** Findings for every key of the current result, ordered by key. */
+    public List<Finding> compare(SuiteBenchmarkResult baseline, SuiteBenchmarkResult current) {
+        List<Finding> findings = new ArrayList<>();
+        Map<String, SuiteBenchmarkResult.Series> before = baseline.series();
+        current.series().forEach((key, now) -> {
+            SuiteBenchmarkResult.Series then = before.get(key);
+            if (then == null) {
+                findings.add(new Finding(key, Verdict.NEW, Double.NaN, now.median(), Double.NaN));
+                return;
+            }
+            if (then.samples().size() < MIN_SAMPLES || now.samples().size() < MIN_SAMPLES) {
+                findings.add(new Finding(key, Verdict.INSUFFICIENT, then.median(), now.median(), Double.NaN));
+                return;
+            }
+            double delta = now.median() - then.median();
+            double ratio = then.median() == 0 ? Double.POSITIVE_INFINITY : now.median() / then.median();
+            Verdict verdict = Verdict.UNCHANGED;
+            double p;
+            if (delta >= 0) {
+                p = mannWhitneyGreater(now.samples(), then.samples());
+                if (ratio > 1 + threshold && delta >= minDeltaMillis && p < alpha) {
+                    verdict = Verdict.REGRESSION;
+                }
+            } else {
+                p = mannWhitneyGreater(then.samples(), now.samples());
+                if (ratio < 1 - threshold && -delta >= minDeltaMillis && p < alpha) {
+                    verdict = Verdict.IMPROVEMENT;
+                }
+            }
+            findings.add(new Finding(key, verdict, then.median(), now.median(), p));
+        });
+        return findings;
+    }
+
+    // =========================================================================
+    //  Mann-Whitney U
+    // =========================================================================
+
+    /**
+     * One-sided p-value for "x tends to be larger than y":
+     * P(U ≥ U_observed) under the null hypothesis of equal distributions,
+     * where U counts pairs (x_i, y_j) with x_i > y_j (ties count ½).
+     */
+    static double mannWhitneyGreater(List<Long> x, List<Long> y) {
+        int m = x.size();
+        int n = y.size();
+        double u = 0;
+        boolean ties = false;
+        for (long xi : x) {
+            for (long yj : y) {
+                if (xi > yj) {
+                    u += 1;
+                } else if (xi == yj) {
+                    u += 0.5;
+                    ties = true;
+                }
+            }
+        }
+        if (!ties && (long) m * n <= EXACT_LIMIT) {
+            return exactUpperTail(m, n, (int) u);
+        }
+        return normalUpperTail(x, y, u);
+    }
+
+    /**
+     * Exact P(U ≥ u) from the number of rank arrangements per U value:
+     * count(m, n, u) = count(m - 1, n, u - n) + count(m, n - 1, u).
+     */
+    static double exactUpperTail(int m, int n, int u) {
+        // counts[j][k]: arrangements of i x-values and j y-values with U = k (rolling over i)
+        double[][] counts = new double[n + 1][m * n + 1];
+        for (int j = 0; j <= n; j++) {
+            counts[j][0] = 1;   // i = 0
+        }
+        for (int i = 1; i <= m; i++) {
+            double[][] next = new double[n + 1][m * n + 1];
+            next[0][0] = 1;
+            for (int j = 1; j <= n; j++) {
+                for (int k = 0; k <= i * j; k++) {
+                    // largest value is an x (beats all j y-values) or a y
+                    double withX = k >= j ? counts[j][k - j] : 0;
+                    next[j][k] = withX + next[j - 1][k];
+                }
+            }
+            counts = next;
+        }
+        double total = 0;
+        double tail = 0;
+        for (int k = 0; k <= m * n; k++) {
+            total += counts[n][k];
+            if (k >= u) {
+                tail += counts[n][k];
+            }
+        }
+        return tail / total;
+    }
+
+    /** Normal approximation with tie correction and continuity correction. */
+    private static double normalUpperTail(List<Long> x, List<Long> y, double u) {
+        int m = x.size();
+        int n = y.size();
+        int total = m + n;
+
+        List<Long> all = new ArrayList<>(x);
+        all.addAll(y);
+        all.sort(null);
+        double tieTerm = 0;
+        for (int i = 0; i < total; ) {
+            int j = i;
+            while (j < total && all.get(j).equals(all.get(i))) {
+                j++;
+            }
+            int t = j - i;
+            tieTerm += (double) t * t * t - t;
+            i = j;
+        }
+
+        double mean = m * n / 2.0;
+        double variance = m * n / 12.0 * ((total + 1) - tieTerm / ((double) total * (total - 1)));
+        if (variance <= 0) {
+            return 1.0;
+        }
+        double z = (u - mean - 0.5) / Math.sqrt(variance);
+        return 1 - normalCdf(z);
+    }
+
+    /** Standard normal CDF (Abramowitz-Stegun 7.1.26 erf, |error| < 1.5e-7). */
+    static double normalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1 / (1 + 0.3275911 * x);
+        double erf = 1 - t * (0.254829592 + t * (-0.284496736 + t * (1.421413741
+                + t * (-1.453152027 + t * 1.061405429)))) * Math.exp(-x * x);
+        return z >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+    }
+}
@@ -0,0 +1,98 @@
+package multibank.DaminiSinghAssignment.Benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import multibank.DaminiSinghAssignment.Listeners.PhaseTimingListener;
+
+/**
+ * Offline tests for the suite benchmark statistics, regression gate and result file.
+ */
+public class RegressionCheckTest {
+
+    private static SuiteBenchmarkResult result(Map<String, List<Long>> samples) {
+        SuiteBenchmarkResult.Builder builder = new SuiteBenchmarkResult.Builder();
+        int iterations = samples.values().iterator().next().size();
+        for (int i = 0; i < iterations; i++) {
+            int index = i;
+            List<PhaseTimingListener.TestTiming> timings = samples.entrySet().stream()
+                    .map(e -> new PhaseTimingListener.TestTiming(e.getKey(), true,
+                            Map.of(PhaseTimingListener.ASSERTIONS, e.getValue().get(index)), e.getValue().get(index)))
+                    .toList();
+            builder.addIteration(10_000, timings);
+        }
+        return builder.build("testng.xml", "", "fixture");
+    }
+
+    private static RegressionCheck.Finding finding(List<RegressionCheck.Finding> findings, String key) {
+        return findings.stream().filter(f -> f.key().equals(key)).findFirst().orElseThrow();
+    }
+
+    @Test
+    public void exactMannWhitneyTail() {
+        // Completely separated 5 vs 5: only 1 of C(10,5) = 252 arrangements is as extreme
+        Assert.assertEquals(RegressionCheck.mannWhitneyGreater(List.of(6L, 7L, 8L, 9L, 10L), List.of(1L, 2L, 3L, 4L, 5L)),
+                1 / 252.0, 1e-12);
+        Assert.assertEquals(RegressionCheck.mannWhitneyGreater(List.of(1L, 2L, 3L, 4L, 5L), List.of(6L, 7L, 8L, 9L, 10L)),
+                1.0, 1e-12);
+        // n = 3 can never reach p < 0.05
+        Assert.assertEquals(RegressionCheck.exactUpperTail(3, 3, 9), 0.05, 1e-12);
+        Assert.assertEquals(RegressionCheck.normalCdf(1.96), 0.975, 1e-4);
+    }
+
+    @Test
+    public void gateNeedsRatioDeltaAndSignificance() {
+        SuiteBenchmarkResult baseline = result(Map.of(
+                "Chrome_Tests/HomePageTest.slower", List.of(1000L, 1010L, 990L, 1005L, 995L),
+                "Chrome_Tests/HomePageTest.tiny", List.of(10L, 11L, 10L, 12L, 10L),
+                "Chrome_Tests/HomePageTest.noisy", List.of(1000L, 1600L, 900L, 1500L, 1100L),
+                "Chrome_Tests/HomePageTest.faster", List.of(2000L, 2100L, 1990L, 2050L, 2020L)));
+        SuiteBenchmarkResult current = result(Map.of(
+                "Chrome_Tests/HomePageTest.slower", List.of(1300L, 1290L, 1310L, 1280L, 1320L),
+                "Chrome_Tests/HomePageTest.tiny", List.of(20L, 21L, 22L, 20L, 23L),
+                "Chrome_Tests/HomePageTest.noisy", List.of(1200L, 1000L, 1650L, 1150L, 1550L),
+                "Chrome_Tests/HomePageTest.faster", List.of(1500L, 1510L, 1490L, 1520L, 1480L),
+                "Chrome_Tests/HomePageTest.added", List.of(500L, 500L, 500L, 500L, 500L)));
+
+        List<RegressionCheck.Finding> findings = new RegressionCheck(0.10, 0.05, 50).compare(baseline, current);
+
+        Assert.assertEquals(finding(findings, "Chrome_Tests/HomePageTest.slower/assertions").verdict(),
+                RegressionCheck.Verdict.REGRESSION);
+        Assert.assertEquals(finding(findings, "Chrome_Tests/HomePageTest.tiny/wall").verdict(),
+                RegressionCheck.Verdict.UNCHANGED, "+10 ms is below the minimum delta");
+        Assert.assertEquals(finding(findings, "Chrome_Tests/HomePageTest.noisy/wall").verdict(),
+                RegressionCheck.Verdict.UNCHANGED, "overlapping samples are not significant");
+        Assert.assertEquals(finding(findings, "Chrome_Tests/HomePageTest.faster/wall").verdict(),
+                RegressionCheck.Verdict.IMPROVEMENT);
+        Assert.assertEquals(finding(findings, "Chrome_Tests/HomePageTest.added/wall").verdict(),
+                RegressionCheck.Verdict.NEW);
+        Assert.assertEquals(finding(findings, SuiteBenchmarkResult.SUITE_WALL).verdict(),
+                RegressionCheck.Verdict.UNCHANGED);
+    }
+
+    @Test
+    public void resultFileRoundTripsWithSortedKeys() throws IOException {
+        SuiteBenchmarkResult written = result(Map.of(
+                "B_Tests/SpotSectionTest.b", List.of(300L, 100L, 200L),
+                "A_Tests/HomePageTest.a", List.of(40L, 60L, 50L)));
+        Path file = Files.createTempDirectory("bench").resolve("result.json");
+        written.write(file);
+
+        SuiteBenchmarkResult read = SuiteBenchmarkResult.read(file);
+        Assert.assertEquals(read, written);
+        SuiteBenchmarkResult.Series b = read.series().get("B_Tests/SpotSectionTest.b/wall");
+        Assert.assertEquals(b.samples(), List.of(300L, 100L, 200L), "samples keep iteration order");
+        Assert.assertEquals(b.median(), 200.0);
+        Assert.assertEquals(b.stdev(), 100.0);
+
+        String json = Files.readString(file);
+        Assert.assertTrue(json.indexOf("A_Tests/HomePageTest.a/assertions") < json.indexOf("B_Tests/SpotSectionTest.b/wall")
+                && json.indexOf("B_Tests/SpotSectionTest.b/wall") < json.indexOf(SuiteBenchmarkResult.SUITE_WALL));
+    }
+}
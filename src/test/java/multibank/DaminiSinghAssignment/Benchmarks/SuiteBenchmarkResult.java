@@ -0,0 +1,101 @@
+package multibank.DaminiSinghAssignment.Benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import multibank.DaminiSinghAssignment.Listeners.PhaseTimingListener;
+
+/**
+ * SuiteBenchmarkResult
+ * ------------------------------------------------------------------
+ * Wall-time samples of a suite benchmark, one sample per measured iteration.
+ *
+ * Series keys:
+ *   suite/wall                         whole TestNG run
+ *   <xml test>/<Class>.<method>/wall   one test, @BeforeMethod start → @AfterMethod end
+ *   <xml test>/<Class>.<method>/<phase> setup | navigation | assertions | teardown
+ *
+ * Written as indented JSON with sorted keys and inline sample arrays, so two
+ * result files (or a result and the committed baseline) diff line by line.
+ *
+ * @param suite      suite file that was run
+ * @param tests      <test> names selected (empty = whole suite)
+ * @param target     base URL the suite ran against ("fixture" for the local stand-in)
+ * @param iterations measured iterations (warm-up excluded)
+ * @param series     key → samples in ms
+ */
+public record SuiteBenchmarkResult(String suite, String tests, String target, int iterations, String javaVersion,
+                                   Map<String, Series> series) {
+
+    public static final String SUITE_WALL = "suite/wall";
+
+    private static final ObjectMapper mapper = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    /**
+     * Samples of one key with their summary statistics (ms).
+     */
+    public record Series(List<Long> samples, double median, double mean, double stdev, long min, long max) {
+
+        public static Series of(List<Long> samples) {
+            List<Long> sorted = new ArrayList<>(samples);
+            sorted.sort(null);
+            int n = sorted.size();
+            double median = n == 0 ? 0 : n % 2 == 1 ? sorted.get(n / 2)
+                    : (sorted.get(n / 2 - 1) + sorted.get(n / 2)) / 2.0;
+            double mean = sorted.stream().mapToLong(Long::longValue).average().orElse(0);
+            double variance = n < 2 ? 0
+                    : sorted.stream().mapToDouble(v -> (v - mean) * (v - mean)).sum() / (n - 1);
+            return new Series(List.copyOf(samples), median, Math.round(mean * 10) / 10.0,
+                    Math.round(Math.sqrt(variance) * 10) / 10.0,
+                    n == 0 ? 0 : sorted.get(0), n == 0 ? 0 : sorted.get(n - 1));
+        }
+    }
+
+    /**
+     * Collects iterations; per key, the values of one iteration are summed
+     * (a test running twice in one iteration counts as one sample).
+     */
+    public static final class Builder {
+        private final Map<String, List<Long>> samples = new TreeMap<>();
+        private int iterations;
+
+        public void addIteration(long suiteWallMillis, List<PhaseTimingListener.TestTiming> timings) {
+            Map<String, Long> iteration = new HashMap<>();
+            iteration.put(SUITE_WALL, suiteWallMillis);
+            for (PhaseTimingListener.TestTiming timing : timings) {
+                iteration.merge(timing.test() + "/wall", timing.wallMillis(), Long::sum);
+                timing.phaseMillis().forEach((phase, millis) ->
+                        iteration.merge(timing.test() + "/" + phase, millis, Long::sum));
+            }
+            iteration.forEach((key, millis) -> samples.computeIfAbsent(key, k -> new ArrayList<>()).add(millis));
+            iterations++;
+        }
+
+        public SuiteBenchmarkResult build(String suite, String tests, String target) {
+            Map<String, Series> series = new TreeMap<>();
+            samples.forEach((key, values) -> series.put(key, Series.of(values)));
+            return new SuiteBenchmarkResult(suite, tests, target, iterations,
+                    System.getProperty("java.version"), series);
+        }
+    }
+
+    public void write(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        mapper.writeValue(file.toFile(), this);
+    }
+
+    public static SuiteBenchmarkResult read(Path file) throws IOException {
+        return mapper.readValue(file.toFile(), SuiteBenchmarkResult.class);
+    }
+}
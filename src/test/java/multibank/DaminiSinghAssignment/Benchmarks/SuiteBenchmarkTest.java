@@ -0,0 +1,128 @@
+package multibank.DaminiSinghAssignment.Benchmarks;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+
+import multibank.DaminiSinghAssignment.Listeners.PhaseTimingListener;
+import multibank.DaminiSinghAssignment.Load.FixtureServer;
+
+/**
+ * SuiteBenchmarkTest
+ * ------------------------------------------------------------------
+ * End-to-end suite benchmark (benchmark.xml): runs a suite N times in-process
+ * against the local fixture site and gates on regressions vs a baseline.
+ *
+ *   -Dbench.suite=testng.xml        suite file to run
+ *   -Dbench.tests=Chrome_Tests      comma-separated <test> names (default: whole suite)
+ *   -Dbench.iterations=5            measured iterations (≥ 4 for the gate to ever fire)
+ *   -Dbench.warmup=1                iterations run first and discarded (driver
+ *                                   resolution, JIT, disk caches)
+ *   -Dbench.baseline=benchmarks/suite-baseline.json
+ *   -Dbench.output=target/benchmark/suite-benchmark.json
+ *   -Dbench.updateBaseline=true     also write this result as the new baseline
+ *   -Dbench.gate=false              report regressions without failing
+ *   (thresholds: see RegressionCheck)
+ *
+ * Retries are off during benchmarks (-Dretry.budget=0 unless given): a retry
+ * doubles a test's time and would make the samples depend on flakiness.
+ * The fixture is the target unless -DbaseUrl is given.
+ */
+public class SuiteBenchmarkTest {
+
+    @Test
+    public void suiteWithinBaseline() throws Exception {
+        String suite = System.getProperty("bench.suite", "testng.xml");
+        String tests = System.getProperty("bench.tests", "");
+        int iterations = Integer.getInteger("bench.iterations", 5);
+        int warmup = Integer.getInteger("bench.warmup", 1);
+        Path output = Path.of(System.getProperty("bench.output", "target/benchmark/suite-benchmark.json"));
+        Path baselineFile = Path.of(System.getProperty("bench.baseline", "benchmarks/suite-baseline.json"));
+
+        String baseUrl = System.getProperty("baseUrl");
+        FixtureServer fixture = baseUrl == null ? FixtureServer.start(0) : null;
+        if (fixture != null) {
+            System.setProperty("baseUrl", fixture.getBaseUrl());
+        }
+        boolean retryBudgetSet = System.getProperty("retry.budget") != null;
+        if (!retryBudgetSet) {
+            System.setProperty("retry.budget", "0");
+        }
+
+        SuiteBenchmarkResult.Builder builder = new SuiteBenchmarkResult.Builder();
+        try {
+            for (int i = 0; i < warmup + iterations; i++) {
+                boolean measured = i >= warmup;
+                PhaseTimingListener.drain();
+
+                long start = System.nanoTime();
+                runSuite(suite, tests);
+                long wallMillis = (System.nanoTime() - start) / 1_000_000;
+
+                List<PhaseTimingListener.TestTiming> timings = PhaseTimingListener.drain();
+                long passed = timings.stream().filter(PhaseTimingListener.TestTiming::passed).count();
+                System.out.println("Benchmark " + (measured ? "iteration " + (i - warmup + 1) + "/" + iterations
+                        : "warm-up " + (i + 1) + "/" + warmup) + ": " + wallMillis + " ms, "
+                        + timings.size() + " tests (" + passed + " passed)");
+                if (measured) {
+                    builder.addIteration(wallMillis, timings);
+                }
+            }
+        } finally {
+            if (fixture != null) {
+                System.clearProperty("baseUrl");
+                fixture.stop();
+            }
+            if (!retryBudgetSet) {
+                System.clearProperty("retry.budget");
+            }
+        }
+
+        SuiteBenchmarkResult result = builder.build(suite, tests, fixture != null ? "fixture" : baseUrl);
+        result.write(output);
+        System.out.println("Suite benchmark written to " + output.toAbsolutePath());
+
+        if (Boolean.getBoolean("bench.updateBaseline")) {
+            result.write(baselineFile);
+            System.out.println("Baseline updated: " + baselineFile.toAbsolutePath());
+            return;
+        }
+        if (!Files.exists(baselineFile)) {
+            System.out.println("No baseline at " + baselineFile + "; nothing to compare. Commit " + output
+                    + " there (or run with -Dbench.updateBaseline=true) to enable the regression gate.");
+            return;
+        }
+
+        SuiteBenchmarkResult baseline = SuiteBenchmarkResult.read(baselineFile);
+        List<RegressionCheck.Finding> findings = RegressionCheck.fromSystemProperties().compare(baseline, result);
+        System.out.println("=== SUITE BENCHMARK vs " + baselineFile + " (medians, one-sided Mann-Whitney) ===");
+        findings.forEach(finding -> System.out.println(finding.describe()));
+
+        List<String> regressions = findings.stream()
+                .filter(f -> f.verdict() == RegressionCheck.Verdict.REGRESSION)
+                .map(RegressionCheck.Finding::describe)
+                .toList();
+        if (!Boolean.parseBoolean(System.getProperty("bench.gate", "true"))) {
+            return;
+        }
+        Assert.assertTrue(regressions.isEmpty(), "Suite benchmark regressions:\n" + String.join("\n", regressions));
+    }
+
+    /** One in-process TestNG run with phase timing; its own reports go under target/benchmark/testng. */
+    private static void runSuite(String suite, String tests) {
+        TestNG testng = new TestNG();
+        testng.setTestSuites(List.of(suite));
+        if (!tests.isBlank()) {
+            testng.setTestNames(Arrays.stream(tests.split(",")).map(String::trim).toList());
+        }
+        testng.setOutputDirectory("target/benchmark/testng");
+        testng.setUseDefaultListeners(false);
+        testng.addListener(new PhaseTimingListener());
+        testng.run();
+    }
+}
@@ -0,0 +1,343 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ArtifactStore
+ * ------------------------------------------------------------------
+ * Content-addressed, compressed store for screenshot artifacts.
+ *
+ * Retries and parallel threads of the same failure produce (nearly) identical
+ * screenshots; storing each under its own name fills artifacts/ with copies.
+ *
+ * Layout:
+ *   artifacts/blobs/<sha[0..2]>/<sha256>.<png|jpg>   one file per distinct image
+ *   artifacts/index.jsonl                            logical key → blob, one line per put
+ *
+ * Logical key = <browser>_T<threadId>_<testName>_<attemptLabel>
+ * (the former file name, see ScreenshotListener.screenshotKey).
+ *
+ * Deduplication:
+ *   • Exact: blob name = SHA-256 of the screenshot bytes; an existing blob is reused
+ *   • Perceptual (optional, -Dartifacts.phash=true): 64-bit difference hash (dHash);
+ *     a screenshot within -Dartifacts.phash.distance bits (default 4) of an image
+ *     stored in this run reuses that blob
+ *
+ * Compression:
+ *   • New PNG blobs are re-encoded with maximum deflate; the smaller of original
+ *     and re-encoded bytes is kept
+ *
+ * The index is the single reference source for the Extent report:
+ * ReportRenderer resolves screenshot keys through {@link #resolve(String)}.
+ */
+public final class ArtifactStore {
+
+    private static final String INDEX_FILE = "index.jsonl";
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static volatile ArtifactStore shared;
+
+    /**
+     * One index line.
+     *
+     * @param key        logical artifact key
+     * @param blob       blob path relative to the store root, e.g. "blobs/ab/ab12….png"
+     * @param sha256     content hash of the submitted bytes
+     * @param dhash      perceptual hash (hex), null when disabled
+     * @param dedup      "new", "exact" or "perceptual"
+     * @param bytes      size of the blob on disk
+     * @param time       epoch millis
+     */
+    public record IndexEntry(String key, String blob, String sha256, String dhash, String dedup,
+                             long bytes, long time) {
+    }
+
+    /** Perceptual hash of a blob stored in this run. */
+    private record Fingerprint(long dhash, String blob) {
+    }
+
+    private final Path root;
+    private final boolean perceptual;
+    private final int perceptualDistance;
+
+    private final Map<String, IndexEntry> index = new ConcurrentHashMap<>();
+    private final List<Fingerprint> fingerprints = new ArrayList<>();
+    private volatile boolean indexLoaded;
+
+    private final AtomicLong submittedBytes = new AtomicLong();
+    private final AtomicLong storedBytes = new AtomicLong();
+    private final AtomicLong exactHits = new AtomicLong();
+    private final AtomicLong perceptualHits = new AtomicLong();
+
+    ArtifactStore(Path root, boolean perceptual, int perceptualDistance) {
+        this.root = root;
+        this.perceptual = perceptual;
+        this.perceptualDistance = perceptualDistance;
+    }
+
+    /** Store configured from system properties (-Dartifacts.dir, -Dartifacts.phash, -Dartifacts.phash.distance). */
+    public static ArtifactStore shared() {
+        if (shared == null) {
+            synchronized (ArtifactStore.class) {
+                if (shared == null) {
+                    shared = new ArtifactStore(
+                            Path.of(System.getProperty("artifacts.dir", "artifacts")),
+                            Boolean.getBoolean("artifacts.phash"),
+                            Integer.getInteger("artifacts.phash.distance", 4));
+                }
+            }
+        }
+        return shared;
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    // =========================================================================
+    //  Write path
+    // =========================================================================
+
+    /**
+     * Stores an image under a logical key.
+     *
+     * @param key       logical key (browser/thread/test/attempt)
+     * @param image     encoded image bytes
+     * @param extension "png" or "jpg" (perceptual dedup); other artifacts ("gif",
+     *                  "json.gz") are deduplicated by exact content only
+     * @return absolute path of the blob holding the image
+     */
+    public synchronized Path put(String key, byte[] image, String extension) throws IOException {
+        submittedBytes.addAndGet(image.length);
+        String sha = sha256(image);
+        String blob = "blobs/" + sha.substring(0, 2) + "/" + sha + "." + extension;
+        Path blobPath = root.resolve(blob);
+
+        boolean still = "png".equals(extension) || "jpg".equals(extension);
+        Long dhash = perceptual && still ? dHash(image) : null;
+        String dedup;
+
+        if (Files.exists(blobPath)) {
+            dedup = "exact";
+            exactHits.incrementAndGet();
+        } else {
+            String similar = dhash == null ? null : findSimilar(dhash);
+            if (similar != null) {
+                dedup = "perceptual";
+                perceptualHits.incrementAndGet();
+                blob = similar;
+                blobPath = root.resolve(blob);
+            } else {
+                dedup = "new";
+                byte[] stored = "png".equals(extension) ? recompressPng(image) : image;
+                writeAtomically(blobPath, stored);
+                storedBytes.addAndGet(stored.length);
+            }
+        }
+        if (dhash != null && "new".equals(dedup)) {
+            fingerprints.add(new Fingerprint(dhash, blob));
+        }
+
+        IndexEntry entry = new IndexEntry(key, blob, sha, dhash == null ? null : Long.toHexString(dhash),
+                dedup, Files.size(blobPath), System.currentTimeMillis());
+        appendIndex(entry);
+        index.put(key, entry);
+        return blobPath.toAbsolutePath();
+    }
+
+    private String findSimilar(long dhash) {
+        for (Fingerprint fingerprint : fingerprints) {
+            if (Long.bitCount(fingerprint.dhash() ^ dhash) <= perceptualDistance) {
+                return fingerprint.blob();
+            }
+        }
+        return null;
+    }
+
+    private static void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            try {
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private void appendIndex(IndexEntry entry) throws IOException {
+        Files.createDirectories(root);
+        byte[] line = (mapper.writeValueAsString(entry) + "\n").getBytes(StandardCharsets.UTF_8);
+        try (FileChannel channel = FileChannel.open(root.resolve(INDEX_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    // =========================================================================
+    //  Read path
+    // =========================================================================
+
+    /**
+     * Resolves a logical key to its blob (latest entry wins).
+     * Falls back to index.jsonl on disk, e.g. when rendering a report on demand.
+     *
+     * @return absolute blob path, or null if the key is unknown
+     */
+    public Path resolve(String key) {
+        IndexEntry entry = index.get(key);
+        if (entry == null && !indexLoaded) {
+            loadIndex();
+            entry = index.get(key);
+        }
+        return entry == null ? null : root.resolve(entry.blob()).toAbsolutePath();
+    }
+
+    private synchronized void loadIndex() {
+        if (indexLoaded) {
+            return;
+        }
+        Path file = root.resolve(INDEX_FILE);
+        if (Files.exists(file)) {
+            try {
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        IndexEntry entry = mapper.readValue(line, IndexEntry.class);
+                        // Entries written in this run are already current
+                        index.putIfAbsent(entry.key(), entry);
+                        if (index.get(entry.key()).time() < entry.time()) {
+                            index.put(entry.key(), entry);
+                        }
+                    } catch (IOException e) {
+                        // truncated line from an interrupted run
+                    }
+                }
+            } catch (IOException e) {
+                System.out.println("Artifact index unreadable: " + file + " (" + e.getMessage() + ")");
+            }
+        }
+        indexLoaded = true;
+    }
+
+    /** One-line summary of dedup / compression savings. */
+    public String summary() {
+        long submitted = submittedBytes.get();
+        long stored = storedBytes.get();
+        return "Artifact store: " + submitted / 1024 + " KB submitted, " + stored / 1024 + " KB stored ("
+                + (submitted == 0 ? 0 : 100 - stored * 100 / submitted) + "% saved), "
+                + exactHits.get() + " exact / " + perceptualHits.get() + " perceptual duplicate(s)";
+    }
+
+    // =========================================================================
+    //  Hashing + compression
+    // =========================================================================
+
+    static String sha256(byte[] bytes) {
+        try {
+            StringBuilder hex = new StringBuilder(64);
+            for (byte b : MessageDigest.getInstance("SHA-256").digest(bytes)) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 64-bit difference hash: image reduced to 9x8 grayscale, one bit per
+     * horizontally adjacent pixel pair (left brighter than right).
+     * Returns 0 for undecodable images.
+     */
+    static long dHash(byte[] image) throws IOException {
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(image));
+        if (decoded == null) {
+            return 0;
+        }
+        BufferedImage small = new BufferedImage(9, 8, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = small.createGraphics();
+        g.drawImage(decoded, 0, 0, 9, 8, null);
+        g.dispose();
+
+        long hash = 0;
+        for (int y = 0; y < 8; y++) {
+            for (int x = 0; x < 8; x++) {
+                int left = small.getRaster().getSample(x, y, 0);
+                int right = small.getRaster().getSample(x + 1, y, 0);
+                hash = (hash << 1) | (left > right ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    /** Re-encodes a PNG with maximum deflate; keeps the original if that is smaller. */
+    static byte[] recompressPng(byte[] png) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            return png;
+        }
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("png");
+        if (!writers.hasNext()) {
+            return png;
+        }
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(png.length);
+        try (MemoryCacheImageOutputStream stream = new MemoryCacheImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(0.0f);   // 0 = best compression for the PNG writer
+            }
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        byte[] recompressed = out.toByteArray();
+        return recompressed.length < png.length ? recompressed : png;
+    }
+}
@@ -0,0 +1,89 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import javax.imageio.ImageIO;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Offline tests for the content-addressed ArtifactStore.
+ */
+public class ArtifactStoreTest {
+
+    /** Horizontal gradient with an optional single changed pixel. */
+    private static byte[] png(boolean tweak) throws IOException {
+        BufferedImage image = new BufferedImage(120, 80, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < 120; x++) {
+            for (int y = 0; y < 80; y++) {
+                image.setRGB(x, y, (x * 2) << 16 | (y * 3) << 8);
+            }
+        }
+        if (tweak) {
+            image.setRGB(5, 5, 0xFFFFFF);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private static long blobCount(Path root) throws IOException {
+        try (Stream<Path> files = Files.walk(root.resolve("blobs"))) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+
+    @Test
+    public void identicalScreenshotsShareOneBlob() throws IOException {
+        Path root = Files.createTempDirectory("artifacts");
+        ArtifactStore store = new ArtifactStore(root, false, 4);
+
+        Path first = store.put("chrome_T23_test_FINAL_FAIL", png(false), "png");
+        Path second = store.put("chrome_T24_test_FINAL_FAIL", png(false), "png");
+
+        Assert.assertEquals(second, first);
+        Assert.assertEquals(blobCount(root), 1);
+        Assert.assertEquals(store.resolve("chrome_T24_test_FINAL_FAIL"), first);
+    }
+
+    @Test
+    public void nearDuplicatesShareBlobOnlyWithPerceptualHash() throws IOException {
+        Path exactRoot = Files.createTempDirectory("artifacts");
+        ArtifactStore exact = new ArtifactStore(exactRoot, false, 4);
+        exact.put("a", png(false), "png");
+        exact.put("b", png(true), "png");
+        Assert.assertEquals(blobCount(exactRoot), 2);
+
+        Path perceptualRoot = Files.createTempDirectory("artifacts");
+        ArtifactStore perceptual = new ArtifactStore(perceptualRoot, true, 4);
+        Path a = perceptual.put("a", png(false), "png");
+        Path b = perceptual.put("b", png(true), "png");
+        Assert.assertEquals(b, a);
+        Assert.assertEquals(blobCount(perceptualRoot), 1);
+    }
+
+    @Test
+    public void indexIsReadBackFromDisk() throws IOException {
+        Path root = Files.createTempDirectory("artifacts");
+        Path blob = new ArtifactStore(root, false, 4).put("firefox_T7_test_RETRY_ATTEMPT_0", png(false), "png");
+
+        ArtifactStore reopened = new ArtifactStore(root, false, 4);
+        Assert.assertEquals(reopened.resolve("firefox_T7_test_RETRY_ATTEMPT_0"), blob);
+        Assert.assertNull(reopened.resolve("unknown"));
+    }
+
+    @Test
+    public void storedPngIsNeverLargerThanSubmitted() throws IOException {
+        byte[] png = png(false);
+        Path blob = new ArtifactStore(Files.createTempDirectory("artifacts"), false, 4).put("k", png, "png");
+
+        Assert.assertTrue(Files.size(blob) <= png.length);
+        Assert.assertEquals(ImageIO.read(blob.toFile()).getWidth(), 120);
+    }
+}
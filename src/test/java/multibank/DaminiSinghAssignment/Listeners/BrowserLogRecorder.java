@@ -0,0 +1,349 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.zip.GZIPOutputStream;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.JsonInput;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * BrowserLogRecorder
+ * ------------------------------------------------------------------
+ * Per-session capture of what happened inside the browser, written out
+ * only when a test fails:
+ *
+ *   console     Runtime.consoleAPICalled       (console.log / warn / error …)
+ *   exceptions  Runtime.exceptionThrown        (uncaught JS errors)
+ *   network     Network.requestWillBeSent / responseReceived / loadingFailed
+ *
+ * Memory:
+ *   • Three fixed-size rings (CONSOLE / EXCEPTION / NETWORK slots) whose
+ *     entry objects are allocated once per session and overwritten in place;
+ *     long texts are truncated. A 40-minute session uses the same memory as a
+ *     40-second one.
+ *   • Events are parsed by streaming over the CDP JSON and keeping only the
+ *     listed fields (headers, stack traces, timing blocks are skipped).
+ *
+ * On failure (ScreenshotListener):
+ *   • snapshot() copies the rings on the test thread; JSON serialization and
+ *     gzip run on the background ScreenshotWriter. The file is stored next to
+ *     the screenshot under the key suffix _BROWSERLOG (.json.gz).
+ *
+ * Uses generic CDP events (no versioned binding) → Chrome / Edge only.
+ * Enabled by default; -Dbrowserlogs=false turns it off.
+ */
+public final class BrowserLogRecorder {
+
+    static final int CONSOLE_SLOTS = 200;
+    static final int EXCEPTION_SLOTS = 50;
+    static final int NETWORK_SLOTS = 500;
+    static final int MAX_TEXT = 1000;
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final ThreadLocal<BrowserLogRecorder> current = new ThreadLocal<>();
+
+    /** Object keys never descended into (large and not needed for triage). */
+    private static final Set<String> SKIPPED_KEYS = Set.of("stackTrace", "initiator", "headers", "requestHeaders",
+            "securityDetails", "timing", "postData", "postDataEntries", "preview", "redirectResponse");
+
+    /** Immutable copy of one ring entry (serialized into the failure artifact). */
+    public record LogEntry(long time, String kind, String level, String text, String url, int status,
+                           String requestId, String method) {
+    }
+
+    /** Mutable, reused ring slot. */
+    static final class Slot {
+        long time;
+        String kind;
+        String level;
+        String text;
+        String url;
+        int status;
+        String requestId;
+        String method;
+
+        void clear() {
+            kind = level = text = url = requestId = method = null;
+            status = 0;
+        }
+
+        LogEntry copy() {
+            return new LogEntry(time, kind, level, text, url, status, requestId, method);
+        }
+    }
+
+    /** Fixed-size ring of preallocated slots; the oldest slot is overwritten. */
+    static final class LogRing {
+        private final Slot[] slots;
+        private long written;
+
+        LogRing(int capacity) {
+            slots = new Slot[capacity];
+            for (int i = 0; i < capacity; i++) {
+                slots[i] = new Slot();
+            }
+        }
+
+        /** Returns the slot to fill (cleared); caller holds the ring's monitor. */
+        Slot next() {
+            Slot slot = slots[(int) (written++ % slots.length)];
+            slot.clear();
+            slot.time = System.currentTimeMillis();
+            return slot;
+        }
+
+        synchronized List<LogEntry> snapshot() {
+            int size = (int) Math.min(written, slots.length);
+            List<LogEntry> entries = new ArrayList<>(size);
+            for (long i = written - size; i < written; i++) {
+                entries.add(slots[(int) (i % slots.length)].copy());
+            }
+            return entries;
+        }
+
+        synchronized long dropped() {
+            return Math.max(0, written - slots.length);
+        }
+
+        synchronized void reset() {
+            written = 0;
+            for (Slot slot : slots) {
+                slot.clear();
+            }
+        }
+    }
+
+    /** Fields picked from one CDP event by {@link #parse}. */
+    record Parsed(String level, String text, String url, int status, String requestId, String method,
+                  String type) {
+    }
+
+    private final String label;
+    final LogRing console = new LogRing(CONSOLE_SLOTS);
+    final LogRing exceptions = new LogRing(EXCEPTION_SLOTS);
+    final LogRing network = new LogRing(NETWORK_SLOTS);
+
+    BrowserLogRecorder(String label) {
+        this.label = label;
+    }
+
+    // =========================================================================
+    //  Lifecycle (called from BaseTest)
+    // =========================================================================
+
+    /** Subscribes the current thread's Chrome/Edge session (no-op for other browsers). */
+    public static void attach(WebDriver driver) {
+        current.remove();
+        if (!Boolean.parseBoolean(System.getProperty("browserlogs", "true"))
+                || !(driver instanceof HasDevTools) || !(driver instanceof HasCapabilities)) {
+            return;
+        }
+        String browser = ((HasCapabilities) driver).getCapabilities().getBrowserName().toLowerCase();
+        if (!browser.contains("chrome") && !browser.contains("edge")) {
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            BrowserLogRecorder recorder = new BrowserLogRecorder(browser + "_T" + Thread.currentThread().getId());
+
+            devTools.addListener(new Event<>("Runtime.consoleAPICalled", in -> parse(in, "console")),
+                    recorder::onConsole);
+            devTools.addListener(new Event<>("Runtime.exceptionThrown", in -> parse(in, "exception")),
+                    recorder::onException);
+            devTools.addListener(new Event<>("Network.requestWillBeSent", in -> parse(in, "request")),
+                    p -> recorder.onNetwork("request", p));
+            devTools.addListener(new Event<>("Network.responseReceived", in -> parse(in, "response")),
+                    p -> recorder.onNetwork("response", p));
+            devTools.addListener(new Event<>("Network.loadingFailed", in -> parse(in, "failed")),
+                    p -> recorder.onNetwork("failed", p));
+
+            devTools.send(new Command<Void>("Runtime.enable", Map.of()));
+            devTools.send(new Command<Void>("Network.enable", Map.of()));
+            current.set(recorder);
+        } catch (RuntimeException e) {
+            System.out.println("Browser log capture not started: " + e.getMessage());
+        }
+    }
+
+    /** Recorder of the current thread's session, or null. */
+    public static BrowserLogRecorder current() {
+        return current.get();
+    }
+
+    /** Forgets the current thread's recorder (session quit). */
+    public static void detach() {
+        current.remove();
+    }
+
+    /** Empties the rings, e.g. before a retry on the same session. */
+    public void reset() {
+        console.reset();
+        exceptions.reset();
+        network.reset();
+    }
+
+    // =========================================================================
+    //  CDP event path
+    // =========================================================================
+
+    void onConsole(Parsed event) {
+        synchronized (console) {
+            Slot slot = console.next();
+            slot.kind = "console";
+            slot.level = event.level();
+            slot.text = event.text();
+            slot.url = event.url();
+        }
+    }
+
+    void onException(Parsed event) {
+        synchronized (exceptions) {
+            Slot slot = exceptions.next();
+            slot.kind = "exception";
+            slot.level = "error";
+            slot.text = event.text();
+            slot.url = event.url();
+        }
+    }
+
+    void onNetwork(String phase, Parsed event) {
+        synchronized (network) {
+            Slot slot = network.next();
+            slot.kind = phase;
+            slot.level = event.type();
+            slot.text = event.text();
+            slot.url = event.url();
+            slot.status = event.status();
+            slot.requestId = event.requestId();
+            slot.method = event.method();
+        }
+    }
+
+    /**
+     * Streams over a CDP event payload and keeps the fields relevant for the
+     * given event kind.
+     */
+    static Parsed parse(JsonInput input, String kind) {
+        String[] level = {null};
+        String[] url = {null};
+        String[] requestId = {null};
+        String[] method = {null};
+        String[] type = {null};
+        int[] status = {0};
+        StringBuilder text = new StringBuilder();
+
+        walk(input, "", (path, value) -> {
+            switch (path) {
+                case "type" -> {
+                    if ("console".equals(kind)) {
+                        level[0] = value;
+                    } else {
+                        type[0] = value;
+                    }
+                }
+                case "args[].value", "args[].description",
+                     "exceptionDetails.text", "exceptionDetails.exception.description",
+                     "errorText", "response.statusText" -> append(text, value);
+                case "exceptionDetails.url", "request.url", "response.url" -> url[0] = value;
+                case "exceptionDetails.lineNumber" -> append(text, "(line " + value + ")");
+                case "requestId" -> requestId[0] = value;
+                case "request.method" -> method[0] = value;
+                case "response.status" -> status[0] = (int) Double.parseDouble(value);
+                case "canceled" -> {
+                    if ("true".equals(value)) {
+                        append(text, "(canceled)");
+                    }
+                }
+                default -> {
+                    // not needed
+                }
+            }
+        });
+        return new Parsed(level[0], text.length() == 0 ? null : text.toString(), truncate(url[0]),
+                status[0], requestId[0], method[0], type[0]);
+    }
+
+    private static void append(StringBuilder text, String value) {
+        if (text.length() >= MAX_TEXT) {
+            return;
+        }
+        if (text.length() > 0) {
+            text.append(' ');
+        }
+        text.append(value, 0, Math.min(value.length(), MAX_TEXT - text.length()));
+    }
+
+    private static String truncate(String value) {
+        return value == null || value.length() <= MAX_TEXT ? value : value.substring(0, MAX_TEXT);
+    }
+
+    /** Visits every scalar as (path, value); arrays appear as "name[]". */
+    private static void walk(JsonInput input, String path, BiConsumer<String, String> scalar) {
+        switch (input.peek()) {
+            case START_MAP -> {
+                input.beginObject();
+                while (input.hasNext()) {
+                    String name = input.nextName();
+                    if (SKIPPED_KEYS.contains(name)) {
+                        input.skipValue();
+                    } else {
+                        walk(input, path.isEmpty() ? name : path + "." + name, scalar);
+                    }
+                }
+                input.endObject();
+            }
+            case START_COLLECTION -> {
+                input.beginArray();
+                while (input.hasNext()) {
+                    walk(input, path + "[]", scalar);
+                }
+                input.endArray();
+            }
+            case STRING -> scalar.accept(path, input.nextString());
+            case NUMBER -> scalar.accept(path, input.nextNumber().toString());
+            case BOOLEAN -> scalar.accept(path, Boolean.toString(input.nextBoolean()));
+            default -> input.skipValue();
+        }
+    }
+
+    // =========================================================================
+    //  Failure path
+    // =========================================================================
+
+    /** Copies the rings (test thread); the result is serialized off-thread. */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("session", label);
+        snapshot.put("capturedAt", System.currentTimeMillis());
+        snapshot.put("console", console.snapshot());
+        snapshot.put("exceptions", exceptions.snapshot());
+        snapshot.put("network", network.snapshot());
+        snapshot.put("dropped", Map.of(
+                "console", console.dropped(), "exceptions", exceptions.dropped(), "network", network.dropped()));
+        return snapshot;
+    }
+
+    /** Gzip-compressed JSON of a snapshot. */
+    public static byte[] toGzipJson(Map<String, Object> snapshot) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            mapper.writeValue(gzip, snapshot);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,97 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import org.openqa.selenium.json.Json;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Offline tests for CDP event parsing and the preallocated log rings.
+ */
+public class BrowserLogRecorderTest {
+
+    private static BrowserLogRecorder.Parsed parse(String json, String kind) {
+        return BrowserLogRecorder.parse(new Json().newInput(new StringReader(json)), kind);
+    }
+
+    @Test
+    public void consoleAndExceptionEventsKeepOnlyRelevantFields() {
+        BrowserLogRecorder.Parsed console = parse("{\"type\":\"error\",\"args\":[{\"type\":\"string\","
+                + "\"value\":\"Failed to load\"},{\"type\":\"number\",\"value\":42}],"
+                + "\"stackTrace\":{\"callFrames\":[{\"url\":\"https://x/app.js\"}]},\"timestamp\":1.7e12}", "console");
+        Assert.assertEquals(console.level(), "error");
+        Assert.assertEquals(console.text(), "Failed to load 42");
+        Assert.assertNull(console.url(), "stack traces are skipped");
+
+        BrowserLogRecorder.Parsed exception = parse("{\"timestamp\":1,\"exceptionDetails\":{\"text\":\"Uncaught\","
+                + "\"lineNumber\":12,\"url\":\"https://x/spot.js\",\"exception\":{\"description\":"
+                + "\"TypeError: rows is undefined\"}}}", "exception");
+        Assert.assertEquals(exception.text(), "Uncaught (line 12) TypeError: rows is undefined");
+        Assert.assertEquals(exception.url(), "https://x/spot.js");
+    }
+
+    @Test
+    public void networkEventsCarryRequestIdStatusAndFailure() {
+        BrowserLogRecorder.Parsed response = parse("{\"requestId\":\"7.1\",\"type\":\"XHR\",\"response\":"
+                + "{\"url\":\"https://x/api/spot\",\"status\":503,\"statusText\":\"Service Unavailable\","
+                + "\"headers\":{\"a\":\"b\"}}}", "response");
+        Assert.assertEquals(response.requestId(), "7.1");
+        Assert.assertEquals(response.status(), 503);
+        Assert.assertEquals(response.type(), "XHR");
+        Assert.assertEquals(response.url(), "https://x/api/spot");
+
+        BrowserLogRecorder.Parsed failed = parse("{\"requestId\":\"7.2\",\"type\":\"Fetch\","
+                + "\"errorText\":\"net::ERR_CONNECTION_RESET\",\"canceled\":false}", "failed");
+        Assert.assertEquals(failed.text(), "net::ERR_CONNECTION_RESET");
+    }
+
+    @Test
+    public void ringReusesSlotsAndKeepsNewestEntries() {
+        BrowserLogRecorder.LogRing ring = new BrowserLogRecorder.LogRing(3);
+        List<BrowserLogRecorder.Slot> handedOut = new ArrayList<>();
+        synchronized (ring) {
+            for (int i = 0; i < 5; i++) {
+                BrowserLogRecorder.Slot slot = ring.next();
+                slot.text = Integer.toString(i);
+                handedOut.add(slot);
+            }
+        }
+        // Writes 4 and 5 overwrite slots 1 and 2 in place
+        Assert.assertSame(handedOut.get(3), handedOut.get(0));
+        Assert.assertSame(handedOut.get(4), handedOut.get(1));
+
+        List<BrowserLogRecorder.LogEntry> entries = ring.snapshot();
+        Assert.assertEquals(entries.size(), 3);
+        Assert.assertEquals(entries.get(0).text(), "2");
+        Assert.assertEquals(entries.get(2).text(), "4");
+        Assert.assertEquals(ring.dropped(), 2);
+
+        ring.reset();
+        Assert.assertTrue(ring.snapshot().isEmpty());
+    }
+
+    @Test
+    public void snapshotIsWrittenAsGzipJson() throws IOException {
+        BrowserLogRecorder recorder = new BrowserLogRecorder("chrome_T1");
+        recorder.onConsole(new BrowserLogRecorder.Parsed("warning", "slow", null, 0, null, null, null));
+        recorder.onNetwork("failed", new BrowserLogRecorder.Parsed(null, "net::ERR_FAILED", "https://x/api", 0,
+                "9", null, "XHR"));
+
+        byte[] gzip = BrowserLogRecorder.toGzipJson(recorder.snapshot());
+        Map<?, ?> json = new ObjectMapper().readValue(new GZIPInputStream(new ByteArrayInputStream(gzip)), Map.class);
+
+        Assert.assertEquals(json.get("session"), "chrome_T1");
+        Assert.assertEquals(((List<?>) json.get("console")).size(), 1);
+        Assert.assertEquals(((Map<?, ?>) ((List<?>) json.get("network")).get(0)).get("text"), "net::ERR_FAILED");
+        Assert.assertTrue(((List<?>) json.get("exceptions")).isEmpty());
+    }
+}
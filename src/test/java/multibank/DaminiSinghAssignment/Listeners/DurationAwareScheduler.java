@@ -0,0 +1,172 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+/**
+ * DurationAwareScheduler
+ * ------------------------------------------------------------------
+ * Orders the methods of every <test> block longest-first, using the average
+ * duration recorded for each method + browser in the OutcomeHistoryStore.
+ *
+ * Why:
+ *   • Declaration order often puts a slow method last; that method then
+ *     determines the end of its block while the other workers idle.
+ *   • Longest-processing-time-first (LPT) keeps the workers evenly loaded.
+ *
+ * Dispatch:
+ *   • Browser blocks in testng.xml run with parallel="methods": TestNG hands the
+ *     next method of this order to whichever worker thread frees up first,
+ *     so the distribution adapts to actual (not predicted) durations.
+ *   • Sequential blocks simply run in LPT order (no effect on their makespan).
+ *
+ * Prediction:
+ *   • Known method     → average recorded duration + setup overhead (browser blocks)
+ *   • Unknown method   → mean of the known methods of the block (or 30 s)
+ *   • Makespan         → simulated list scheduling over the block's worker count,
+ *                        for the LPT order and for the declaration order
+ *
+ * Report (per block and for the suite): predicted vs. actual makespan.
+ *
+ * Flags:
+ *   -Dscheduler=false            keep declaration order
+ *   -Dscheduler.setupMillis=4000 per-method driver launch/quit overhead in browser blocks
+ */
+public class DurationAwareScheduler implements IMethodInterceptor, ITestListener, ISuiteListener {
+
+    private static final long UNKNOWN_DURATION_MILLIS = 30_000;
+
+    /** Prediction made for one <test> block. */
+    private record Plan(int methods, int workers, long predictedMillis, long declarationOrderMillis) {
+    }
+
+    private final Map<String, Plan> plans = new ConcurrentHashMap<>();
+    private final Map<String, Long> blockStart = new ConcurrentHashMap<>();
+    private volatile long suiteStart;
+
+    // =========================================================================
+    //  Ordering
+    // =========================================================================
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!Boolean.parseBoolean(System.getProperty("scheduler", "true")) || methods.size() < 2) {
+            return methods;
+        }
+
+        XmlTest test = context.getCurrentXmlTest();
+        Map<IMethodInstance, Long> predicted = predict(methods, test);
+
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        ordered.sort(Comparator.comparingLong((IMethodInstance m) -> predicted.get(m)).reversed());
+
+        int workers = workers(test);
+        Plan plan = new Plan(methods.size(), workers,
+                makespan(ordered, predicted, workers), makespan(methods, predicted, workers));
+        plans.put(test.getName(), plan);
+
+        System.out.println("Scheduler [" + test.getName() + "]: " + plan.methods() + " methods on "
+                + workers + " worker(s), longest first → predicted makespan " + plan.predictedMillis() / 1000
+                + " s (declaration order: " + plan.declarationOrderMillis() / 1000 + " s)");
+        return ordered;
+    }
+
+    /** Predicted duration per method: history average, unknown → block mean. */
+    private static Map<IMethodInstance, Long> predict(List<IMethodInstance> methods, XmlTest test) {
+        String browser = OutcomeHistoryListener.browser(test);
+        long setup = "-".equals(browser) ? 0 : Long.getLong("scheduler.setupMillis", 4000);
+        OutcomeHistoryStore history = OutcomeHistoryStore.shared();
+
+        Map<IMethodInstance, Long> known = new HashMap<>();
+        for (IMethodInstance method : methods) {
+            OutcomeHistoryStore.Stats stats = history.stats(OutcomeHistoryListener.testId(method.getMethod()), browser);
+            if (stats.executions() > 0) {
+                known.put(method, stats.averageDurationMillis());
+            }
+        }
+        long unknown = known.isEmpty()
+                ? UNKNOWN_DURATION_MILLIS
+                : known.values().stream().mapToLong(Long::longValue).sum() / known.size();
+
+        Map<IMethodInstance, Long> predicted = new HashMap<>();
+        for (IMethodInstance method : methods) {
+            predicted.put(method, known.getOrDefault(method, unknown) + setup);
+        }
+        return predicted;
+    }
+
+    /** Worker threads available to the block's methods. */
+    private static int workers(XmlTest test) {
+        XmlSuite.ParallelMode mode = test.getParallel();
+        return mode == XmlSuite.ParallelMode.METHODS ? Math.max(1, test.getThreadCount()) : 1;
+    }
+
+    /**
+     * List scheduling: each method (in the given order) goes to the worker that
+     * frees up first — the same way TestNG's pool dispatches them.
+     */
+    static <T> long makespan(List<T> order, Map<T, Long> durations, int workers) {
+        PriorityQueue<Long> finish = new PriorityQueue<>();
+        for (int i = 0; i < workers; i++) {
+            finish.add(0L);
+        }
+        long makespan = 0;
+        for (T item : order) {
+            long end = finish.poll() + durations.get(item);
+            finish.add(end);
+            makespan = Math.max(makespan, end);
+        }
+        return makespan;
+    }
+
+    // =========================================================================
+    //  Predicted vs. actual
+    // =========================================================================
+
+    @Override
+    public void onStart(ISuite suite) {
+        suiteStart = System.currentTimeMillis();
+        plans.clear();
+    }
+
+    @Override
+    public void onStart(ITestContext context) {
+        blockStart.put(context.getName(), System.currentTimeMillis());
+    }
+
+    @Override
+    public void onFinish(ITestContext context) {
+        Plan plan = plans.get(context.getName());
+        Long start = blockStart.get(context.getName());
+        if (plan == null || start == null) {
+            return;
+        }
+        System.out.println("Scheduler [" + context.getName() + "]: predicted " + plan.predictedMillis() / 1000
+                + " s, actual " + (System.currentTimeMillis() - start) / 1000 + " s");
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (plans.isEmpty()) {
+            return;
+        }
+        // Blocks run side by side (parallel="tests"), so the slowest block is the suite's makespan
+        long predicted = plans.values().stream().mapToLong(Plan::predictedMillis).max().orElse(0);
+        System.out.println("Scheduler [suite]: predicted makespan " + predicted / 1000 + " s, actual "
+                + (System.currentTimeMillis() - suiteStart) / 1000 + " s");
+    }
+}
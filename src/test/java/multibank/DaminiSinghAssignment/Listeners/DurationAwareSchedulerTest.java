@@ -0,0 +1,33 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Offline tests for the makespan prediction of DurationAwareScheduler.
+ */
+public class DurationAwareSchedulerTest {
+
+    private static final Map<String, Long> DURATIONS = Map.of(
+            "short1", 10L, "short2", 10L, "short3", 10L, "short4", 10L, "long", 40L);
+
+    @Test
+    public void singleWorkerRunsEverythingBackToBack() {
+        Assert.assertEquals(DurationAwareScheduler.makespan(
+                List.of("short1", "long", "short2"), DURATIONS, 1), 60);
+    }
+
+    @Test
+    public void longestFirstBeatsSlowMethodDeclaredLast() {
+        List<String> declared = List.of("short1", "short2", "short3", "short4", "long");
+        List<String> longestFirst = List.of("long", "short1", "short2", "short3", "short4");
+
+        // Declared: the long method starts after two short ones on each worker → 20 + 40
+        Assert.assertEquals(DurationAwareScheduler.makespan(declared, DURATIONS, 2), 60);
+        // Longest first: the long method runs while the other worker takes all short ones
+        Assert.assertEquals(DurationAwareScheduler.makespan(longestFirst, DURATIONS, 2), 40);
+    }
+}
@@ -49,10 +49,20 @@ public class ExtentManager {
      *   - System info metadata
      */
     private static void createInstance() {
+        extent = createReports(defaultReportPath());
+    }
+
+    /** Default report location: <project_root>/target/extent-report/ExtentReport.html */
+    public static String defaultReportPath() {
+        return System.getProperty("user.dir") + "/target/extent-report/ExtentReport.html";
+    }
 
-        // Define output path for the Extent Report
-        String reportPath = System.getProperty("user.dir") +
-                "/target/extent-report/ExtentReport.html";
+    /**
+     * Creates a NEW, fully configured ExtentReports writing to the given path.
+     * Used by the singleton above and by ReportRenderer when the report is
+     * rendered from the event log.
+     */
+    public static ExtentReports createReports(String reportPath) {
 
         // HTML reporter responsible for Spark-style Extent report UI
         ExtentSparkReporter spark = new ExtentSparkReporter(reportPath);
@@ -60,11 +70,12 @@ public class ExtentManager {
         spark.config().setDocumentTitle("Multibank Test Execution");
 
         // Main ExtentReports object
-        extent = new ExtentReports();
-        extent.attachReporter(spark);
+        ExtentReports reports = new ExtentReports();
+        reports.attachReporter(spark);
 
         // Useful metadata included in the report
-        extent.setSystemInfo("Project", "Multibank Trading");
-        extent.setSystemInfo("Tester", "Damini Singh");
+        reports.setSystemInfo("Project", "Multibank Trading");
+        reports.setSystemInfo("Tester", "Damini Singh");
+        return reports;
     }
 }
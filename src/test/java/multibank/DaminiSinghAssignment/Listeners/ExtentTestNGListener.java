@@ -1,7 +1,7 @@
 package multibank.DaminiSinghAssignment.Listeners;
 
-import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
+import java.util.concurrent.atomic.AtomicLong;
+
 import com.aventstack.extentreports.Status;
 import org.testng.*;
 
@@ -12,23 +12,27 @@ import org.testng.*;
  * the test lifecycle.
  *
  * Key responsibilities:
- *   • Create ExtentTest entries when tests start.
- *   • Log PASS/FAIL/SKIP statuses in real time.
+ *   • Record test start / PASS / FAIL / SKIP events in real time.
  *   • Attach screenshots on failure (optional).
- *   • Flush the final HTML report after suite completion.
+ *   • Render the final HTML report after suite completion.
+ *
+ * Events are appended to ReportEventLog (JSON lines on disk) instead of being
+ * kept in an in-memory ExtentReports object; ReportRenderer turns the log into
+ * the HTML report at suite end. Memory stays flat for long runs, and a killed
+ * run can still be rendered from the partial log (see ReportRenderer.main).
  *
  * Pattern used: ThreadLocal ensures proper reporting in parallel runs.
  */
 public class ExtentTestNGListener implements ITestListener, ISuiteListener {
 
-    /** Shared ExtentReports instance (singleton via ExtentManager) */
-    private static ExtentReports extent = ExtentManager.getInstance();
+    /** Unique id per test execution (retries of the same method get new ids) */
+    private static final AtomicLong testCounter = new AtomicLong();
 
     /**
-     * ThreadLocal ExtentTest ensures each running test thread
-     * maintains its own dedicated report entry.
+     * ThreadLocal test id ensures each running test thread
+     * writes to its own dedicated report entry.
      */
-    private static ThreadLocal<ExtentTest> testThread = new ThreadLocal<>();
+    private static ThreadLocal<String> testThread = new ThreadLocal<>();
 
     // ============================================================
     // SUITE LEVEL EVENTS
@@ -36,14 +40,55 @@ public class ExtentTestNGListener implements ITestListener, ISuiteListener {
 
     @Override
     public void onStart(ISuite suite) {
-        // Called when the entire suite starts running
-        // Can be used to initialize suite-level reporting if needed
+        // Open (truncate) the event log for this run
+        ReportEventLog.open(ReportEventLog.defaultPath())
+                .append(event("suiteStart", null, suite.getName(), null, null, null), true);
     }
 
     @Override
     public void onFinish(ISuite suite) {
-        // Flush writes all logs to the final HTML report
-        extent.flush();
+        ReportEventLog log = ReportEventLog.current();
+        if (log == null) {
+            return;
+        }
+        log.append(event("suiteEnd", null, suite.getName(), null, null, null), true);
+
+        // All screenshots referenced by the report must be on disk first
+        ScreenshotWriter.shared().drain();
+
+        // Sync + close the log, then render the final HTML report from it
+        log.close();
+        ReportRenderer.render(log.getFile(), ExtentManager.defaultReportPath());
+    }
+
+    /**
+     * Builds an event stamped with the current thread and time.
+     */
+    private static ReportEventLog.Event event(String type, String testId, String name,
+                                              String category, Status status, String message) {
+        return new ReportEventLog.Event(type, testId, name, category,
+                status == null ? null : status.name(), message,
+                Thread.currentThread().getName(), System.currentTimeMillis());
+    }
+
+    /**
+     * Appends an event for the current test thread.
+     * Test boundaries (start / end) are written through to the file immediately.
+     */
+    private static void record(String type, Status status, String message, boolean flushNow) {
+        ReportEventLog log = ReportEventLog.current();
+        String testId = testThread.get();
+        if (log != null && testId != null) {
+            log.append(event(type, testId, null, null, status, message), flushNow);
+        }
+    }
+
+    /**
+     * Adds a step log line to the current test's report entry
+     * (buffered per thread, written at the latest when the test ends).
+     */
+    public static void log(Status status, String message) {
+        record("log", status, message, false);
     }
 
     // ============================================================
@@ -52,23 +97,26 @@ public class ExtentTestNGListener implements ITestListener, ISuiteListener {
 
     /**
      * Called when a test method begins.
-     * Creates a new ExtentTest object and assigns it to the ThreadLocal.
+     * Records a testStart event and assigns the test id to the ThreadLocal.
      */
     @Override
     public void onTestStart(ITestResult result) {
         String testName = result.getMethod().getMethodName();
-
-        ExtentTest test = extent.createTest(testName)
-                // Assign category based on <test name=""> from TestNG XML
-                .assignCategory(result.getTestContext().getCurrentXmlTest().getName());
-
-        testThread.set(test);
+        String testId = testName + "#" + testCounter.incrementAndGet();
+        testThread.set(testId);
+
+        ReportEventLog log = ReportEventLog.current();
+        if (log != null) {
+            // Category based on <test name=""> from TestNG XML
+            log.append(event("testStart", testId, testName,
+                    result.getTestContext().getCurrentXmlTest().getName(), null, null), true);
+        }
     }
 
     /** Log PASS status */
     @Override
     public void onTestSuccess(ITestResult result) {
-        testThread.get().log(Status.PASS, "Test passed");
+        record("testEnd", Status.PASS, "Test passed", true);
     }
 
     /**
@@ -77,29 +125,22 @@ public class ExtentTestNGListener implements ITestListener, ISuiteListener {
      */
     @Override
     public void onTestFailure(ITestResult result) {
-        ExtentTest test = testThread.get();
-
-        test.log(Status.FAIL, "Test failed: " + result.getThrowable());
-
         // ---- Screenshot Handling (if available) ----
-        String browser = result.getTestContext().getCurrentXmlTest().getParameter("browser");
-        long threadId = Thread.currentThread().getId();
-        String testName = result.getMethod().getMethodName();
-
-        /**
-         * Screenshot filename format generated by ScreenshotListener:
-         *   artifacts/<browser>_T<threadId>_<testName>_FINAL_FAIL.png
-         */
-        String screenshotPath =
-                "artifacts/" + browser + "_T" + threadId + "_" + testName + "_FINAL_FAIL.png";
-
-        test.addScreenCaptureFromPath(screenshotPath);
+        // Logical key from ScreenshotListener; resolved to its blob by ReportRenderer
+        String screenshotKey = ScreenshotListener.screenshotKey(result, "FINAL_FAIL");
+
+        record("screenshot", null, screenshotKey, false);
+        // Failure screencast GIF (-Dscreencast=true); unresolved keys are skipped by the renderer
+        record("screenshot", null, ScreenshotListener.screencastKey(result, "FINAL_FAIL"), false);
+        // Console / network log (gzip JSON) as a download link
+        record("attachment", null, ScreenshotListener.browserLogKey(result, "FINAL_FAIL"), false);
+        record("testEnd", Status.FAIL, "Test failed: " + result.getThrowable(), true);
     }
 
     /** Log SKIP status */
     @Override
     public void onTestSkipped(ITestResult result) {
-        testThread.get().log(Status.SKIP, "Test skipped");
+        record("testEnd", Status.SKIP, "Test skipped", true);
     }
 
     @Override
@@ -120,6 +161,6 @@ public class ExtentTestNGListener implements ITestListener, ISuiteListener {
 
     @Override
     public void onFinish(ITestContext context) {
-        // Not used; suite-level onFinish already flushes report
+        // Not used; suite-level onFinish already renders the report
     }
 }
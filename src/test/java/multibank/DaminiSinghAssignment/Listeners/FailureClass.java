@@ -0,0 +1,103 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+
+/**
+ * FailureClass
+ * ------------------------------------------------------------------
+ * Coarse classification of a test outcome, stored in the outcome history
+ * and used by RetryAnalyzer to tell transient from deterministic failures.
+ *
+ * Transient (worth a retry):
+ *   TIMEOUT, STALE_ELEMENT, INTERCEPTED, SESSION, NETWORK
+ *
+ * Deterministic (a retry would fail the same way):
+ *   ASSERTION, NO_SUCH_ELEMENT, OTHER
+ *
+ * Driver reuse on retry (allowsDriverReuse):
+ *   TIMEOUT, STALE_ELEMENT, INTERCEPTED → page timing issue, the session is fine
+ *   SESSION, NETWORK and everything else → the retry gets a fresh browser
+ *
+ * The ordinal is persisted (one byte per record) → only append new constants.
+ */
+public enum FailureClass {
+
+    NONE(false, false),
+    ASSERTION(false, false),
+    TIMEOUT(true, true),
+    STALE_ELEMENT(true, true),
+    INTERCEPTED(true, true),
+    NO_SUCH_ELEMENT(false, false),
+    SESSION(true, false),
+    NETWORK(true, false),
+    OTHER(false, false);
+
+    private final boolean transientFailure;
+    private final boolean driverReusable;
+
+    FailureClass(boolean transientFailure, boolean driverReusable) {
+        this.transientFailure = transientFailure;
+        this.driverReusable = driverReusable;
+    }
+
+    /** True when the failure is typically caused by timing / environment, not by the product. */
+    public boolean isTransient() {
+        return transientFailure;
+    }
+
+    /** True when a retry may keep the (healthy) browser session and only reset its state. */
+    public boolean allowsDriverReuse() {
+        return driverReusable;
+    }
+
+    /**
+     * Classifies a failure by its exception and causes (outermost match wins).
+     *
+     * @param error test throwable, null for a passed / skipped test
+     */
+    public static FailureClass classify(Throwable error) {
+        if (error == null) {
+            return NONE;
+        }
+        for (Throwable t = error; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof TimeoutException || t instanceof SocketTimeoutException) {
+                return TIMEOUT;
+            }
+            if (t instanceof StaleElementReferenceException) {
+                return STALE_ELEMENT;
+            }
+            if (t instanceof ElementClickInterceptedException || t instanceof ElementNotInteractableException) {
+                return INTERCEPTED;
+            }
+            if (t instanceof NoSuchElementException) {
+                return NO_SUCH_ELEMENT;
+            }
+            if (t instanceof NoSuchSessionException || t instanceof SessionNotCreatedException) {
+                return SESSION;
+            }
+            if (t instanceof UnknownHostException || t instanceof ConnectException) {
+                return NETWORK;
+            }
+            if (t instanceof AssertionError) {
+                return ASSERTION;
+            }
+        }
+        return OTHER;
+    }
+
+    /** Decodes a persisted ordinal (unknown values → OTHER). */
+    static FailureClass fromOrdinal(int ordinal) {
+        FailureClass[] values = values();
+        return ordinal >= 0 && ordinal < values.length ? values[ordinal] : OTHER;
+    }
+}
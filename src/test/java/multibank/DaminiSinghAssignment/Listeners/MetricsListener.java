@@ -0,0 +1,108 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import com.sun.net.httpserver.HttpServer;
+
+import multibank.DaminiSinghAssignment.Utilities.Metrics;
+
+/**
+ * MetricsListener
+ * ------------------------------------------------------------------
+ * Counts test outcomes into the Metrics registry and, when -Dmetrics.port is
+ * set, serves the registry as OpenMetrics text while the suite runs:
+ *
+ *   mvn test -Dmetrics.port=9464
+ *   curl http://localhost:9464/metrics
+ *
+ * Scrapes are answered by one daemon thread; test threads only touch
+ * LongAdders, so a scrape never blocks a test.
+ *
+ * At suite end the final snapshot is written to target/metrics.txt
+ * (also without a port) and the server is stopped.
+ */
+public class MetricsListener implements ITestListener, ISuiteListener {
+
+    static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    private HttpServer server;
+
+    /**
+     * Starts an OpenMetrics endpoint at http://127.0.0.1:port/metrics (port 0 = any free port).
+     */
+    public static HttpServer startServer(int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext("/metrics", exchange -> {
+            byte[] body = Metrics.render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "metrics-http");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+        return server;
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        Integer port = Integer.getInteger("metrics.port");
+        if (port == null || server != null) {
+            return;
+        }
+        try {
+            server = startServer(port);
+            System.out.println("OpenMetrics endpoint: http://localhost:" + server.getAddress().getPort() + "/metrics");
+        } catch (IOException e) {
+            System.out.println("Metrics endpoint not started on port " + port + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        Metrics.tests("passed").increment();
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        Metrics.tests("failed").increment();
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        // A retried failure is reported as SKIP with wasRetried() = true
+        Metrics.tests(result.wasRetried() ? "retried" : "skipped").increment();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Path snapshot = Path.of(System.getProperty("user.dir"), "target", "metrics.txt");
+        try {
+            Files.createDirectories(snapshot.getParent());
+            Files.writeString(snapshot, Metrics.render());
+            System.out.println("Metrics snapshot: " + snapshot);
+        } catch (IOException e) {
+            System.out.println("Metrics snapshot not written: " + e.getMessage());
+        }
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlTest;
+
+/**
+ * OutcomeHistoryListener
+ * ------------------------------------------------------------------
+ * Records every test execution (including retried attempts) into the
+ * OutcomeHistoryStore and prints a flake report at suite end.
+ *
+ * Recorded per execution:
+ *   test id (Class.method), browser, attempt, duration, status, FailureClass
+ *
+ * Retried attempts are reported by TestNG as SKIP with wasRetried() = true;
+ * they are stored as the failures they actually were.
+ */
+public class OutcomeHistoryListener implements ITestListener, ISuiteListener {
+
+    /** Stable test id used as history key: simple class name + method. */
+    static String testId(ITestResult result) {
+        return testId(result.getMethod());
+    }
+
+    static String testId(ITestNGMethod method) {
+        return method.getRealClass().getSimpleName() + "." + method.getMethodName();
+    }
+
+    /** Browser parameter of the <test> block ("-" for browser-less tests). */
+    static String browser(ITestResult result) {
+        return browser(result.getTestContext().getCurrentXmlTest());
+    }
+
+    static String browser(XmlTest test) {
+        String browser = test.getParameter("browser");
+        return browser == null ? "-" : browser;
+    }
+
+    /**
+     * Attempt index of this execution: 0 = first run.
+     * For a retried result the analyzer has already been incremented.
+     */
+    private static int attempt(ITestResult result) {
+        Object analyzer = result.getMethod().getRetryAnalyzer(result);
+        if (!(analyzer instanceof RetryAnalyzer)) {
+            return 0;
+        }
+        int attempt = ((RetryAnalyzer) analyzer).getAttempt();
+        return result.wasRetried() ? attempt - 1 : attempt;
+    }
+
+    private static void record(ITestResult result, byte status) {
+        FailureClass failureClass = status == OutcomeHistoryStore.FAIL
+                ? FailureClass.classify(result.getThrowable())
+                : FailureClass.NONE;
+        OutcomeHistoryStore.shared().append(new OutcomeHistoryStore.Outcome(
+                testId(result), browser(result), attempt(result), status, failureClass,
+                result.getStartMillis(), result.getEndMillis() - result.getStartMillis()));
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        RetryAnalyzer.resetSuiteBudget();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result, OutcomeHistoryStore.PASS);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result, OutcomeHistoryStore.FAIL);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        record(result, result.wasRetried() ? OutcomeHistoryStore.FAIL : OutcomeHistoryStore.SKIP);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        OutcomeHistoryStore store = OutcomeHistoryStore.shared();
+        store.force();
+
+        System.out.println("=== FLAKE REPORT (" + store.size() + " recorded executions, " + store.getFile() + ") ===");
+        store.flakeReport(10).forEach(System.out::println);
+    }
+}
@@ -0,0 +1,278 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OutcomeHistoryStore
+ * ------------------------------------------------------------------
+ * Local, append-only, memory-mapped history of every test outcome.
+ *
+ * File layout (.test-history/outcomes.bin, git-ignored):
+ *
+ *   header  (16 bytes) : int MAGIC, int VERSION, long recordCount
+ *   records (128 bytes each, fixed size):
+ *     0   long  start time (epoch millis)
+ *     8   long  duration (millis)
+ *     16  int   attempt (0 = first execution, 1 = first retry, ...)
+ *     20  byte  status (0 pass, 1 fail, 2 skip)
+ *     21  byte  FailureClass ordinal
+ *     22  byte  testId length
+ *     23  byte  browser length
+ *     24  88 B  testId  (UTF-8, truncated)
+ *     112 16 B  browser (UTF-8, truncated)
+ *
+ * Crash safety:
+ *   • A record is written first, the header count is bumped afterwards;
+ *     a torn record beyond the count is simply ignored on the next open.
+ *   • The mapping lives in the OS page cache, so data survives a JVM kill;
+ *     force() at suite end also makes it survive a machine crash.
+ *
+ * On open, all records are folded into per (testId, browser) statistics,
+ * which RetryAnalyzer and the flake report read without touching the file.
+ */
+public final class OutcomeHistoryStore {
+
+    private static final int MAGIC = 0x4F55_5443;   // "OUTC"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 128;
+    private static final int TEST_ID_BYTES = 88;
+    private static final int BROWSER_BYTES = 16;
+    private static final int GROWTH_RECORDS = 1024;
+
+    public static final byte PASS = 0;
+    public static final byte FAIL = 1;
+    public static final byte SKIP = 2;
+
+    private static volatile OutcomeHistoryStore shared;
+
+    /**
+     * One outcome.
+     */
+    public record Outcome(String testId, String browser, int attempt, byte status,
+                          FailureClass failureClass, long startMillis, long durationMillis) {
+    }
+
+    /**
+     * Aggregated history of one test on one browser.
+     *
+     * @param runs               first executions (attempt 0)
+     * @param failures           failed executions (any attempt)
+     * @param transientFailures  failures classified as transient
+     * @param recoveredRetries   retries that passed after a failed attempt (= flaky evidence)
+     * @param failedRetries      retries that failed again (= deterministic evidence)
+     * @param totalDurationMillis sum of all execution durations
+     * @param executions         all executions (any attempt)
+     */
+    public record Stats(int runs, int failures, int transientFailures, int recoveredRetries,
+                        int failedRetries, long totalDurationMillis, int executions,
+                        FailureClass lastFailureClass) {
+
+        static final Stats EMPTY = new Stats(0, 0, 0, 0, 0, 0, 0, FailureClass.NONE);
+
+        /** Share of runs that only passed after a retry. */
+        public double flakeRate() {
+            return runs == 0 ? 0 : (double) recoveredRetries / runs;
+        }
+
+        /** True when history shows failures that went away on retry. */
+        public boolean isFlaky() {
+            return recoveredRetries > 0;
+        }
+
+        public long averageDurationMillis() {
+            return executions == 0 ? 0 : totalDurationMillis / executions;
+        }
+
+        Stats add(Outcome outcome, Outcome previous) {
+            boolean failed = outcome.status() == FAIL;
+            boolean retryOfFailure = outcome.attempt() > 0 && previous != null && previous.status() == FAIL;
+            return new Stats(
+                    runs + (outcome.attempt() == 0 ? 1 : 0),
+                    failures + (failed ? 1 : 0),
+                    transientFailures + (failed && outcome.failureClass().isTransient() ? 1 : 0),
+                    recoveredRetries + (retryOfFailure && outcome.status() == PASS ? 1 : 0),
+                    failedRetries + (retryOfFailure && failed ? 1 : 0),
+                    totalDurationMillis + outcome.durationMillis(),
+                    executions + (outcome.status() == SKIP ? 0 : 1),
+                    failed ? outcome.failureClass() : lastFailureClass);
+        }
+    }
+
+    private final Path file;
+    private final FileChannel channel;
+    private MappedByteBuffer map;
+    private long count;
+
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+    private final Map<String, Outcome> lastOutcome = new ConcurrentHashMap<>();
+
+    private OutcomeHistoryStore(Path file) throws IOException {
+        this.file = file;
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+
+        if (channel.size() < HEADER_SIZE) {
+            remap(HEADER_SIZE + (long) GROWTH_RECORDS * RECORD_SIZE);
+            map.putInt(0, MAGIC);
+            map.putInt(4, VERSION);
+            map.putLong(8, 0);
+        } else {
+            remap(channel.size());
+            if (map.getInt(0) != MAGIC || map.getInt(4) != VERSION) {
+                throw new IllegalStateException("Not an outcome history file (or unsupported version): " + file);
+            }
+        }
+
+        // Records beyond the file size can only come from a torn header write
+        long capacity = (map.capacity() - HEADER_SIZE) / RECORD_SIZE;
+        this.count = Math.min(map.getLong(8), capacity);
+        for (long i = 0; i < count; i++) {
+            fold(read(i));
+        }
+    }
+
+    /** Opens (or creates) a history file. */
+    public static OutcomeHistoryStore open(Path file) {
+        try {
+            return new OutcomeHistoryStore(file);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not open outcome history " + file, e);
+        }
+    }
+
+    /** Shared store under -Dhistory.dir (default .test-history). */
+    public static OutcomeHistoryStore shared() {
+        if (shared == null) {
+            synchronized (OutcomeHistoryStore.class) {
+                if (shared == null) {
+                    shared = open(Path.of(System.getProperty("history.dir", ".test-history"), "outcomes.bin"));
+                }
+            }
+        }
+        return shared;
+    }
+
+    private void remap(long size) throws IOException {
+        map = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    private static String key(String testId, String browser) {
+        return testId + "|" + browser;
+    }
+
+    private void fold(Outcome outcome) {
+        String key = key(outcome.testId(), outcome.browser());
+        Outcome previous = lastOutcome.put(key, outcome);
+        stats.merge(key, Stats.EMPTY.add(outcome, previous), (old, ignored) -> old.add(outcome, previous));
+    }
+
+    // =========================================================================
+    //  Append / read
+    // =========================================================================
+
+    /** Appends one outcome and updates the in-memory statistics. */
+    public synchronized void append(Outcome outcome) {
+        try {
+            long offset = HEADER_SIZE + count * RECORD_SIZE;
+            if (offset + RECORD_SIZE > map.capacity()) {
+                remap(map.capacity() + (long) GROWTH_RECORDS * RECORD_SIZE);
+            }
+            int pos = (int) offset;
+            map.putLong(pos, outcome.startMillis());
+            map.putLong(pos + 8, outcome.durationMillis());
+            map.putInt(pos + 16, outcome.attempt());
+            map.put(pos + 20, outcome.status());
+            map.put(pos + 21, (byte) outcome.failureClass().ordinal());
+            map.put(pos + 22, putString(pos + 24, outcome.testId(), TEST_ID_BYTES));
+            map.put(pos + 23, putString(pos + 112, outcome.browser(), BROWSER_BYTES));
+
+            // Commit: the record only becomes visible once the count covers it
+            count++;
+            map.putLong(8, count);
+        } catch (IOException e) {
+            System.out.println("Outcome history append failed: " + e.getMessage());
+            return;
+        }
+        fold(outcome);
+    }
+
+    private byte putString(int pos, String value, int max) {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, max);
+        map.put(pos, bytes, 0, length);
+        return (byte) length;
+    }
+
+    private Outcome read(long index) {
+        int pos = (int) (HEADER_SIZE + index * RECORD_SIZE);
+        byte[] testId = new byte[map.get(pos + 22) & 0xFF];
+        byte[] browser = new byte[map.get(pos + 23) & 0xFF];
+        map.get(pos + 24, testId);
+        map.get(pos + 112, browser);
+        return new Outcome(
+                new String(testId, StandardCharsets.UTF_8),
+                new String(browser, StandardCharsets.UTF_8),
+                map.getInt(pos + 16),
+                map.get(pos + 20),
+                FailureClass.fromOrdinal(map.get(pos + 21)),
+                map.getLong(pos),
+                map.getLong(pos + 8));
+    }
+
+    /** Flushes the mapping to disk. */
+    public synchronized void force() {
+        map.force();
+    }
+
+    // =========================================================================
+    //  Queries
+    // =========================================================================
+
+    /** History of a test on a browser (EMPTY when never run). */
+    public Stats stats(String testId, String browser) {
+        return stats.getOrDefault(key(testId, browser), Stats.EMPTY);
+    }
+
+    public synchronized long size() {
+        return count;
+    }
+
+    /**
+     * Flake report: tests with the highest flake rate first.
+     *
+     * @param limit max lines
+     */
+    public List<String> flakeReport(int limit) {
+        List<Map.Entry<String, Stats>> entries = new ArrayList<>(stats.entrySet());
+        entries.removeIf(e -> e.getValue().failures() == 0);
+        entries.sort(Comparator.comparingDouble((Map.Entry<String, Stats> e) -> e.getValue().flakeRate())
+                .reversed().thenComparing(Map.Entry::getKey));
+
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, Stats> entry : entries.subList(0, Math.min(limit, entries.size()))) {
+            Stats s = entry.getValue();
+            lines.add(String.format("%-70s runs=%d failures=%d (transient %d) recovered-by-retry=%d "
+                            + "failed-retries=%d flake-rate=%.0f%% last=%s",
+                    entry.getKey().replace('|', ' '), s.runs(), s.failures(), s.transientFailures(),
+                    s.recoveredRetries(), s.failedRetries(), s.flakeRate() * 100, s.lastFailureClass()));
+        }
+        return lines;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+}
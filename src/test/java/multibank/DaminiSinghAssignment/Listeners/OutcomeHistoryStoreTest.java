@@ -0,0 +1,97 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.io.IOException;
+import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Offline tests for OutcomeHistoryStore and FailureClass.
+ */
+public class OutcomeHistoryStoreTest {
+
+    private static OutcomeHistoryStore.Outcome outcome(String test, int attempt, byte status, FailureClass cls) {
+        return new OutcomeHistoryStore.Outcome(test, "chrome", attempt, status, cls, System.currentTimeMillis(), 1200);
+    }
+
+    @Test
+    public void statisticsSurviveReopen() throws IOException {
+        Path file = Files.createTempDirectory("history").resolve("outcomes.bin");
+
+        OutcomeHistoryStore store = OutcomeHistoryStore.open(file);
+        // flaky: fail → pass on retry
+        store.append(outcome("HomePageTest.flaky", 0, OutcomeHistoryStore.FAIL, FailureClass.TIMEOUT));
+        store.append(outcome("HomePageTest.flaky", 1, OutcomeHistoryStore.PASS, FailureClass.NONE));
+        // deterministic: fail → fail on retry
+        store.append(outcome("HomePageTest.broken", 0, OutcomeHistoryStore.FAIL, FailureClass.ASSERTION));
+        store.append(outcome("HomePageTest.broken", 1, OutcomeHistoryStore.FAIL, FailureClass.ASSERTION));
+        store.force();
+
+        OutcomeHistoryStore reopened = OutcomeHistoryStore.open(file);
+        Assert.assertEquals(reopened.size(), 4);
+
+        OutcomeHistoryStore.Stats flaky = reopened.stats("HomePageTest.flaky", "chrome");
+        Assert.assertTrue(flaky.isFlaky());
+        Assert.assertEquals(flaky.flakeRate(), 1.0);
+        Assert.assertEquals(flaky.transientFailures(), 1);
+
+        OutcomeHistoryStore.Stats broken = reopened.stats("HomePageTest.broken", "chrome");
+        Assert.assertFalse(broken.isFlaky());
+        Assert.assertEquals(broken.failedRetries(), 1);
+        Assert.assertEquals(broken.lastFailureClass(), FailureClass.ASSERTION);
+
+        Assert.assertEquals(reopened.stats("HomePageTest.flaky", "firefox").runs(), 0);
+        Assert.assertEquals(reopened.flakeReport(10).size(), 2);
+    }
+
+    @Test
+    public void fileGrowsBeyondInitialMapping() throws IOException {
+        Path file = Files.createTempDirectory("history").resolve("outcomes.bin");
+        OutcomeHistoryStore store = OutcomeHistoryStore.open(file);
+        for (int i = 0; i < 3000; i++) {
+            store.append(outcome("Test.t" + (i % 7), 0, OutcomeHistoryStore.PASS, FailureClass.NONE));
+        }
+
+        OutcomeHistoryStore reopened = OutcomeHistoryStore.open(file);
+        Assert.assertEquals(reopened.size(), 3000);
+        Assert.assertEquals(reopened.stats("Test.t0", "chrome").runs(), 429);
+    }
+
+    @Test
+    public void longIdentifiersAreTruncatedNotCorrupted() throws IOException {
+        Path file = Files.createTempDirectory("history").resolve("outcomes.bin");
+        String longId = "X".repeat(200);
+        OutcomeHistoryStore.open(file).append(outcome(longId, 0, OutcomeHistoryStore.PASS, FailureClass.NONE));
+
+        Assert.assertEquals(OutcomeHistoryStore.open(file).stats("X".repeat(88), "chrome").runs(), 1);
+    }
+
+    @Test
+    public void failuresAreClassifiedThroughCauses() {
+        Assert.assertEquals(FailureClass.classify(null), FailureClass.NONE);
+        Assert.assertEquals(FailureClass.classify(new AssertionError("x")), FailureClass.ASSERTION);
+        Assert.assertEquals(FailureClass.classify(new TimeoutException("x")), FailureClass.TIMEOUT);
+        Assert.assertEquals(FailureClass.classify(new StaleElementReferenceException("x")), FailureClass.STALE_ELEMENT);
+        Assert.assertEquals(FailureClass.classify(
+                new WebDriverException(new UnknownHostException("x"))), FailureClass.NETWORK);
+        Assert.assertEquals(FailureClass.classify(new IllegalStateException("x")), FailureClass.OTHER);
+        Assert.assertTrue(FailureClass.TIMEOUT.isTransient());
+        Assert.assertFalse(FailureClass.ASSERTION.isTransient());
+    }
+
+    @Test
+    public void onlyPageTimingFailuresKeepTheDriverOnRetry() {
+        Assert.assertTrue(FailureClass.TIMEOUT.allowsDriverReuse());
+        Assert.assertTrue(FailureClass.STALE_ELEMENT.allowsDriverReuse());
+        Assert.assertTrue(FailureClass.INTERCEPTED.allowsDriverReuse());
+        Assert.assertFalse(FailureClass.SESSION.allowsDriverReuse());
+        Assert.assertFalse(FailureClass.NETWORK.allowsDriverReuse());
+        Assert.assertFalse(FailureClass.ASSERTION.allowsDriverReuse());
+    }
+}
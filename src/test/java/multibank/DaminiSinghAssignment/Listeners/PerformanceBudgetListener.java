@@ -0,0 +1,72 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import com.aventstack.extentreports.Status;
+
+import multibank.DaminiSinghAssignment.PageObjects.BasePage;
+import multibank.DaminiSinghAssignment.Utilities.PageTiming;
+import multibank.DaminiSinghAssignment.Utilities.PerformanceHistory;
+
+/**
+ * PerformanceBudgetListener
+ * ------------------------------------------------------------------
+ * Connects BasePage.capturePerformance(...) measurements to test results.
+ *
+ * After every test method:
+ *   • The measurements taken on the test's thread (its @BeforeMethod navigation
+ *     included) are logged into the test's report entry: INFO when within
+ *     budget, WARNING with the breached limits otherwise.
+ *   • -Dperf.budgets=fail turns a breach of a passed test into a failure
+ *     (AssertionError listing the breaches); the default "warn" only reports.
+ *
+ * At suite end the cross-run percentile table (PerformanceHistory) is printed;
+ * ReportRenderer adds the same table to the HTML report.
+ */
+public class PerformanceBudgetListener implements IInvokedMethodListener, ISuiteListener {
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        List<String> breaches = new ArrayList<>();
+        for (PageTiming timing : BasePage.drainCapturedTimings()) {
+            List<String> violations = timing.violations();
+            if (violations.isEmpty()) {
+                ExtentTestNGListener.log(Status.INFO, "Page performance: " + timing.summary());
+            } else {
+                ExtentTestNGListener.log(Status.WARNING, "Page performance over budget: " + timing.summary()
+                        + " | " + String.join(", ", violations));
+                violations.forEach(v -> breaches.add(timing.page() + ": " + v));
+            }
+        }
+
+        if (!breaches.isEmpty() && result.getStatus() == ITestResult.SUCCESS
+                && "fail".equalsIgnoreCase(System.getProperty("perf.budgets", "warn"))) {
+            result.setStatus(ITestResult.FAILURE);
+            result.setThrowable(new AssertionError("Performance budget exceeded: " + String.join("; ", breaches)));
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        PerformanceHistory history = PerformanceHistory.shared();
+        List<PerformanceHistory.Row> rows = history.table();
+        if (rows.isEmpty()) {
+            return;
+        }
+        System.out.println("=== PAGE PERFORMANCE (p50 / p75 / p95, last "
+                + Integer.getInteger("perf.history.window", 50) + " runs per page, " + history.getFile() + ") ===");
+        for (String[] row : PerformanceHistory.asTable(rows)) {
+            System.out.println(String.format("%-32s %-8s %-17s %4s %8s %8s %8s %8s %11s", (Object[]) row));
+        }
+    }
+}
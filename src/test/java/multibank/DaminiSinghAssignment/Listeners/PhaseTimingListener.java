@@ -0,0 +1,150 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+/**
+ * PhaseTimingListener
+ * ------------------------------------------------------------------
+ * Splits the wall time of every test into phases for the suite benchmark
+ * (SuiteBenchmarkTest), which registers it on its nested TestNG runs:
+ *
+ *   setup        @BeforeMethod (browser launch, configuration)
+ *   navigation   from BaseTest's phase("navigation") mark to the end of
+ *                @BeforeMethod (base URL load + landing-page measurement)
+ *   assertions   the @Test method itself (page interactions + checks)
+ *   teardown     @AfterMethod (driver quit)
+ *
+ * Phases are timed on the test's own thread (config and test methods of one
+ * test always share it), so parallel methods do not mix. Outside a benchmark
+ * the listener is not registered and phase(...) does nothing.
+ */
+public class PhaseTimingListener implements IInvokedMethodListener {
+
+    public static final String SETUP = "setup";
+    public static final String NAVIGATION = "navigation";
+    public static final String ASSERTIONS = "assertions";
+    public static final String TEARDOWN = "teardown";
+
+    /** Phase order in tables and result files. */
+    public static final List<String> PHASES = List.of(SETUP, NAVIGATION, ASSERTIONS, TEARDOWN);
+
+    /**
+     * Phase durations of one test execution.
+     *
+     * @param test        "<xml test>/<Class>.<method>"
+     * @param passed      whether the test method passed
+     * @param phaseMillis phase → ms (phases that did not run are absent)
+     * @param wallMillis  start of @BeforeMethod to end of @AfterMethod
+     */
+    public record TestTiming(String test, boolean passed, Map<String, Long> phaseMillis, long wallMillis) {
+    }
+
+    /** Running phase clock of the test on this thread. */
+    private static final class Clock {
+        private final Map<String, Long> nanos = new LinkedHashMap<>();
+        private final long startNanos = System.nanoTime();
+        private long endNanos = startNanos;
+        private String phase;
+        private long phaseStart;
+        private String test;
+        private boolean passed;
+
+        void switchTo(String next) {
+            long now = System.nanoTime();
+            if (phase != null) {
+                nanos.merge(phase, now - phaseStart, Long::sum);
+                endNanos = now;
+            }
+            phase = next;
+            phaseStart = now;
+        }
+
+        TestTiming toTiming() {
+            Map<String, Long> millis = new LinkedHashMap<>();
+            for (String name : PHASES) {
+                Long value = nanos.get(name);
+                if (value != null) {
+                    millis.put(name, value / 1_000_000);
+                }
+            }
+            return new TestTiming(test, passed, millis, (endNanos - startNanos) / 1_000_000);
+        }
+    }
+
+    private static final ThreadLocal<Clock> clock = new ThreadLocal<>();
+    private static final ConcurrentLinkedQueue<Clock> finished = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Marks the start of a phase inside the running configuration method,
+     * e.g. phase(NAVIGATION) in BaseTest before loading the base URL.
+     */
+    public static void phase(String name) {
+        Clock current = clock.get();
+        if (current != null && current.phase != null) {
+            current.switchTo(name);
+        }
+    }
+
+    /**
+     * Returns and forgets the timings of all tests finished so far.
+     * Call after the run has completed (teardown durations are final then).
+     */
+    public static List<TestTiming> drain() {
+        List<TestTiming> timings = new ArrayList<>();
+        Clock done;
+        while ((done = finished.poll()) != null) {
+            timings.add(done.toTiming());
+        }
+        return timings;
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult result) {
+        ITestNGMethod testMethod = method.getTestMethod();
+        Clock current = clock.get();
+
+        if (testMethod.isBeforeMethodConfiguration()) {
+            // First @BeforeMethod of a new test starts its clock; further ones continue it
+            if (current == null || current.test != null) {
+                current = new Clock();
+                clock.set(current);
+            }
+            current.switchTo(SETUP);
+        } else if (method.isTestMethod()) {
+            if (current == null || current.test != null) {
+                current = new Clock();
+                clock.set(current);
+            }
+            current.switchTo(ASSERTIONS);
+        } else if (testMethod.isAfterMethodConfiguration() && current != null) {
+            current.switchTo(TEARDOWN);
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        Clock current = clock.get();
+        if (current == null) {
+            return;
+        }
+        ITestNGMethod testMethod = method.getTestMethod();
+        if (testMethod.isBeforeMethodConfiguration() || testMethod.isAfterMethodConfiguration()) {
+            current.switchTo(null);
+        } else if (method.isTestMethod()) {
+            current.switchTo(null);
+            current.test = result.getTestContext().getName() + "/"
+                    + result.getTestClass().getRealClass().getSimpleName() + "." + testMethod.getMethodName();
+            current.passed = result.isSuccess();
+            finished.add(current);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.TestNG;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+/**
+ * Offline test: phase split of a nested TestNG run (no browser).
+ */
+public class PhaseTimingListenerTest {
+
+    /** Stand-in for a BaseTest subclass; only run by the nested TestNG below. */
+    public static class SampleTest {
+
+        @BeforeMethod
+        public void setUp() throws InterruptedException {
+            Thread.sleep(30);
+            PhaseTimingListener.phase(PhaseTimingListener.NAVIGATION);
+            Thread.sleep(60);
+        }
+
+        @Test
+        public void checks() throws InterruptedException {
+            Thread.sleep(90);
+        }
+
+        @AfterMethod
+        public void tearDown() throws InterruptedException {
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    public void phasesFollowTheConfigurationMethods() {
+        PhaseTimingListener.drain();
+        TestNG testng = new TestNG();
+        testng.setTestClasses(new Class<?>[] {SampleTest.class});
+        testng.setUseDefaultListeners(false);
+        testng.setVerbose(0);
+        testng.addListener(new PhaseTimingListener());
+        testng.run();
+
+        List<PhaseTimingListener.TestTiming> timings = PhaseTimingListener.drain();
+        Assert.assertEquals(timings.size(), 1);
+        PhaseTimingListener.TestTiming timing = timings.get(0);
+        Assert.assertTrue(timing.test().endsWith("/SampleTest.checks"), timing.test());
+        Assert.assertTrue(timing.passed());
+
+        Map<String, Long> phases = timing.phaseMillis();
+        Assert.assertEquals(List.copyOf(phases.keySet()), PhaseTimingListener.PHASES);
+        assertAround(phases.get(PhaseTimingListener.SETUP), 30);
+        assertAround(phases.get(PhaseTimingListener.NAVIGATION), 60);
+        assertAround(phases.get(PhaseTimingListener.ASSERTIONS), 90);
+        assertAround(phases.get(PhaseTimingListener.TEARDOWN), 20);
+        Assert.assertTrue(timing.wallMillis() >= 200, "wall " + timing.wallMillis());
+    }
+
+    private static void assertAround(long millis, long slept) {
+        Assert.assertTrue(millis >= slept && millis < slept + 150, millis + " ms for a " + slept + " ms phase");
+    }
+}
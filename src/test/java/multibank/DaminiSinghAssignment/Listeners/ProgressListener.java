@@ -0,0 +1,109 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * ProgressListener
+ * ------------------------------------------------------------------
+ * Feeds test start / pass / fail / retry / skip events into a ProgressServer,
+ * so a long cross-browser run can be followed live instead of waiting for
+ * the Extent report at the end:
+ *
+ *   mvn test -Dprogress.port=8090
+ *   open http://localhost:8090/        (or: curl -N http://localhost:8090/events)
+ *
+ * Disabled (no server, no cost) unless -Dprogress.port is set.
+ */
+public class ProgressListener implements ITestListener, ISuiteListener {
+
+    private ProgressServer server;
+
+    private final AtomicInteger passed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final AtomicInteger retried = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+
+    @Override
+    public void onStart(ISuite suite) {
+        Integer port = Integer.getInteger("progress.port");
+        if (port == null || server != null) {
+            return;
+        }
+        try {
+            server = ProgressServer.start(port);
+            System.out.println("Live progress: http://localhost:" + server.getPort() + "/");
+            publish("suiteStart", null, null, suite.getName());
+        } catch (IOException e) {
+            System.out.println("Progress server not started on port " + port + ": " + e.getMessage());
+        }
+    }
+
+    private void publish(String type, ITestResult result, String message) {
+        publish(type, OutcomeHistoryListener.testId(result), OutcomeHistoryListener.browser(result), message);
+    }
+
+    private void publish(String type, String test, String browser, String message) {
+        if (server != null) {
+            server.publish(new ProgressServer.Event(type, test, browser, message,
+                    passed.get(), failed.get(), retried.get(), skipped.get(), System.currentTimeMillis()));
+        }
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        if (server != null) {
+            publish("testStart", result, null);
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        passed.incrementAndGet();
+        if (server != null) {
+            publish("pass", result, null);
+        }
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        failed.incrementAndGet();
+        if (server != null) {
+            publish("fail", result, message(result));
+        }
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        // A retried failure is reported as SKIP with wasRetried() = true
+        boolean retry = result.wasRetried();
+        (retry ? retried : skipped).incrementAndGet();
+        if (server != null) {
+            publish(retry ? "retry" : "skip", result, message(result));
+        }
+    }
+
+    private static String message(ITestResult result) {
+        Throwable error = result.getThrowable();
+        if (error == null) {
+            return null;
+        }
+        String text = error.getClass().getSimpleName() + (error.getMessage() == null ? "" : ": " + error.getMessage());
+        return text.length() > 300 ? text.substring(0, 300) + "…" : text;
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (server == null) {
+            return;
+        }
+        publish("suiteEnd", null, null, suite.getName());
+        server.stop();
+        server = null;
+    }
+}
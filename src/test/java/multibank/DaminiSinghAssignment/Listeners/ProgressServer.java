@@ -0,0 +1,277 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * ProgressServer
+ * ------------------------------------------------------------------
+ * Local HTTP server that streams run progress as server-sent events (SSE).
+ *
+ *   GET /         minimal live HTML view (counters + event table)
+ *   GET /events   text/event-stream, one JSON "data:" line per event
+ *
+ * Path of an event:
+ *
+ *   test thread ──offer──▶ inbound queue ──dispatcher──▶ per-viewer queue ──▶ viewer socket
+ *
+ *   • publish() only offers to a bounded queue: it never blocks and never
+ *     touches a socket. A full queue drops the event (counted).
+ *   • The dispatcher thread serializes the event, keeps the last REPLAY
+ *     events for viewers that connect later, and offers it to every
+ *     viewer's own bounded queue.
+ *   • Each viewer is written by its own daemon thread, so a slow or stalled
+ *     viewer only loses its own events; other viewers and the tests are
+ *     unaffected. Idle streams get a comment heartbeat every 15 s.
+ */
+public final class ProgressServer {
+
+    private static final int INBOUND_CAPACITY = 4096;
+    private static final int VIEWER_CAPACITY = 1024;
+    private static final int REPLAY = 500;
+    private static final long HEARTBEAT_SECONDS = 15;
+    private static final long STOP_GRACE_MS = 2000;
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    /**
+     * One progress event.
+     *
+     * @param type    suiteStart | testStart | pass | fail | retry | skip | suiteEnd
+     * @param test    Class.method (null for suite events)
+     * @param browser browser parameter of the <test> block
+     * @param message failure message / suite name
+     * @param passed  running totals at the time of the event
+     */
+    public record Event(String type, String test, String browser, String message,
+                        int passed, int failed, int retried, int skipped, long time) {
+    }
+
+    private final HttpServer server;
+    private final BlockingQueue<Event> inbound = new ArrayBlockingQueue<>(INBOUND_CAPACITY);
+    private final Set<BlockingQueue<String>> viewers = ConcurrentHashMap.newKeySet();
+    private final Deque<String> replay = new ArrayDeque<>(REPLAY);
+    private final ExecutorService viewerThreads;
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    private final AtomicLong droppedInbound = new AtomicLong();
+    private final AtomicLong droppedForViewers = new AtomicLong();
+
+    private ProgressServer(int port) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        this.viewerThreads = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "progress-viewer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/events", this::stream);
+        server.createContext("/", this::page);
+        server.setExecutor(viewerThreads);
+        server.start();
+
+        this.dispatcher = new Thread(this::dispatchLoop, "progress-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    /** Starts a server on the given port (0 = any free port). */
+    public static ProgressServer start(int port) throws IOException {
+        return new ProgressServer(port);
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    // =========================================================================
+    //  Producer side (test threads)
+    // =========================================================================
+
+    /** Hands an event to the dispatcher; never blocks. */
+    public void publish(Event event) {
+        if (!inbound.offer(event)) {
+            droppedInbound.incrementAndGet();
+        }
+    }
+
+    // =========================================================================
+    //  Dispatcher
+    // =========================================================================
+
+    private void dispatchLoop() {
+        while (running) {
+            Event event;
+            try {
+                event = inbound.poll(HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (event == null) {
+                continue;
+            }
+            String frame;
+            try {
+                frame = "event: " + event.type() + "\ndata: " + mapper.writeValueAsString(event) + "\n\n";
+            } catch (JsonProcessingException e) {
+                continue;
+            }
+            // Same lock as viewer registration: a new viewer gets each frame exactly once
+            synchronized (replay) {
+                if (replay.size() == REPLAY) {
+                    replay.pollFirst();
+                }
+                replay.addLast(frame);
+                for (BlockingQueue<String> viewer : viewers) {
+                    if (!viewer.offer(frame)) {
+                        droppedForViewers.incrementAndGet();
+                    }
+                }
+            }
+        }
+    }
+
+    // =========================================================================
+    //  HTTP handlers (viewer threads)
+    // =========================================================================
+
+    private void stream(HttpExchange exchange) throws IOException {
+        BlockingQueue<String> queue = new ArrayBlockingQueue<>(VIEWER_CAPACITY);
+        List<String> history;
+        synchronized (replay) {
+            history = new ArrayList<>(replay);
+            viewers.add(queue);
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (String frame : history) {
+                out.write(frame.getBytes(StandardCharsets.UTF_8));
+            }
+            out.flush();
+            while (running) {
+                String frame = queue.poll(HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+                out.write((frame != null ? frame : ": heartbeat\n\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        } catch (IOException | InterruptedException e) {
+            // viewer went away
+        } finally {
+            viewers.remove(queue);
+        }
+    }
+
+    private void page(HttpExchange exchange) throws IOException {
+        byte[] body = PAGE.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Stops the server after giving viewers up to STOP_GRACE_MS to receive
+     * the remaining events (e.g. suiteEnd).
+     */
+    public void stop() {
+        long deadline = System.currentTimeMillis() + STOP_GRACE_MS;
+        while (System.currentTimeMillis() < deadline
+                && (!inbound.isEmpty() || viewers.stream().anyMatch(q -> !q.isEmpty()))) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        running = false;
+        dispatcher.interrupt();
+        server.stop(0);
+        viewerThreads.shutdownNow();
+        if (droppedInbound.get() + droppedForViewers.get() > 0) {
+            System.out.println("Progress stream dropped " + droppedInbound.get() + " event(s) at the source and "
+                    + droppedForViewers.get() + " for slow viewer(s)");
+        }
+    }
+
+    long getDroppedInbound() {
+        return droppedInbound.get();
+    }
+
+    long getDroppedForViewers() {
+        return droppedForViewers.get();
+    }
+
+    int viewerCount() {
+        return viewers.size();
+    }
+
+    // =========================================================================
+    //  Built-in HTML view
+    // =========================================================================
+
+    private static final String PAGE = """
+            <!DOCTYPE html>
+            <html><head><meta charset="utf-8"><title>Run progress</title>
+            <style>
+              body { font-family: sans-serif; margin: 1.5em; }
+              .counters span { display: inline-block; margin-right: 1.5em; font-size: 1.3em; }
+              table { border-collapse: collapse; width: 100%; margin-top: 1em; }
+              td { border-bottom: 1px solid #ddd; padding: 4px 8px; font-size: 0.9em; }
+              .pass { color: #2e7d32; } .fail { color: #c62828; } .retry { color: #ef6c00; }
+              .skip { color: #757575; } .testStart { color: #1565c0; }
+            </style></head>
+            <body>
+            <h2 id="title">Run progress</h2>
+            <div class="counters">
+              <span class="pass">passed <b id="passed">0</b></span>
+              <span class="fail">failed <b id="failed">0</b></span>
+              <span class="retry">retried <b id="retried">0</b></span>
+              <span class="skip">skipped <b id="skipped">0</b></span>
+              <span id="state">connecting…</span>
+            </div>
+            <table><tbody id="events"></tbody></table>
+            <script>
+              const rows = document.getElementById('events');
+              const source = new EventSource('/events');
+              source.onopen = () => document.getElementById('state').textContent = 'live';
+              source.onerror = () => document.getElementById('state').textContent = 'disconnected';
+              const show = (e) => {
+                const ev = JSON.parse(e.data);
+                for (const k of ['passed', 'failed', 'retried', 'skipped']) {
+                  document.getElementById(k).textContent = ev[k];
+                }
+                if (ev.type === 'suiteStart') document.getElementById('title').textContent = ev.message;
+                const row = rows.insertRow(0);
+                row.className = ev.type;
+                [new Date(ev.time).toLocaleTimeString(), ev.type, ev.browser || '', ev.test || '', ev.message || '']
+                  .forEach(text => row.insertCell().textContent = text);
+              };
+              ['suiteStart', 'testStart', 'pass', 'fail', 'retry', 'skip', 'suiteEnd']
+                .forEach(type => source.addEventListener(type, show));
+            </script>
+            </body></html>
+            """;
+}
@@ -0,0 +1,92 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Offline tests for the server-sent-events progress stream.
+ */
+public class ProgressServerTest {
+
+    private static ProgressServer.Event event(String type, String test) {
+        return new ProgressServer.Event(type, test, "chrome", null, 0, 0, 0, 0, System.currentTimeMillis());
+    }
+
+    /** Opens a raw SSE connection (no client-side buffering beyond the socket). */
+    private static Socket connect(ProgressServer server) throws Exception {
+        Socket socket = new Socket("127.0.0.1", server.getPort());
+        socket.setSoTimeout(5000);
+        OutputStream out = socket.getOutputStream();
+        out.write("GET /events HTTP/1.1\r\nHost: localhost\r\nAccept: text/event-stream\r\n\r\n"
+                .getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        return socket;
+    }
+
+    private static void awaitViewers(ProgressServer server, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (server.viewerCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        Assert.assertEquals(server.viewerCount(), count);
+    }
+
+    @Test
+    public void lateViewerGetsReplayThenLiveEvents() throws Exception {
+        ProgressServer server = ProgressServer.start(0);
+        try {
+            server.publish(event("testStart", "HomePageTest.before"));
+            Thread.sleep(200);   // let the dispatcher put it into the replay buffer
+
+            try (Socket socket = connect(server)) {
+                awaitViewers(server, 1);
+                server.publish(event("pass", "HomePageTest.after"));
+
+                BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                List<String> data = new ArrayList<>();
+                String line;
+                while (data.size() < 2 && (line = reader.readLine()) != null) {
+                    if (line.startsWith("data: ")) {
+                        data.add(line);
+                    }
+                }
+                Assert.assertEquals(data.size(), 2);
+                Assert.assertTrue(data.get(0).contains("HomePageTest.before"), data.get(0));
+                Assert.assertTrue(data.get(1).contains("HomePageTest.after"), data.get(1));
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void stalledViewerNeverBlocksPublishers() throws Exception {
+        ProgressServer server = ProgressServer.start(0);
+        try (Socket stalled = connect(server)) {
+            awaitViewers(server, 1);
+
+            // The viewer never reads; the socket buffers fill up quickly
+            long start = System.nanoTime();
+            for (int i = 0; i < 50_000; i++) {
+                server.publish(event("testStart", "Stalled.test" + i + "_with_a_reasonably_long_name_to_fill_buffers"));
+            }
+            long millis = (System.nanoTime() - start) / 1_000_000;
+
+            Assert.assertTrue(millis < 2000, "publish() took " + millis + " ms");
+            Thread.sleep(500);
+            Assert.assertTrue(server.getDroppedInbound() + server.getDroppedForViewers() > 0,
+                    "a stalled viewer must lose events instead of slowing the publisher");
+        } finally {
+            server.stop();
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ReportEventLog
+ * ------------------------------------------------------------------
+ * Append-only, crash-safe event log (JSON lines) that backs the Extent report.
+ *
+ * Why:
+ *   • ExtentReports keeps every log line in memory until flush() → memory grows
+ *     with the run, and a killed JVM leaves no report at all.
+ *   • Here each event is written to disk as it happens; the HTML report is
+ *     rendered from the log afterwards (ReportRenderer), so memory stays flat
+ *     and a partial report can be rendered from a crashed run.
+ *
+ * Write path (no global lock):
+ *   • Every thread appends to its OWN buffer (ThreadLocal).
+ *   • A buffer is written to the file when its test ends, when it grows past
+ *     BUFFER_LIMIT, or by the background flusher.
+ *   • The file is opened in APPEND mode, so each buffer lands as one contiguous
+ *     block of complete lines.
+ *   • fsync (FileChannel.force) is batched: the background flusher calls it at
+ *     most once per FLUSH_INTERVAL_MS, and only if something was written.
+ *   • A shutdown hook flushes and syncs whatever is left (e.g. on Ctrl+C).
+ *
+ * Output:
+ *   <project_root>/target/extent-report/events.jsonl
+ */
+public final class ReportEventLog {
+
+    private static final int BUFFER_LIMIT = 64 * 1024;
+    private static final long FLUSH_INTERVAL_MS = 500;
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static volatile ReportEventLog instance;
+
+    /**
+     * One report event.
+     *
+     * @param type     suiteStart | testStart | log | screenshot | attachment | testEnd | suiteEnd
+     * @param testId   unique id of the test execution (null for suite events)
+     * @param name     test method name (testStart) or suite name
+     * @param category <test> block name from the TestNG XML
+     * @param status   PASS / FAIL / SKIP / INFO (log, testEnd)
+     * @param message  log text, failure description or screenshot path
+     * @param thread   writing thread name
+     * @param time     epoch millis
+     */
+    public record Event(String type, String testId, String name, String category,
+                        String status, String message, String thread, long time) {
+    }
+
+    /** Per-thread buffer; the lock is only ever contended by the flusher / shutdown hook. */
+    private static final class ThreadBuffer {
+        private final StringBuilder lines = new StringBuilder(4096);
+    }
+
+    private final Path file;
+    private final FileChannel channel;
+    private final Set<ThreadBuffer> buffers = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<ThreadBuffer> localBuffer;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final Thread flusher;
+
+    private ReportEventLog(Path file) throws IOException {
+        this.file = file;
+        Files.createDirectories(file.getParent());
+        Files.deleteIfExists(file);   // new run → new log (APPEND cannot be combined with TRUNCATE)
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        this.localBuffer = ThreadLocal.withInitial(() -> {
+            ThreadBuffer buffer = new ThreadBuffer();
+            buffers.add(buffer);
+            return buffer;
+        });
+
+        this.flusher = new Thread(this::flushLoop, "report-event-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "report-event-shutdown"));
+    }
+
+    /**
+     * Opens (truncates) the event log for a new run.
+     * Subsequent calls return the already open log.
+     */
+    public static synchronized ReportEventLog open(Path file) {
+        if (instance == null || instance.closed.get()) {
+            instance = create(file);
+        }
+        return instance;
+    }
+
+    /** Standalone log that is not registered as the current one (offline tests). */
+    static ReportEventLog create(Path file) {
+        try {
+            return new ReportEventLog(file);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not open report event log " + file, e);
+        }
+    }
+
+    /** Default location next to the HTML report. */
+    public static Path defaultPath() {
+        return Path.of(System.getProperty("user.dir"), "target", "extent-report", "events.jsonl");
+    }
+
+    /** Currently open log, or null before open(). */
+    public static ReportEventLog current() {
+        return instance;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    // =========================================================================
+    //  Write path
+    // =========================================================================
+
+    /**
+     * Appends an event to the calling thread's buffer.
+     *
+     * @param flushNow write the buffer to the file immediately (test boundaries)
+     */
+    public void append(Event event, boolean flushNow) {
+        if (closed.get()) {
+            return;
+        }
+        String line;
+        try {
+            line = mapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not serialize report event " + event, e);
+        }
+
+        ThreadBuffer buffer = localBuffer.get();
+        synchronized (buffer) {
+            buffer.lines.append(line).append('\n');
+            if (flushNow || buffer.lines.length() >= BUFFER_LIMIT) {
+                drain(buffer);
+            }
+        }
+    }
+
+    /** Writes a buffer to the channel; caller holds the buffer's monitor. */
+    private void drain(ThreadBuffer buffer) {
+        if (buffer.lines.length() == 0) {
+            return;
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(buffer.lines.toString().getBytes(StandardCharsets.UTF_8));
+        buffer.lines.setLength(0);
+        try {
+            // APPEND mode: every write lands at the current end of file
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            dirty.set(true);
+        } catch (IOException e) {
+            System.out.println("Report event log write failed: " + e.getMessage());
+        }
+    }
+
+    /** Background loop: drain idle buffers and fsync at most once per interval. */
+    private void flushLoop() {
+        // parkNanos instead of sleep + interrupt: interrupting a thread inside
+        // FileChannel.write/force would close the channel (ClosedByInterruptException)
+        while (!closed.get()) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(FLUSH_INTERVAL_MS));
+            if (!closed.get()) {
+                flushAll();
+            }
+        }
+    }
+
+    /** Drains every thread's buffer and syncs the file if anything was written. */
+    public void flushAll() {
+        for (ThreadBuffer buffer : buffers) {
+            synchronized (buffer) {
+                drain(buffer);
+            }
+        }
+        if (dirty.getAndSet(false)) {
+            try {
+                channel.force(false);
+            } catch (IOException e) {
+                System.out.println("Report event log sync failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /** Flushes, syncs and closes the log; safe to call more than once. */
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        // Let the flusher finish its current pass before the final one
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join(FLUSH_INTERVAL_MS * 4);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushAll();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.out.println("Report event log close failed: " + e.getMessage());
+        }
+    }
+}
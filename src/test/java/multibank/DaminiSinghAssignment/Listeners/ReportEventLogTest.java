@@ -0,0 +1,77 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Offline tests for ReportEventLog + ReportRenderer (no browser involved).
+ */
+public class ReportEventLogTest {
+
+    private static ReportEventLog.Event event(String type, String testId, String name, String status) {
+        return new ReportEventLog.Event(type, testId, name, "Offline", status, type,
+                Thread.currentThread().getName(), System.currentTimeMillis());
+    }
+
+    @Test
+    public void parallelWritersProduceCompleteLines() throws Exception {
+        Path dir = Files.createTempDirectory("report-events");
+        ReportEventLog log = ReportEventLog.create(dir.resolve("events.jsonl"));
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        String id = "test-" + thread + "-" + i;
+                        log.append(event("testStart", id, id, null), true);
+                        log.append(event("log", id, null, "INFO"), false);
+                        log.append(event("testEnd", id, null, "PASS"), true);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        log.close();
+
+        List<String> lines = Files.readAllLines(log.getFile(), StandardCharsets.UTF_8);
+        Assert.assertEquals(lines.size(), 4 * 50 * 3);
+        lines.forEach(line -> Assert.assertTrue(line.startsWith("{") && line.endsWith("}"), line));
+
+        int rendered = ReportRenderer.render(log.getFile(), dir.resolve("report.html").toString());
+        Assert.assertEquals(rendered, 200);
+        Assert.assertTrue(Files.size(dir.resolve("report.html")) > 0);
+    }
+
+    @Test
+    public void partialLogFromCrashIsStillRendered() throws IOException {
+        Path dir = Files.createTempDirectory("report-events");
+        ReportEventLog log = ReportEventLog.create(dir.resolve("events.jsonl"));
+        log.append(event("testStart", "done#1", "done", null), true);
+        log.append(event("testEnd", "done#1", null, "PASS"), true);
+        log.append(event("testStart", "running#2", "running", null), true);
+        log.close();
+
+        // Simulate a JVM killed in the middle of writing a line
+        Files.writeString(log.getFile(), "{\"type\":\"log\",\"testId\":\"runn", StandardOpenOption.APPEND);
+
+        Assert.assertEquals(ReportRenderer.render(log.getFile(), dir.resolve("report.html").toString()), 2);
+    }
+}
@@ -0,0 +1,199 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import multibank.DaminiSinghAssignment.Utilities.PageTiming;
+import multibank.DaminiSinghAssignment.Utilities.PerformanceHistory;
+
+/**
+ * ReportRenderer
+ * ------------------------------------------------------------------
+ * Renders the Extent HTML report from the ReportEventLog (JSON lines).
+ *
+ * When it runs:
+ *   • Automatically at suite end (ExtentTestNGListener.onFinish)
+ *   • On demand, e.g. for a run that was killed before the suite finished:
+ *
+ *       java -cp target/test-classes:<deps> \
+ *            multibank.DaminiSinghAssignment.Listeners.ReportRenderer \
+ *            [target/extent-report/events.jsonl] [target/extent-report/ExtentReport.html]
+ *
+ * Screenshots are referenced by logical key in the log and resolved through the
+ * ArtifactStore index (the single source of screenshot locations).
+ *
+ * Crash tolerance:
+ *   • A truncated last line (JVM killed mid-write) is skipped
+ *   • Tests without a testEnd event are reported as WARNING "did not finish"
+ *
+ * A "Page performance" entry with the cross-run percentile table of
+ * PerformanceHistory is appended when measurements exist.
+ *
+ * The log is read line by line; ExtentReports only exists for the duration of
+ * the rendering, not for the whole run.
+ */
+public final class ReportRenderer {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private ReportRenderer() {
+    }
+
+    /**
+     * Renders the report.
+     *
+     * @param eventLog   events.jsonl written by ReportEventLog
+     * @param reportPath target HTML file
+     * @return number of tests rendered
+     */
+    public static int render(Path eventLog, String reportPath) {
+        long start = System.nanoTime();
+        ExtentReports extent = ExtentManager.createReports(reportPath);
+
+        // Only tests that are still running are kept open
+        Map<String, ExtentTest> open = new HashMap<>();
+        int tests = 0;
+        int skippedLines = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(eventLog, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                ReportEventLog.Event event;
+                try {
+                    event = mapper.readValue(line, ReportEventLog.Event.class);
+                } catch (IOException e) {
+                    skippedLines++;   // partial line from a crash
+                    continue;
+                }
+
+                switch (event.type()) {
+                    case "testStart": {
+                        ExtentTest test = extent.createTest(event.name());
+                        if (event.category() != null) {
+                            test.assignCategory(event.category());
+                        }
+                        open.put(event.testId(), test);
+                        tests++;
+                        break;
+                    }
+                    case "log": {
+                        ExtentTest test = open.get(event.testId());
+                        if (test != null) {
+                            test.log(toStatus(event.status()), event.message());
+                        }
+                        break;
+                    }
+                    case "screenshot": {
+                        ExtentTest test = open.get(event.testId());
+                        String path = resolveScreenshot(event.message(), reportPath);
+                        if (test != null && path != null) {
+                            test.addScreenCaptureFromPath(path);
+                        }
+                        break;
+                    }
+                    case "attachment": {
+                        ExtentTest test = open.get(event.testId());
+                        String path = resolveScreenshot(event.message(), reportPath);
+                        if (test != null && path != null) {
+                            test.log(Status.INFO, "<a href='" + path + "' target='_blank'>"
+                                    + Path.of(path).getFileName() + "</a> (browser console / network log)");
+                        }
+                        break;
+                    }
+                    case "testEnd": {
+                        ExtentTest test = open.remove(event.testId());
+                        if (test != null) {
+                            test.log(toStatus(event.status()), event.message());
+                        }
+                        break;
+                    }
+                    default:
+                        // suiteStart / suiteEnd carry no report content
+                        break;
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read report event log " + eventLog, e);
+        }
+
+        // Tests interrupted by a crash / kill
+        open.values().forEach(test -> test.log(Status.WARNING, "Run ended before this test finished"));
+
+        renderPerformance(extent);
+
+        extent.flush();
+        System.out.println("Extent report rendered from " + eventLog + " in "
+                + (System.nanoTime() - start) / 1_000_000 + " ms: " + tests + " tests"
+                + (skippedLines > 0 ? ", " + skippedLines + " unreadable line(s) skipped" : ""));
+        return tests;
+    }
+
+    /**
+     * Cross-run page performance percentiles (BasePage.capturePerformance);
+     * metrics whose p75 is over budget are listed as warnings.
+     */
+    private static void renderPerformance(ExtentReports extent) {
+        List<PerformanceHistory.Row> rows = PerformanceHistory.shared().table();
+        if (rows.isEmpty()) {
+            return;
+        }
+        ExtentTest test = extent.createTest("Page performance (p50 / p75 / p95 across runs)");
+        test.assignCategory("Performance");
+        test.info(MarkupHelper.createTable(PerformanceHistory.asTable(rows).toArray(new String[0][])));
+        for (PerformanceHistory.Row row : rows) {
+            if (row.budget() != null && row.p75() > row.budget()) {
+                test.warning(row.page() + " [" + row.browser() + "] " + row.metric() + " p75 "
+                        + PageTiming.format(row.p75()) + " over budget " + PageTiming.format(row.budget()));
+            }
+        }
+    }
+
+    /**
+     * Resolves an artifact key (screenshot, screencast, browser log) through the
+     * ArtifactStore index and returns the blob path relative to the report, so the
+     * HTML stays valid when the project folder is archived. Null when nothing was
+     * stored for the key.
+     */
+    private static String resolveScreenshot(String key, String reportPath) {
+        Path blob = ArtifactStore.shared().resolve(key);
+        if (blob == null) {
+            return null;
+        }
+        Path reportDir = Path.of(reportPath).toAbsolutePath().getParent();
+        return reportDir.relativize(blob).toString().replace('\\', '/');
+    }
+
+    private static Status toStatus(String status) {
+        try {
+            return status == null ? Status.INFO : Status.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            return Status.INFO;
+        }
+    }
+
+    /**
+     * On-demand rendering.
+     * args[0] = event log (default target/extent-report/events.jsonl)
+     * args[1] = report path (default target/extent-report/ExtentReport.html)
+     */
+    public static void main(String[] args) {
+        Path eventLog = args.length > 0 ? Path.of(args[0]) : ReportEventLog.defaultPath();
+        String reportPath = args.length > 1 ? args[1] : ExtentManager.defaultReportPath();
+        render(eventLog, reportPath);
+    }
+}
@@ -1,17 +1,40 @@
 package multibank.DaminiSinghAssignment.Listeners;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.testng.IRetryAnalyzer;
 import org.testng.ITestResult;
 
+import multibank.DaminiSinghAssignment.Core.DriverManager;
+
 /**
  * RetryAnalyzer:
  * ---------------
  * Implements TestNG's retry mechanism for handling flaky tests.
  * 
  * How it works:
- * - A failing test will automatically re-run up to MAX_RETRY times.
+ * - A failing test may re-run up to MAX_RETRY times.
  * - In this framework, MAX_RETRY = 1 → meaning at most 1 retry after failure.
  * - Test execution reports will show both attempts, but only final result is recorded.
+ *
+ * History-driven policy (OutcomeHistoryStore):
+ * - A failure is retried only when a retry can plausibly change the outcome:
+ *     • the failure itself is transient (timeout, stale element, session, network…), or
+ *     • this test's history shows failures that passed on retry (known flaky), or
+ *     • the test has no history yet on this browser (cold start → learn)
+ * - Deterministic failures of tests with a stable history (e.g. an assertion
+ *   that also failed on its last retry) are NOT retried, saving a browser session.
+ * - All retries of a suite share a budget (-Dretry.budget, default 5), so a broken
+ *   environment cannot double the run time.
+ *
+ * Driver reuse (-Dretry.reuseDriver, default true):
+ * - TestNG runs @AfterMethod/@BeforeMethod around every retry, i.e. a full
+ *   browser quit + relaunch in BaseTest.
+ * - For page-timing failures (TIMEOUT, STALE_ELEMENT, INTERCEPTED) whose session
+ *   still answers a health check, the driver is kept: BaseTest skips quit/launch
+ *   and only resets cookies, storage, extra windows and the URL.
+ * - SESSION / NETWORK failures, assertion-type failures and unhealthy sessions
+ *   get a fresh browser as before.
  * 
  * Usage:
  * Add this to the @Test annotation:
@@ -29,6 +52,18 @@ public class RetryAnalyzer implements IRetryAnalyzer {
     // Maximum number of retries allowed for a failed test
     private static final int MAX_RETRY = 1;
 
+    // Retries left for the whole suite (reset by OutcomeHistoryListener at suite start)
+    private static final AtomicInteger suiteBudget = new AtomicInteger(configuredBudget());
+
+    private static int configuredBudget() {
+        return Integer.getInteger("retry.budget", 5);
+    }
+
+    /** Resets the per-suite retry budget. */
+    static void resetSuiteBudget() {
+        suiteBudget.set(configuredBudget());
+    }
+
     /**
      * Called by TestNG after a test failure.
      * Returns true → rerun test
@@ -38,18 +73,68 @@ public class RetryAnalyzer implements IRetryAnalyzer {
     public boolean retry(ITestResult result) {
 
         // Check whether test can be retried
-        if (attempt < MAX_RETRY) {
-            attempt++;
+        if (attempt >= MAX_RETRY) {
+            return false;  // No further retries allowed
+        }
 
+        FailureClass failureClass = FailureClass.classify(result.getThrowable());
+        OutcomeHistoryStore.Stats history = OutcomeHistoryStore.shared()
+                .stats(OutcomeHistoryListener.testId(result), OutcomeHistoryListener.browser(result));
+
+        String reason;
+        if (failureClass.isTransient()) {
+            reason = "transient failure (" + failureClass + ")";
+        } else if (history.isFlaky()) {
+            reason = String.format("flaky history (%.0f%% of %d runs passed on retry)",
+                    history.flakeRate() * 100, history.runs());
+        } else if (history.runs() == 0) {
+            reason = "no history yet";
+        } else {
             System.out.println(
-                    "Retrying test: " + result.getName() +
-                    " | Attempt: " + attempt + "/" + MAX_RETRY
+                    "Not retrying test: " + result.getName() +
+                    " | " + failureClass + " failure with stable history (" + history.runs() + " runs, " +
+                    history.failedRetries() + " failed retries)"
             );
+            return false;
+        }
 
-            return true;   // Trigger retry
+        // Suite-wide cap
+        if (suiteBudget.getAndUpdate(b -> Math.max(0, b - 1)) <= 0) {
+            System.out.println("Not retrying test: " + result.getName() + " | suite retry budget exhausted");
+            return false;
         }
 
-        return false;      // No further retries allowed
+        attempt++;
+
+        System.out.println(
+                "Retrying test: " + result.getName() +
+                " | Attempt: " + attempt + "/" + MAX_RETRY +
+                " | Reason: " + reason +
+                " | Driver: " + requestDriverReuse(failureClass)
+        );
+
+        return true;   // Trigger retry
+    }
+
+    /**
+     * Decides whether the retry may keep the current browser.
+     * Runs on the test's thread, before TestNG calls @AfterMethod.
+     *
+     * @return short description for the retry log line
+     */
+    private static String requestDriverReuse(FailureClass failureClass) {
+        DriverManager.clearReuseRequest();
+        if (!Boolean.parseBoolean(System.getProperty("retry.reuseDriver", "true"))) {
+            return "fresh (reuse disabled)";
+        }
+        if (!failureClass.allowsDriverReuse()) {
+            return "fresh (" + failureClass + " failure)";
+        }
+        if (!DriverManager.isSessionHealthy()) {
+            return "fresh (session unhealthy)";
+        }
+        DriverManager.requestReuseForRetry();
+        return "reused (state reset only)";
     }
 
     /**
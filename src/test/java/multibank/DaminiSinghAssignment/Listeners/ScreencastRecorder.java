@@ -0,0 +1,375 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.JsonInput;
+
+/**
+ * ScreencastRecorder
+ * ------------------------------------------------------------------
+ * Failure-only "video": keeps the last few seconds of a Chrome/Edge session
+ * in memory and turns them into an animated GIF only when a test fails.
+ *
+ * Capture (per driver session, -Dscreencast=true):
+ *   • CDP Page.startScreencast → the browser pushes JPEG frames
+ *     (max 640x400, quality 40, every 2nd frame) only when the page repaints.
+ *   • Each frame is decoded from base64 once and stored in a fixed-size ring
+ *     (MAX_FRAMES slots, MAX_BYTES total); the oldest frame is overwritten.
+ *   • Frames are acknowledged without waiting for a response, so the CDP
+ *     event thread never blocks.
+ *
+ * On failure (ScreenshotListener):
+ *   • snapshot() copies the frame references of the last -Dscreencast.seconds
+ *     seconds (default 10) on the test thread; decoding + GIF encoding run on
+ *     the background ScreenshotWriter.
+ *
+ * Overhead (printed when the session ends):
+ *   frames received / evicted, peak ring memory, and CPU time spent in the
+ *   frame callback relative to the session's wall time.
+ *
+ * Firefox and other browsers without CDP are silently skipped.
+ */
+public final class ScreencastRecorder {
+
+    private static final int MAX_FRAMES = 120;
+    private static final long MAX_BYTES = 12L * 1024 * 1024;
+
+    private static final ThreadLocal<ScreencastRecorder> current = new ThreadLocal<>();
+    private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    /** One decoded JPEG frame. */
+    record Frame(byte[] jpeg, long timestampMillis) {
+    }
+
+    /**
+     * Fixed-capacity ring of frames, bounded by count and total bytes.
+     * Written by the CDP event thread, read by snapshot() on the test thread.
+     */
+    static final class FrameRing {
+        private final Frame[] slots;
+        private final long maxBytes;
+        private int head;      // next slot to write
+        private int size;
+        private long bytes;
+        private long peakBytes;
+        private long evicted;
+
+        FrameRing(int capacity, long maxBytes) {
+            this.slots = new Frame[capacity];
+            this.maxBytes = maxBytes;
+        }
+
+        synchronized void add(Frame frame) {
+            if (size == slots.length) {
+                evictOldest();
+            }
+            while (size > 0 && bytes + frame.jpeg().length > maxBytes) {
+                evictOldest();
+            }
+            slots[head] = frame;
+            head = (head + 1) % slots.length;
+            size++;
+            bytes += frame.jpeg().length;
+            peakBytes = Math.max(peakBytes, bytes);
+        }
+
+        private void evictOldest() {
+            int oldest = Math.floorMod(head - size, slots.length);
+            bytes -= slots[oldest].jpeg().length;
+            slots[oldest] = null;
+            size--;
+            evicted++;
+        }
+
+        /** Frames not older than windowMillis before the newest frame, oldest first. */
+        synchronized List<Frame> lastMillis(long windowMillis) {
+            List<Frame> frames = new ArrayList<>(size);
+            if (size == 0) {
+                return frames;
+            }
+            long newest = slots[Math.floorMod(head - 1, slots.length)].timestampMillis();
+            for (int i = size; i > 0; i--) {
+                Frame frame = slots[Math.floorMod(head - i, slots.length)];
+                if (newest - frame.timestampMillis() <= windowMillis) {
+                    frames.add(frame);
+                }
+            }
+            return frames;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized long peakBytes() {
+            return peakBytes;
+        }
+
+        synchronized long evicted() {
+            return evicted;
+        }
+    }
+
+    private final DevTools devTools;
+    private final String label;
+    private final FrameRing ring = new FrameRing(MAX_FRAMES, MAX_BYTES);
+    private final long startedMillis = System.currentTimeMillis();
+    private final AtomicLong framesReceived = new AtomicLong();
+    private final AtomicLong callbackCpuNanos = new AtomicLong();
+    private volatile boolean stopped;
+
+    private ScreencastRecorder(DevTools devTools, String label) {
+        this.devTools = devTools;
+        this.label = label;
+    }
+
+    // =========================================================================
+    //  Lifecycle (called from BaseTest)
+    // =========================================================================
+
+    /**
+     * Starts recording the current thread's driver when -Dscreencast=true and
+     * the browser speaks CDP; otherwise does nothing.
+     */
+    public static void attach(WebDriver driver) {
+        detach();
+        if (!Boolean.getBoolean("screencast") || !supportsCdp(driver)) {
+            return;
+        }
+        try {
+            DevTools devTools = ((HasDevTools) driver).getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+
+            ScreencastRecorder recorder = new ScreencastRecorder(devTools,
+                    ((HasCapabilities) driver).getCapabilities().getBrowserName()
+                            + "_T" + Thread.currentThread().getId());
+            devTools.addListener(new Event<>("Page.screencastFrame", ScreencastRecorder::readFrame),
+                    recorder::onFrame);
+            devTools.send(new Command<Void>("Page.startScreencast", Map.of(
+                    "format", "jpeg", "quality", 40, "maxWidth", 640, "maxHeight", 400, "everyNthFrame", 2)));
+            current.set(recorder);
+        } catch (RuntimeException e) {
+            System.out.println("Screencast not started: " + e.getMessage());
+        }
+    }
+
+    private static boolean supportsCdp(WebDriver driver) {
+        if (!(driver instanceof HasDevTools) || !(driver instanceof HasCapabilities)) {
+            return false;
+        }
+        Capabilities capabilities = ((HasCapabilities) driver).getCapabilities();
+        String browser = capabilities.getBrowserName().toLowerCase();
+        return browser.contains("chrome") || browser.contains("edge");
+    }
+
+    /** Recorder of the current thread's session, or null. */
+    public static ScreencastRecorder current() {
+        return current.get();
+    }
+
+    /** Stops recording the current thread's session and prints its overhead. */
+    public static void detach() {
+        ScreencastRecorder recorder = current.get();
+        current.remove();
+        if (recorder != null) {
+            recorder.stop();
+        }
+    }
+
+    private void stop() {
+        stopped = true;
+        try {
+            devTools.send(new Command<Void>("Page.stopScreencast", Map.of()));
+        } catch (RuntimeException e) {
+            // session already gone
+        }
+        System.out.println(overhead());
+    }
+
+    /** One-line overhead report for this session. */
+    String overhead() {
+        long wallMillis = Math.max(1, System.currentTimeMillis() - startedMillis);
+        long cpuMillis = callbackCpuNanos.get() / 1_000_000;
+        return String.format("Screencast [%s]: %d frames received, %d evicted, %d kept, peak ring %d KB, "
+                        + "callback CPU %d ms (%.2f%% of %d s session)",
+                label, framesReceived.get(), ring.evicted(), ring.size(), ring.peakBytes() / 1024,
+                cpuMillis, cpuMillis * 100.0 / wallMillis, wallMillis / 1000);
+    }
+
+    // =========================================================================
+    //  CDP event path
+    // =========================================================================
+
+    /** Raw Page.screencastFrame payload. */
+    private record RawFrame(String data, int sessionId, long timestampMillis) {
+    }
+
+    private static RawFrame readFrame(JsonInput input) {
+        String data = null;
+        int sessionId = 0;
+        long timestamp = System.currentTimeMillis();
+        input.beginObject();
+        while (input.hasNext()) {
+            switch (input.nextName()) {
+                case "data" -> data = input.nextString();
+                case "sessionId" -> sessionId = input.nextNumber().intValue();
+                case "metadata" -> {
+                    input.beginObject();
+                    while (input.hasNext()) {
+                        if ("timestamp".equals(input.nextName())) {
+                            timestamp = (long) (input.nextNumber().doubleValue() * 1000);
+                        } else {
+                            input.skipValue();
+                        }
+                    }
+                    input.endObject();
+                }
+                default -> input.skipValue();
+            }
+        }
+        input.endObject();
+        return new RawFrame(data, sessionId, timestamp);
+    }
+
+    private void onFrame(RawFrame raw) {
+        if (stopped) {
+            return;
+        }
+        long cpuStart = cpuTime();
+        try {
+            // Ack first so the browser keeps sending; no response → never blocks this thread
+            devTools.send(new Command<Void>("Page.screencastFrameAck", Map.of("sessionId", raw.sessionId()))
+                    .doesNotSendResponse());
+            if (raw.data() != null) {
+                ring.add(new Frame(Base64.getDecoder().decode(raw.data()), raw.timestampMillis()));
+                framesReceived.incrementAndGet();
+            }
+        } catch (RuntimeException e) {
+            // a lost frame must never affect the test
+        } finally {
+            callbackCpuNanos.addAndGet(cpuTime() - cpuStart);
+        }
+    }
+
+    private static long cpuTime() {
+        return threads.isCurrentThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    // =========================================================================
+    //  Failure path
+    // =========================================================================
+
+    /** Frames of the configured window (-Dscreencast.seconds), oldest first. */
+    List<Frame> snapshot() {
+        return ring.lastMillis(Long.getLong("screencast.seconds", 10) * 1000);
+    }
+
+    /**
+     * Encodes frames as a looping animated GIF; each frame is shown for the
+     * time until the next one (last frame: 1 s).
+     */
+    static byte[] encodeGif(List<Frame> frames) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("gif");
+        if (frames.isEmpty() || !writers.hasNext()) {
+            return new byte[0];
+        }
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream stream = new MemoryCacheImageOutputStream(out)) {
+            writer.setOutput(stream);
+            writer.prepareWriteSequence(null);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+
+            for (int i = 0; i < frames.size(); i++) {
+                BufferedImage image = toRgb(ImageIO.read(new ByteArrayInputStream(frames.get(i).jpeg())));
+                if (image == null) {
+                    continue;
+                }
+                long delayMillis = i + 1 < frames.size()
+                        ? frames.get(i + 1).timestampMillis() - frames.get(i).timestampMillis()
+                        : 1000;
+                IIOMetadata metadata = frameMetadata(writer, image, param, delayMillis, i == 0);
+                writer.writeToSequence(new IIOImage(image, null, metadata), param);
+            }
+            writer.endWriteSequence();
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static IIOMetadata frameMetadata(ImageWriter writer, BufferedImage image, ImageWriteParam param,
+                                             long delayMillis, boolean first) throws IOException {
+        IIOMetadata metadata = writer.getDefaultImageMetadata(ImageTypeSpecifier.createFromRenderedImage(image), param);
+        String format = metadata.getNativeMetadataFormatName();
+        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(format);
+
+        IIOMetadataNode control = child(root, "GraphicControlExtension");
+        control.setAttribute("disposalMethod", "none");
+        control.setAttribute("userInputFlag", "FALSE");
+        control.setAttribute("transparentColorFlag", "FALSE");
+        control.setAttribute("transparentColorIndex", "0");
+        control.setAttribute("delayTime", Long.toString(Math.max(2, Math.min(delayMillis, 5000) / 10)));
+
+        if (first) {
+            // NETSCAPE2.0 extension: loop forever
+            IIOMetadataNode extension = new IIOMetadataNode("ApplicationExtension");
+            extension.setAttribute("applicationID", "NETSCAPE");
+            extension.setAttribute("authenticationCode", "2.0");
+            extension.setUserObject(new byte[] {1, 0, 0});
+            child(root, "ApplicationExtensions").appendChild(extension);
+        }
+        metadata.setFromTree(format, root);
+        return metadata;
+    }
+
+    private static IIOMetadataNode child(IIOMetadataNode parent, String name) {
+        for (int i = 0; i < parent.getLength(); i++) {
+            if (parent.item(i).getNodeName().equalsIgnoreCase(name)) {
+                return (IIOMetadataNode) parent.item(i);
+            }
+        }
+        IIOMetadataNode node = new IIOMetadataNode(name);
+        parent.appendChild(node);
+        return node;
+    }
+
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image == null || image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return rgb;
+    }
+}
@@ -0,0 +1,78 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Offline tests for the screencast frame ring and the GIF encoder.
+ */
+public class ScreencastRecorderTest {
+
+    private static byte[] jpeg(int shade) throws IOException {
+        BufferedImage image = new BufferedImage(64, 40, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(new Color(shade, 255 - shade, 128));
+        g.fillRect(0, 0, 64, 40);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    @Test
+    public void ringKeepsNewestFramesWithinCountAndByteLimits() {
+        ScreencastRecorder.FrameRing ring = new ScreencastRecorder.FrameRing(3, 250);
+        for (int i = 0; i < 5; i++) {
+            ring.add(new ScreencastRecorder.Frame(new byte[100], i * 1000L));
+        }
+        // 3 slots, but only 2 frames of 100 bytes fit into 250 bytes
+        List<ScreencastRecorder.Frame> frames = ring.lastMillis(Long.MAX_VALUE);
+        Assert.assertEquals(frames.size(), 2);
+        Assert.assertEquals(frames.get(0).timestampMillis(), 3000);
+        Assert.assertEquals(frames.get(1).timestampMillis(), 4000);
+        Assert.assertEquals(ring.evicted(), 3);
+        Assert.assertEquals(ring.peakBytes(), 200);
+    }
+
+    @Test
+    public void snapshotWindowIsRelativeToNewestFrame() {
+        ScreencastRecorder.FrameRing ring = new ScreencastRecorder.FrameRing(10, Long.MAX_VALUE);
+        for (int i = 0; i < 10; i++) {
+            ring.add(new ScreencastRecorder.Frame(new byte[1], i * 1000L));
+        }
+        List<ScreencastRecorder.Frame> frames = ring.lastMillis(3000);
+        Assert.assertEquals(frames.size(), 4);
+        Assert.assertEquals(frames.get(0).timestampMillis(), 6000);
+    }
+
+    @Test
+    public void framesAreEncodedAsAnimatedGif() throws IOException {
+        List<ScreencastRecorder.Frame> frames = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            frames.add(new ScreencastRecorder.Frame(jpeg(i * 60), i * 200L));
+        }
+        byte[] gif = ScreencastRecorder.encodeGif(frames);
+
+        Assert.assertEquals(new String(gif, 0, 6, "US-ASCII"), "GIF89a");
+        try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(gif))) {
+            ImageReader reader = ImageIO.getImageReaders(in).next();
+            reader.setInput(in);
+            Assert.assertEquals(reader.getNumImages(true), 4);
+            reader.dispose();
+        }
+        Assert.assertEquals(ScreencastRecorder.encodeGif(List.of()).length, 0);
+    }
+}
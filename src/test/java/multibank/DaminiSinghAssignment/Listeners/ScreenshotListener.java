@@ -1,15 +1,17 @@
 package multibank.DaminiSinghAssignment.Listeners;
 
+import java.util.List;
+import java.util.Map;
+
 import multibank.DaminiSinghAssignment.Core.DriverManager;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
-import java.io.File;
-import java.nio.file.Files;
-import java.nio.file.Path;
 
 /**
  * ScreenshotListener:
@@ -21,16 +23,62 @@ import java.nio.file.Path;
  *  - Integrates with RetryAnalyzer to tag screenshots as:
  *        RETRY_ATTEMPT_X   → failure occurred but test will retry
  *        FINAL_FAIL        → failure after exhausting retries
- *  - Stores screenshots under /artifacts/ folder for reporting
+ *  - Stores screenshots in the content-addressed ArtifactStore (/artifacts/)
+ *  - Only the capture runs on the test thread; encoding and file I/O are
+ *    done by the background ScreenshotWriter
  *
  * Execution flow:
- *  1. Test fails → onTestFailure() triggered.
+ *  1. Test fails → onTestFailure() triggered
+ *     (or onTestSkipped() for an attempt that will be retried).
  *  2. Retrieves driver from DriverManager (ThreadLocal-safe).
  *  3. Determines retry attempt number (if retry enabled).
- *  4. Takes screenshot using TakesScreenshot.
- *  5. Saves screenshot with structured file naming.
+ *  4. Takes screenshot as bytes using TakesScreenshot.
+ *  5. Hands the bytes to ScreenshotWriter (structured file naming).
+ *  6. With -Dscreencast=true: also queues the last seconds of the session's
+ *     screencast (ScreencastRecorder) as an animated GIF, key suffix _SCREENCAST.
+ *  7. Chrome/Edge: also queues the session's console / JS exception / network
+ *     rings (BrowserLogRecorder) as gzip JSON, key suffix _BROWSERLOG.
+ *  8. Suite end → waits until every queued screenshot is written.
  */
-public class ScreenshotListener implements ITestListener {
+public class ScreenshotListener implements ITestListener, ISuiteListener {
+
+    /**
+     * Logical artifact key for a test + attempt label, shared with ExtentTestNGListener:
+     *   <browser>_T<threadId>_<testName>_<attemptLabel>
+     * ArtifactStore maps it to the deduplicated blob.
+     */
+    public static String screenshotKey(ITestResult result, String attemptLabel) {
+        String browser = result.getTestContext().getCurrentXmlTest().getParameter("browser");
+        String testName = result.getMethod().getMethodName();
+        long threadId = Thread.currentThread().getId();
+        return browser + "_T" + threadId + "_" + testName + "_" + attemptLabel;
+    }
+
+    /** Key of the failure screencast stored next to the screenshot. */
+    public static String screencastKey(ITestResult result, String attemptLabel) {
+        return screenshotKey(result, attemptLabel) + "_SCREENCAST";
+    }
+
+    /** Key of the gzip JSON browser log stored next to the screenshot. */
+    public static String browserLogKey(ITestResult result, String attemptLabel) {
+        return screenshotKey(result, attemptLabel) + "_BROWSERLOG";
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        // No artifact may be lost: wait for the writer before the suite ends
+        ScreenshotWriter.shared().drain();
+    }
+
+    /**
+     * A failed attempt that RetryAnalyzer decided to retry.
+     */
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        if (result.wasRetried()) {
+            onTestFailure(result);
+        }
+    }
 
     @Override
     public void onTestFailure(ITestResult result) {
@@ -51,37 +99,46 @@ public class ScreenshotListener implements ITestListener {
             // ------------------------------
             // Determine retry status
             // ------------------------------
+            // TestNG reports a failure that will be retried as SKIP with wasRetried() = true
+            // (see onTestSkipped); a failure reaching onTestFailure is final.
             String attemptLabel = "FINAL_FAIL"; // default
-            int attemptNumber   = 0;
-
-            Object retryObj = result.getMethod().getRetryAnalyzer(result);
-
-            if (retryObj instanceof RetryAnalyzer) {
-                RetryAnalyzer ra = (RetryAnalyzer) retryObj;
-                attemptNumber = ra.getAttempt();
 
-                // If current failure still has retries left
-                if (attemptNumber < ra.getMaxRetry()) {
-                    attemptLabel = "RETRY_ATTEMPT_" + attemptNumber;
-                }
+            if (result.wasRetried()) {
+                Object retryObj = result.getMethod().getRetryAnalyzer(result);
+                int attemptNumber = retryObj instanceof RetryAnalyzer
+                        ? ((RetryAnalyzer) retryObj).getAttempt() - 1
+                        : 0;
+                attemptLabel = "RETRY_ATTEMPT_" + attemptNumber;
             }
 
             // ------------------------------
-            // Capture screenshot
+            // Capture screenshot (bytes only; written off-thread)
             // ------------------------------
-            File src = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-
-            // File naming convention ensures uniqueness per browser/thread/test/attempt
-            Path dest = Path.of(
-                    "artifacts",
-                    browser + "_T" + threadId + "_" + testName + "_" + attemptLabel + ".png"
-            );
+            byte[] png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+
+            // Key naming convention ensures uniqueness per browser/thread/test/attempt;
+            // identical images share one blob in the ArtifactStore
+            ScreenshotWriter.shared().submit(screenshotKey(result, attemptLabel), png);
+
+            // Failure screencast: frame references copied here, GIF encoded off-thread
+            ScreencastRecorder recorder = ScreencastRecorder.current();
+            if (recorder != null) {
+                List<ScreencastRecorder.Frame> frames = recorder.snapshot();
+                ScreenshotWriter.shared().submit(screencastKey(result, attemptLabel),
+                        () -> ScreencastRecorder.encodeGif(frames), "gif");
+            }
 
-            Files.createDirectories(dest.getParent()); // ensure folder exists
-            Files.copy(src.toPath(), dest);            // save screenshot
+            // Browser console + network log: rings copied here, JSON + gzip off-thread
+            BrowserLogRecorder browserLog = BrowserLogRecorder.current();
+            if (browserLog != null) {
+                Map<String, Object> snapshot = browserLog.snapshot();
+                snapshot.put("test", screenshotKey(result, attemptLabel));
+                ScreenshotWriter.shared().submit(browserLogKey(result, attemptLabel),
+                        () -> BrowserLogRecorder.toGzipJson(snapshot), "json.gz");
+            }
 
             System.out.println(
-                    "Screenshot saved for test: " + testName +
+                    "Screenshot queued for test: " + testName +
                     " | Browser: " + browser +
                     " | Thread: " + threadId +
                     " | AttemptLabel: " + attemptLabel
@@ -0,0 +1,298 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import multibank.DaminiSinghAssignment.Utilities.Metrics;
+
+/**
+ * ScreenshotWriter
+ * ------------------------------------------------------------------
+ * Bounded, asynchronous screenshot pipeline.
+ *
+ * The failing test's thread only grabs the screenshot as bytes and hands it over;
+ * optional downscale / recompression and the write into the content-addressed
+ * ArtifactStore happen on a background writer thread.
+ *
+ * Guarantees:
+ *   • Bounded memory: at most QUEUE capacity screenshots wait in memory.
+ *   • Backpressure instead of loss: when the queue is full, submit() blocks the
+ *     caller until the writer catches up (counted and reported).
+ *   • drain() waits until every submitted screenshot is on disk; it is called at
+ *     suite end (ScreenshotListener / ExtentTestNGListener) and by a shutdown hook.
+ *   • Bytes go straight from memory into the store; no WebDriver temp file, no copy.
+ *
+ * Flags:
+ *   -Dscreenshot.queue=16        queue capacity
+ *   -Dscreenshot.scale=1.0       downscale factor (e.g. 0.5 = half width/height)
+ *   -Dscreenshot.format=png      png (original bytes when scale = 1) | jpg
+ *   -Dscreenshot.quality=0.8     JPEG quality
+ */
+public final class ScreenshotWriter {
+
+    private static final long DRAIN_TIMEOUT_MS = 60_000;
+
+    private static volatile ScreenshotWriter shared;
+
+    /**
+     * One pending artifact: either a screenshot (png) or a producer that
+     * builds the final bytes off-thread (e.g. the failure screencast GIF).
+     */
+    private record Job(String key, byte[] png, Callable<byte[]> producer, String extension, long submittedNanos) {
+    }
+
+    private final ArtifactStore store;
+    private final BlockingQueue<Job> queue;
+    private final double scale;
+    private final String format;
+    private final float quality;
+
+    // Submitted but not yet written (queued + in progress)
+    private final Object pendingLock = new Object();
+    private long pending;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicLong backpressureWaits = new AtomicLong();
+    private final AtomicLong processNanos = new AtomicLong();
+
+    ScreenshotWriter(ArtifactStore store, int capacity, double scale, String format, float quality) {
+        this.store = store;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.scale = scale;
+        this.format = format;
+        this.quality = quality;
+
+        Thread worker = new Thread(this::writeLoop, "screenshot-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /** Shared writer configured from system properties. */
+    public static ScreenshotWriter shared() {
+        if (shared == null) {
+            synchronized (ScreenshotWriter.class) {
+                if (shared == null) {
+                    shared = new ScreenshotWriter(
+                            ArtifactStore.shared(),
+                            Integer.getInteger("screenshot.queue", 16),
+                            Double.parseDouble(System.getProperty("screenshot.scale", "1.0")),
+                            System.getProperty("screenshot.format", "png").toLowerCase(),
+                            Float.parseFloat(System.getProperty("screenshot.quality", "0.8")));
+                    ScreenshotWriter writer = shared;
+                    Runtime.getRuntime().addShutdownHook(new Thread(writer::drain, "screenshot-drain"));
+                }
+            }
+        }
+        return shared;
+    }
+
+    /** File extension matching the configured output format ("png" or "jpg"). */
+    public String extension() {
+        return "jpg".equals(format) || "jpeg".equals(format) ? "jpg" : "png";
+    }
+
+    // =========================================================================
+    //  Producer side (test threads)
+    // =========================================================================
+
+    /**
+     * Queues a screenshot for writing.
+     * Blocks (backpressure) while the queue is full; never drops a screenshot.
+     *
+     * @param key logical artifact key (see ScreenshotListener.screenshotKey)
+     * @param png screenshot bytes as returned by getScreenshotAs(OutputType.BYTES)
+     */
+    public void submit(String key, byte[] png) {
+        enqueue(new Job(key, png, null, null, System.nanoTime()));
+    }
+
+    /**
+     * Queues an artifact whose bytes are produced on the writer thread.
+     *
+     * @param key       logical artifact key
+     * @param producer  builds the bytes (expensive work belongs here, not on the test thread)
+     * @param extension file extension of the produced bytes
+     */
+    public void submit(String key, Callable<byte[]> producer, String extension) {
+        enqueue(new Job(key, null, producer, extension, System.nanoTime()));
+    }
+
+    private void enqueue(Job job) {
+        synchronized (pendingLock) {
+            pending++;
+        }
+        try {
+            if (!queue.offer(job)) {
+                backpressureWaits.incrementAndGet();
+                System.out.println("Screenshot queue full, waiting for writer: " + job.key());
+                queue.put(job);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // Do not lose the artifact: write it on the caller's thread instead
+            process(job);
+        }
+    }
+
+    // =========================================================================
+    //  Consumer side (writer thread)
+    // =========================================================================
+
+    private void writeLoop() {
+        while (true) {
+            try {
+                process(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void process(Job job) {
+        long start = System.nanoTime();
+        try {
+            byte[] out = job.producer() != null ? job.producer().call() : encode(job.png());
+            if (out.length == 0) {
+                return;   // nothing to store (e.g. no screencast frames)
+            }
+            Path blob = store.put(job.key(), out, job.extension() != null ? job.extension() : extension());
+
+            written.incrementAndGet();
+            bytesWritten.addAndGet(out.length);
+            System.out.println("Screenshot stored: " + job.key() + " → " + store.getRoot().toAbsolutePath().relativize(blob)
+                    + " (" + out.length / 1024 + " KB, "
+                    + (System.nanoTime() - job.submittedNanos()) / 1_000_000 + " ms after capture)");
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            System.out.println("Screenshot write failed for " + job.key() + ": " + e);
+        } finally {
+            processNanos.addAndGet(System.nanoTime() - start);
+            Metrics.SCREENSHOT_WRITE.observeSince(start);
+            synchronized (pendingLock) {
+                pending--;
+                pendingLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Returns the bytes to write: the original PNG when no transformation is
+     * configured, otherwise the downscaled and/or re-encoded image.
+     */
+    byte[] encode(byte[] png) throws IOException {
+        if (scale >= 1.0 && "png".equals(extension())) {
+            return png;
+        }
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            return png;   // not decodable → keep original
+        }
+
+        if (scale < 1.0) {
+            int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+            int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+            BufferedImage scaled = new BufferedImage(width, height,
+                    "jpg".equals(extension()) ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g = scaled.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(image, 0, 0, width, height, null);
+            g.dispose();
+            image = scaled;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(png.length);
+        if ("jpg".equals(extension())) {
+            writeJpeg(toRgb(image), bytes);
+        } else {
+            ImageIO.write(image, "png", bytes);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void writeJpeg(BufferedImage image, ByteArrayOutputStream out) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        ImageWriter writer = writers.next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+        try (MemoryCacheImageOutputStream stream = new MemoryCacheImageOutputStream(out)) {
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /** JPEG has no alpha channel. */
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = rgb.createGraphics();
+        g.drawImage(image, 0, 0, Color.WHITE, null);
+        g.dispose();
+        return rgb;
+    }
+
+    // =========================================================================
+    //  Drain
+    // =========================================================================
+
+    /**
+     * Blocks until every submitted screenshot has been written (or failed).
+     *
+     * @return true if the queue was fully drained within the timeout
+     */
+    public boolean drain() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DRAIN_TIMEOUT_MS);
+        synchronized (pendingLock) {
+            while (pending > 0) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    System.out.println("Screenshot drain timed out with " + pending + " screenshot(s) pending");
+                    return false;
+                }
+                try {
+                    pendingLock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+
+        long count = written.get();
+        if (count + failed.get() > 0) {
+            System.out.println("Screenshots drained: " + count + " written (" + bytesWritten.get() / 1024 + " KB), "
+                    + failed.get() + " failed, " + backpressureWaits.get() + " backpressure wait(s), avg "
+                    + (count == 0 ? 0 : processNanos.get() / count / 1_000_000) + " ms per screenshot off-thread");
+            System.out.println(store.summary());
+        }
+        return true;
+    }
+
+    long getWritten() {
+        return written.get();
+    }
+}
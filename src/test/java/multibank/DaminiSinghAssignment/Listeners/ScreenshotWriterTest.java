@@ -0,0 +1,75 @@
+package multibank.DaminiSinghAssignment.Listeners;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.imageio.ImageIO;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Offline tests for the asynchronous screenshot pipeline.
+ */
+public class ScreenshotWriterTest {
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, 0xFF000000 | (x * 255 / width) << 16 | (y * 255 / height) << 8);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    @Test
+    public void fullQueueAppliesBackpressureWithoutLoss() throws Exception {
+        ArtifactStore store = new ArtifactStore(Files.createTempDirectory("screenshots"), false, 4);
+        ScreenshotWriter writer = new ScreenshotWriter(store, 2, 1.0, "png", 0.8f);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                String key = "chrome_T1_test_" + i;
+                byte[] png = png(64 + i, 48);
+                futures.add(pool.submit(() -> writer.submit(key, png)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        Assert.assertTrue(writer.drain());
+        Assert.assertEquals(writer.getWritten(), 40);
+        for (int i = 0; i < 40; i++) {
+            Path blob = store.resolve("chrome_T1_test_" + i);
+            Assert.assertNotNull(blob);
+            Assert.assertEquals(ImageIO.read(blob.toFile()).getWidth(), 64 + i);
+        }
+    }
+
+    @Test
+    public void downscaleAndJpegRecompression() throws IOException {
+        ScreenshotWriter writer = new ScreenshotWriter(null, 4, 0.5, "jpg", 0.7f);
+        Assert.assertEquals(writer.extension(), "jpg");
+
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(writer.encode(png(200, 100))));
+        Assert.assertEquals(decoded.getWidth(), 100);
+        Assert.assertEquals(decoded.getHeight(), 50);
+    }
+}
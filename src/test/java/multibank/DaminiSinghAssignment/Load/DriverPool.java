@@ -0,0 +1,170 @@
+package multibank.DaminiSinghAssignment.Load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * DriverPool
+ * ------------------------------------------------------------------
+ * Fixed-size pool of headless browsers for load runs.
+ *
+ *   • Browsers are launched once (prewarm, a few at a time) and reused by
+ *     journey after journey; a launch costs seconds, a reset milliseconds.
+ *   • Before each journey a browser is reset: cookies, local/session storage
+ *     cleared, about:blank loaded.
+ *   • A browser that fails its reset (or breaks during a journey) is quit and
+ *     its slot is freed; the next borrow() launches a replacement.
+ */
+final class DriverPool {
+
+    private final int size;
+    private final Supplier<WebDriver> launcher;
+    private final LinkedBlockingQueue<WebDriver> idle = new LinkedBlockingQueue<>();
+    private final List<WebDriver> all = new ArrayList<>();
+    private final AtomicInteger live = new AtomicInteger();
+    private final AtomicInteger launches = new AtomicInteger();
+    private final AtomicInteger discarded = new AtomicInteger();
+
+    DriverPool(int size, Supplier<WebDriver> launcher) {
+        this.size = size;
+        this.launcher = launcher;
+    }
+
+    /**
+     * Launches all browsers up front with limited parallelism, so the first
+     * journeys do not pay (and distort their latency with) browser start-up.
+     */
+    void prewarm(int parallelism) throws InterruptedException {
+        ExecutorService starters = Executors.newFixedThreadPool(Math.max(1, parallelism));
+        try {
+            List<Future<?>> launched = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                launched.add(starters.submit(() -> {
+                    if (reserveSlot()) {
+                        idle.add(launch());
+                    }
+                }));
+            }
+            for (Future<?> future : launched) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    System.out.println("Load browser launch failed: " + e.getCause());
+                }
+            }
+        } finally {
+            starters.shutdown();
+        }
+    }
+
+    /**
+     * Returns a reset browser: an idle one, a newly launched one while the pool
+     * is below its size, or the next one released.
+     */
+    WebDriver borrow() throws InterruptedException {
+        while (true) {
+            WebDriver driver = idle.poll();
+            if (driver == null && reserveSlot()) {
+                driver = launch();
+            }
+            if (driver == null) {
+                driver = idle.take();
+            }
+            if (reset(driver)) {
+                return driver;
+            }
+            discard(driver);
+        }
+    }
+
+    void release(WebDriver driver) {
+        idle.add(driver);
+    }
+
+    /** Quits a broken browser and frees its slot. */
+    void discard(WebDriver driver) {
+        discarded.incrementAndGet();
+        synchronized (all) {
+            all.remove(driver);
+        }
+        live.decrementAndGet();
+        quitQuietly(driver);
+    }
+
+    /** Quits every browser the pool launched. */
+    void close() {
+        List<WebDriver> drivers;
+        synchronized (all) {
+            drivers = new ArrayList<>(all);
+            all.clear();
+        }
+        drivers.parallelStream().forEach(DriverPool::quitQuietly);
+        idle.clear();
+        live.set(0);
+    }
+
+    int getLaunches() {
+        return launches.get();
+    }
+
+    int getDiscarded() {
+        return discarded.get();
+    }
+
+    private boolean reserveSlot() {
+        while (true) {
+            int current = live.get();
+            if (current >= size) {
+                return false;
+            }
+            if (live.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private WebDriver launch() {
+        try {
+            WebDriver driver = launcher.get();
+            launches.incrementAndGet();
+            synchronized (all) {
+                all.add(driver);
+            }
+            return driver;
+        } catch (RuntimeException e) {
+            live.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private static boolean reset(WebDriver driver) {
+        try {
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.get("about:blank");
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException ignored) {
+            // session already gone
+        }
+    }
+}
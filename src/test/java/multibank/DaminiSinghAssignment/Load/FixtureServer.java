@@ -0,0 +1,223 @@
+package multibank.DaminiSinghAssignment.Load;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * FixtureServer
+ * ------------------------------------------------------------------
+ * Local stand-in for the trading site, so load runs (and the functional suite
+ * with -DbaseUrl) can run without touching production.
+ *
+ * Serves:
+ *   /                     fixtures/index.html (navigation, carousel, Spot widget, app buttons);
+ *                         /?live=1000 re-renders the Spot rows every second like the live feed
+ *   /why-multibank.html   fixtures/why-multibank.html
+ *   /fixture.js|css       shared navigation script + styles
+ *   /api/spot?category=X  JSON rows of the Spot widget (the "backend" under load)
+ *
+ * The markup mirrors the locators of HomePage, SpotSectionPage and
+ * WhyMultiLinkPage, so journeys run unchanged against it.
+ *
+ * -Dfixture.latencyMillis=N adds N ms (±50 % jitter) to every /api/spot
+ * response, to see how backend latency shows up in the journey steps.
+ *
+ * Requests are handled by a cached pool: 200 browsers loading the page at the
+ * same time must not queue behind each other inside the stand-in.
+ */
+public final class FixtureServer {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "html", "text/html; charset=utf-8",
+            "js", "application/javascript; charset=utf-8",
+            "css", "text/css; charset=utf-8");
+
+    private static final List<String> CATEGORIES = List.of("Top", "New", "Gainers", "Losers");
+    private static final String[] BASES = {"BTC", "ETH", "SOL", "XRP", "ADA", "DOGE", "DOT", "AVAX",
+            "LINK", "MATIC", "LTC", "TRX", "ATOM", "NEAR", "APT", "ARB"};
+    private static final int ROWS_PER_CATEGORY = 12;
+    private static final int SPARKLINE_POINTS = 28;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMillis;
+    private final LongAdder pageRequests = new LongAdder();
+    private final LongAdder apiRequests = new LongAdder();
+
+    private FixtureServer(HttpServer server, ExecutorService executor, long latencyMillis) {
+        this.server = server;
+        this.executor = executor;
+        this.latencyMillis = latencyMillis;
+    }
+
+    /**
+     * Starts the stand-in at http://127.0.0.1:port/ (port 0 = any free port).
+     */
+    public static FixtureServer start(int port) throws IOException {
+        HttpServer http = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        ExecutorService executor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "fixture-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        FixtureServer fixture = new FixtureServer(http, executor, Long.getLong("fixture.latencyMillis", 0));
+
+        http.createContext("/api/spot", fixture::spot);
+        http.createContext("/", fixture::page);
+        http.setExecutor(executor);
+        http.start();
+        System.out.println("Fixture site started at " + fixture.getBaseUrl()
+                + (fixture.latencyMillis > 0 ? " (API latency " + fixture.latencyMillis + " ms)" : ""));
+        return fixture;
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+    }
+
+    public long getPageRequests() {
+        return pageRequests.sum();
+    }
+
+    public long getApiRequests() {
+        return apiRequests.sum();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+        System.out.println("Fixture site stopped: " + getPageRequests() + " page / " + getApiRequests()
+                + " API requests served");
+    }
+
+    // =========================================================================
+    //  Handlers
+    // =========================================================================
+
+    private void page(HttpExchange exchange) throws IOException {
+        pageRequests.increment();
+        String path = exchange.getRequestURI().getPath();
+        String name = path.equals("/") ? "index.html" : path.substring(1);
+
+        byte[] body = null;
+        if (!name.contains("..") && !name.contains("/")) {
+            try (InputStream in = FixtureServer.class.getResourceAsStream("/fixtures/" + name)) {
+                body = in == null ? null : in.readAllBytes();
+            }
+        }
+        if (body == null) {
+            send(exchange, 404, "text/plain; charset=utf-8", ("Not found: " + path).getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        String extension = name.substring(name.lastIndexOf('.') + 1);
+        send(exchange, 200, CONTENT_TYPES.getOrDefault(extension, "application/octet-stream"), body);
+    }
+
+    private void spot(HttpExchange exchange) throws IOException {
+        apiRequests.increment();
+        if (latencyMillis > 0) {
+            try {
+                long jitter = ThreadLocalRandom.current().nextLong(-latencyMillis / 2, latencyMillis / 2 + 1);
+                TimeUnit.MILLISECONDS.sleep(latencyMillis + jitter);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        String category = query(exchange.getRequestURI().getRawQuery()).getOrDefault("category", "Top");
+        if (!CATEGORIES.contains(category)) {
+            send(exchange, 404, "application/json", "[]".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        send(exchange, 200, "application/json", mapper.writeValueAsBytes(spotRows(category)));
+    }
+
+    /**
+     * Rows of one category: stable symbols, prices moving slightly per request,
+     * sparkline tail following the sign of the 24h change.
+     */
+    static List<Map<String, Object>> spotRows(String category) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int offset = CATEGORIES.indexOf(category) * 3;
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS_PER_CATEGORY; i++) {
+            String symbol = BASES[(offset + i) % BASES.length] + "-USDT";
+            double price = (1000.0 / (i + 1)) * (1 + random.nextDouble(-0.01, 0.01));
+            double change = "Losers".equals(category) ? -random.nextDouble(0.5, 9)
+                    : "Gainers".equals(category) ? random.nextDouble(0.5, 9) : random.nextDouble(-5, 5);
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("symbol", symbol);
+            row.put("price", format(price));
+            row.put("change", Math.round(change * 100) / 100.0);
+            row.put("high", format(price * 1.03));
+            row.put("low", format(price * 0.97));
+            row.put("sparkline", sparkline(change, random));
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /** SVG path over 120 x 32; y grows downwards, so a rising tail has decreasing y. */
+    private static String sparkline(double change, ThreadLocalRandom random) {
+        StringBuilder d = new StringBuilder();
+        double y = 16;
+        int tail = SPARKLINE_POINTS - SPARKLINE_POINTS / 7;
+        for (int i = 0; i < SPARKLINE_POINTS; i++) {
+            if (i >= tail) {
+                y -= Math.signum(change) * 1.5;
+            } else {
+                y = Math.max(8, Math.min(24, y + random.nextDouble(-2, 2)));
+            }
+            d.append(i == 0 ? "M" : " L").append(String.format(Locale.ROOT, "%.1f %.1f", i * 120.0 / (SPARKLINE_POINTS - 1), y));
+        }
+        return d.toString();
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%,.2f", value);
+    }
+
+    private static Map<String, String> query(String raw) {
+        Map<String, String> params = new LinkedHashMap<>();
+        if (raw == null) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
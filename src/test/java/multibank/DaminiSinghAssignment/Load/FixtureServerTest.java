@@ -0,0 +1,86 @@
+package multibank.DaminiSinghAssignment.Load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import multibank.DaminiSinghAssignment.Utilities.SpotRow;
+import multibank.DaminiSinghAssignment.Utilities.SpotRowValidator;
+
+/**
+ * Offline tests for the local stand-in site used by load runs.
+ */
+public class FixtureServerTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private FixtureServer fixture;
+
+    @BeforeClass
+    public void start() throws IOException {
+        fixture = FixtureServer.start(0);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stop() {
+        if (fixture != null) {
+            fixture.stop();
+        }
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create(fixture.getBaseUrl() + path)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    public void homePageCarriesThePageObjectLocators() throws Exception {
+        HttpResponse<String> home = get("");
+        Assert.assertEquals(home.statusCode(), 200);
+        Assert.assertTrue(home.body().contains("style_spot"));
+        Assert.assertTrue(home.body().contains("slick-track"));
+        Assert.assertTrue(home.body().contains("fixture.js"));
+
+        Assert.assertEquals(get("why-multibank.html").statusCode(), 200);
+        Assert.assertEquals(get("../pom.xml").statusCode(), 404);
+    }
+
+    @Test
+    public void spotRowsPassTheTableInvariants() throws Exception {
+        HttpResponse<String> response = get("api/spot?category=Gainers");
+        Assert.assertEquals(response.statusCode(), 200);
+
+        List<Map<String, Object>> rows = new ObjectMapper().readValue(response.body(), new TypeReference<>() { });
+        Assert.assertEquals(rows.size(), 12);
+
+        // Rendered the way the fixture page renders them
+        List<SpotRow> rendered = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            double change = ((Number) row.get("change")).doubleValue();
+            Assert.assertTrue(change > 0, "Gainers must rise: " + row);
+            rendered.add(new SpotRow((String) row.get("symbol"), (String) row.get("price"),
+                    String.format(Locale.ROOT, "%+.2f%%", change), (String) row.get("high"),
+                    (String) row.get("low"), change < 0 ? -1 : 1));
+        }
+        Assert.assertEquals(SpotRowValidator.withDefaultRules().validate(rendered), List.of());
+    }
+
+    @Test
+    public void unknownCategoryIsNotFound() throws Exception {
+        Assert.assertEquals(get("api/spot?category=Options").statusCode(), 404);
+        Assert.assertTrue(fixture.getApiRequests() >= 1);
+    }
+}
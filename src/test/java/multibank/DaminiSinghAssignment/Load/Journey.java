@@ -0,0 +1,54 @@
+package multibank.DaminiSinghAssignment.Load;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Journey
+ * ------------------------------------------------------------------
+ * One scripted synthetic-user session composed from the page objects.
+ * Each timed step goes through {@link Steps}, which records its latency
+ * (or its failure) under "journey.step" in the LoadRecorder.
+ *
+ * A journey signals a failed check by throwing; the runner counts the
+ * journey as failed and continues with the next arrival.
+ */
+@FunctionalInterface
+public interface Journey {
+
+    void run(WebDriver driver, String baseUrl, Steps steps) throws Exception;
+
+    /**
+     * Step timer handed to a running journey.
+     */
+    final class Steps {
+
+        /** Body of a timed step. */
+        @FunctionalInterface
+        public interface Action {
+            void run() throws Exception;
+        }
+
+        private final String journey;
+        private final LoadRecorder recorder;
+
+        Steps(String journey, LoadRecorder recorder) {
+            this.journey = journey;
+            this.recorder = recorder;
+        }
+
+        /**
+         * Runs and records one step; a failure is recorded as an error and rethrown
+         * (the rest of the journey depends on it).
+         */
+        public void step(String name, Action action) throws Exception {
+            long start = System.nanoTime();
+            boolean error = true;
+            try {
+                action.run();
+                error = false;
+            } finally {
+                recorder.record(journey + "." + name, start, System.nanoTime() - start, error);
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package multibank.DaminiSinghAssignment.Load;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import multibank.DaminiSinghAssignment.PageObjects.HomePage;
+import multibank.DaminiSinghAssignment.PageObjects.SpotSectionPage;
+import multibank.DaminiSinghAssignment.PageObjects.WhyMultiLinkPage;
+import multibank.DaminiSinghAssignment.Utilities.SpotRowValidator;
+
+/**
+ * Journeys
+ * ------------------------------------------------------------------
+ * Built-in synthetic-user journeys, selected by name in -Dload.journeys:
+ *
+ *   browse-home     open homepage → read navigation → advance banner carousel
+ *   spot-scan       open homepage → every Spot category: switch + validate rows
+ *   why-multibank   open homepage → hover menu About Us > Why Multibank? → check components
+ *
+ * They reuse the same page-object methods as the functional tests, so a
+ * locator change breaks (and is fixed for) both at once.
+ */
+public enum Journeys implements Journey {
+
+    BROWSE_HOME("browse-home") {
+        @Override
+        public void run(WebDriver driver, String baseUrl, Steps steps) throws Exception {
+            HomePage home = new HomePage(driver);
+            steps.step("open", () -> {
+                driver.get(baseUrl);
+                check(home.isLogoDisplayed(), "logo not displayed");
+            });
+            steps.step("navigation", () -> check(!home.getNavigationItemTexts().isEmpty(), "no navigation items"));
+            steps.step("banner", () -> {
+                home.clickNextBanner();
+                check(!home.getActiveBannerTexts().isEmpty(), "active banner slide has no text");
+            });
+        }
+    },
+
+    SPOT_SCAN("spot-scan") {
+        @Override
+        public void run(WebDriver driver, String baseUrl, Steps steps) throws Exception {
+            SpotSectionPage spot = new SpotSectionPage(driver);
+            steps.step("open", () -> {
+                driver.get(baseUrl);
+                waitForRows(driver, spot);
+            });
+
+            List<String> categories = spot.getSpotCategoryButtonText();
+            for (String category : categories) {
+                steps.step("category", () -> {
+                    spot.clickSpotCategoryByName(category);
+                    waitForRows(driver, spot);
+                });
+                steps.step("validate", () -> {
+                    List<SpotRowValidator.Violation> violations = spot.validateSpotRows();
+                    check(violations.isEmpty(), category + ": " + violations);
+                });
+            }
+        }
+    },
+
+    WHY_MULTIBANK("why-multibank") {
+        @Override
+        public void run(WebDriver driver, String baseUrl, Steps steps) throws Exception {
+            HomePage home = new HomePage(driver);
+            WhyMultiLinkPage why = new WhyMultiLinkPage(driver);
+            steps.step("open", () -> driver.get(baseUrl));
+            steps.step("menu", () -> {
+                home.openMenuItem("About Us", "Why Multibank?");
+                why.waitForPageToLoad();
+            });
+            steps.step("content", () -> check(why.areAllComponentsVisible(), "components not visible"));
+        }
+    };
+
+    private final String journeyName;
+
+    Journeys(String journeyName) {
+        this.journeyName = journeyName;
+    }
+
+    public String journeyName() {
+        return journeyName;
+    }
+
+    /** Journey by its -Dload.journeys name. */
+    public static Journeys byName(String name) {
+        for (Journeys journey : values()) {
+            if (journey.journeyName.equalsIgnoreCase(name.trim())) {
+                return journey;
+            }
+        }
+        throw new RuntimeException("Unknown load journey: " + name);
+    }
+
+    private static void waitForRows(WebDriver driver, SpotSectionPage spot) {
+        new WebDriverWait(driver, Duration.ofSeconds(30)).until(d -> spot.hasTradingPairsInCurrentCategory());
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new RuntimeException("Journey check failed: " + message);
+        }
+    }
+}
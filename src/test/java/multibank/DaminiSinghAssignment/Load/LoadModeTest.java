@@ -0,0 +1,44 @@
+package multibank.DaminiSinghAssignment.Load;
+
+import java.nio.file.Path;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * LoadModeTest
+ * ------------------------------------------------------------------
+ * Entry point of a load run (loadtest.xml). Targets the local FixtureServer
+ * unless -DbaseUrl is given; production is only ever hit explicitly.
+ *
+ * Prints per-window and whole-run step tables, writes target/load/steps.csv
+ * and fails when the journey error rate (failed + dropped arrivals) exceeds
+ * -Dload.maxErrorRate.
+ */
+public class LoadModeTest {
+
+    @Test
+    public void syntheticUsers() throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        String baseUrl = System.getProperty("baseUrl");
+        FixtureServer fixture = baseUrl == null ? FixtureServer.start(0) : null;
+
+        try {
+            LoadRunner.Result result = LoadRunner.run(profile, fixture != null ? fixture.getBaseUrl() : baseUrl);
+            LoadRunner.print(result);
+
+            Path csv = Path.of("target", "load", "steps.csv");
+            result.recorder().writeCsv(csv);
+            System.out.println("Load step summaries written to " + csv.toAbsolutePath());
+
+            Assert.assertTrue(result.arrivals() > 0, "No journeys arrived; check -Dload.rate / -Dload.duration");
+            Assert.assertTrue(result.errorRate() <= profile.maxErrorRate(),
+                    String.format("Journey error rate %.1f%% above %.1f%%",
+                            result.errorRate() * 100, profile.maxErrorRate() * 100));
+        } finally {
+            if (fixture != null) {
+                fixture.stop();
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package multibank.DaminiSinghAssignment.Load;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LoadProfile
+ * ------------------------------------------------------------------
+ * Shape of a load run, read from system properties:
+ *
+ *   -Dload.users=50             concurrent browsers (pool size = worker threads)
+ *   -Dload.rate=2               new journeys per second (open model)
+ *   -Dload.arrivals=poisson     poisson | uniform inter-arrival times
+ *   -Dload.duration=120         seconds during which journeys arrive
+ *   -Dload.backlog=<users>      arrivals allowed to wait for a free browser;
+ *                               beyond that an arrival is dropped (counted as error)
+ *   -Dload.journeys=browse-home:1,spot-scan:1,why-multibank:1   journey weights
+ *   -Dload.browser=chrome       browser of the pool (always headless)
+ *   -Dload.windowSeconds=10     width of the latency / error-rate time windows
+ *   -Dload.drainSeconds=60      time after the last arrival to finish queued journeys
+ *   -Dload.maxErrorRate=0.05    LoadModeTest fails above this journey error rate
+ *
+ * @param journeys journey → relative weight
+ */
+public record LoadProfile(int users, double arrivalsPerSecond, boolean poisson, Duration duration, int backlog,
+                          Map<Journeys, Integer> journeys, String browser, int windowSeconds,
+                          Duration drain, double maxErrorRate) {
+
+    public static LoadProfile fromSystemProperties() {
+        int users = Integer.getInteger("load.users", 50);
+        return new LoadProfile(
+                users,
+                Double.parseDouble(System.getProperty("load.rate", "2")),
+                !"uniform".equalsIgnoreCase(System.getProperty("load.arrivals", "poisson")),
+                Duration.ofSeconds(Long.getLong("load.duration", 120)),
+                Integer.getInteger("load.backlog", users),
+                parseJourneys(System.getProperty("load.journeys", "browse-home:1,spot-scan:1,why-multibank:1")),
+                System.getProperty("load.browser", "chrome"),
+                Integer.getInteger("load.windowSeconds", 10),
+                Duration.ofSeconds(Long.getLong("load.drainSeconds", 60)),
+                Double.parseDouble(System.getProperty("load.maxErrorRate", "0.05")));
+    }
+
+    /**
+     * Parses "name:weight,name:weight" (weight defaults to 1).
+     */
+    static Map<Journeys, Integer> parseJourneys(String spec) {
+        Map<Journeys, Integer> journeys = new LinkedHashMap<>();
+        for (String part : spec.split(",")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            String[] nameAndWeight = part.split(":");
+            int weight = nameAndWeight.length > 1 ? Integer.parseInt(nameAndWeight[1].trim()) : 1;
+            if (weight > 0) {
+                journeys.put(Journeys.byName(nameAndWeight[0]), weight);
+            }
+        }
+        if (journeys.isEmpty()) {
+            throw new RuntimeException("No load journeys selected: " + spec);
+        }
+        return journeys;
+    }
+
+    @Override
+    public String toString() {
+        return users + " users, " + arrivalsPerSecond + " arrivals/s (" + (poisson ? "poisson" : "uniform")
+                + ") for " + duration.toSeconds() + " s, backlog " + backlog + ", " + browser + " headless, journeys "
+                + journeys;
+    }
+}
@@ -0,0 +1,174 @@
+package multibank.DaminiSinghAssignment.Load;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * LoadRecorder
+ * ------------------------------------------------------------------
+ * Per-step latency and error recording of a load run, bucketed into time
+ * windows (-Dload.windowSeconds, default 10) so a run shows how latency and
+ * error rate develop while users ramp up and the backlog builds.
+ *
+ * Steps are named "journey.step" (e.g. "spot-scan.category") plus the runner's
+ * own "arrival.queueWait" and "driver.acquire". A sample belongs to the window
+ * in which the step started; failed steps count as errors and are left out of
+ * the latency percentiles.
+ *
+ * Recording only appends to a synchronized long array per (window, step), so
+ * 200 worker threads rarely contend on the same monitor.
+ */
+public final class LoadRecorder {
+
+    /**
+     * Latency summary of one step in one window (or over the whole run).
+     *
+     * @param windowStart seconds since the run started (-1 for the whole run)
+     * @param count       all executions (errors included)
+     * @param errors      failed executions
+     * @param p50 … max   latency of successful executions in ms
+     */
+    public record StepSummary(long windowStart, String step, int count, int errors,
+                              double p50, double p90, double p95, double p99, double max) {
+
+        public double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+    }
+
+    /** Latencies (µs) and errors of one step in one window. */
+    static final class Samples {
+        private long[] micros = new long[64];
+        private int size;
+        private int errors;
+
+        synchronized void add(long latencyMicros, boolean error) {
+            if (error) {
+                errors++;
+                return;
+            }
+            if (size == micros.length) {
+                micros = Arrays.copyOf(micros, size * 2);
+            }
+            micros[size++] = latencyMicros;
+        }
+
+        synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(micros, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+
+        synchronized int errors() {
+            return errors;
+        }
+
+        synchronized void addAll(Samples other) {
+            long[] values = other.sorted();
+            for (long value : values) {
+                add(value, false);
+            }
+            errors += other.errors();
+        }
+    }
+
+    private final long startNanos;
+    private final long windowNanos;
+    private final Map<Long, Map<String, Samples>> windows = new ConcurrentSkipListMap<>();
+
+    public LoadRecorder(long startNanos, long windowSeconds) {
+        this.startNanos = startNanos;
+        this.windowNanos = Math.max(1, windowSeconds) * 1_000_000_000L;
+    }
+
+    /**
+     * Records one step execution.
+     *
+     * @param stepStartNanos System.nanoTime() when the step started
+     * @param latencyNanos   step duration
+     */
+    public void record(String step, long stepStartNanos, long latencyNanos, boolean error) {
+        long window = Math.max(0, (stepStartNanos - startNanos) / windowNanos);
+        windows.computeIfAbsent(window, w -> new ConcurrentHashMap<>())
+                .computeIfAbsent(step, s -> new Samples())
+                .add(latencyNanos / 1_000, error);
+    }
+
+    /** Summaries per window, ordered by window then step name. */
+    public List<StepSummary> byWindow() {
+        List<StepSummary> summaries = new ArrayList<>();
+        long windowSeconds = windowNanos / 1_000_000_000L;
+        windows.forEach((window, steps) -> new TreeMap<>(steps).forEach((step, samples) ->
+                summaries.add(summarize(window * windowSeconds, step, samples))));
+        return summaries;
+    }
+
+    /** Summaries over the whole run, ordered by step name. */
+    public List<StepSummary> overall() {
+        Map<String, Samples> merged = new TreeMap<>();
+        windows.values().forEach(steps -> steps.forEach((step, samples) ->
+                merged.computeIfAbsent(step, s -> new Samples()).addAll(samples)));
+
+        List<StepSummary> summaries = new ArrayList<>();
+        merged.forEach((step, samples) -> summaries.add(summarize(-1, step, samples)));
+        return summaries;
+    }
+
+    private static StepSummary summarize(long windowStart, String step, Samples samples) {
+        long[] sorted = samples.sorted();
+        int errors = samples.errors();
+        return new StepSummary(windowStart, step, sorted.length + errors, errors,
+                percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 95), percentile(sorted, 99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1000.0);
+    }
+
+    /** Nearest-rank percentile in ms of sorted µs values (0 when empty). */
+    static double percentile(long[] sortedMicros, double percent) {
+        if (sortedMicros.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percent / 100.0 * sortedMicros.length);
+        return sortedMicros[Math.max(0, Math.min(sortedMicros.length, rank) - 1)] / 1000.0;
+    }
+
+    // =========================================================================
+    //  Output
+    // =========================================================================
+
+    /** Fixed-width table for the console. */
+    public static String table(List<StepSummary> summaries) {
+        StringBuilder out = new StringBuilder(String.format(Locale.ROOT,
+                "%7s  %-28s %7s %7s %9s %9s %9s %9s %9s%n",
+                "window", "step", "count", "err%", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms"));
+        for (StepSummary s : summaries) {
+            out.append(String.format(Locale.ROOT, "%7s  %-28s %7d %6.1f%% %9.0f %9.0f %9.0f %9.0f %9.0f%n",
+                    s.windowStart() < 0 ? "all" : s.windowStart() + "s", s.step(), s.count(),
+                    s.errorRate() * 100, s.p50(), s.p90(), s.p95(), s.p99(), s.max()));
+        }
+        return out.toString();
+    }
+
+    /** Writes window and whole-run summaries as CSV (window "all" = whole run). */
+    public void writeCsv(Path file) throws IOException {
+        StringBuilder csv = new StringBuilder("window_start_s,step,count,errors,error_rate,p50_ms,p90_ms,p95_ms,p99_ms,max_ms\n");
+        List<StepSummary> rows = new ArrayList<>(byWindow());
+        rows.addAll(overall());
+        for (StepSummary s : rows) {
+            csv.append(String.format(Locale.ROOT, "%s,%s,%d,%d,%.4f,%.1f,%.1f,%.1f,%.1f,%.1f%n",
+                    s.windowStart() < 0 ? "all" : Long.toString(s.windowStart()), s.step(), s.count(), s.errors(),
+                    s.errorRate(), s.p50(), s.p90(), s.p95(), s.p99(), s.max()));
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,72 @@
+package multibank.DaminiSinghAssignment.Load;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Offline tests for load-run latency windows, percentiles and error rates.
+ */
+public class LoadRecorderTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    private static final long MS = 1_000_000L;
+
+    @Test
+    public void samplesAreBucketedByStepStartWindow() {
+        LoadRecorder recorder = new LoadRecorder(0, 10);
+        for (int i = 1; i <= 100; i++) {
+            recorder.record("spot-scan.category", 2 * SECOND, i * MS, false);
+        }
+        recorder.record("spot-scan.category", 3 * SECOND, 0, true);
+        recorder.record("spot-scan.category", 12 * SECOND, 500 * MS, false);
+
+        List<LoadRecorder.StepSummary> windows = recorder.byWindow();
+        Assert.assertEquals(windows.size(), 2);
+
+        LoadRecorder.StepSummary first = windows.get(0);
+        Assert.assertEquals(first.windowStart(), 0);
+        Assert.assertEquals(first.count(), 101);
+        Assert.assertEquals(first.errors(), 1);
+        Assert.assertEquals(first.p50(), 50.0);
+        Assert.assertEquals(first.p95(), 95.0);
+        Assert.assertEquals(first.max(), 100.0, "errors are left out of the latencies");
+        Assert.assertEquals(windows.get(1).windowStart(), 10);
+
+        LoadRecorder.StepSummary all = recorder.overall().get(0);
+        Assert.assertEquals(all.windowStart(), -1);
+        Assert.assertEquals(all.count(), 102);
+        Assert.assertEquals(all.errorRate(), 1 / 102.0, 1e-9);
+        Assert.assertEquals(all.max(), 500.0);
+    }
+
+    @Test
+    public void percentileUsesNearestRank() {
+        long[] micros = {1_000, 2_000, 3_000, 4_000};
+        Assert.assertEquals(LoadRecorder.percentile(micros, 50), 2.0);
+        Assert.assertEquals(LoadRecorder.percentile(micros, 99), 4.0);
+        Assert.assertEquals(LoadRecorder.percentile(new long[0], 50), 0.0);
+    }
+
+    @Test
+    public void csvHoldsWindowsAndWholeRun() throws IOException {
+        LoadRecorder recorder = new LoadRecorder(0, 5);
+        recorder.record("arrival.queueWait", 0, 2 * MS, false);
+        recorder.record("browse-home.open", SECOND, 800 * MS, false);
+        recorder.record("browse-home.open", 6 * SECOND, 0, true);
+
+        Path csv = Files.createTempDirectory("load").resolve("steps.csv");
+        recorder.writeCsv(csv);
+        List<String> lines = Files.readAllLines(csv);
+
+        Assert.assertTrue(lines.get(0).startsWith("window_start_s,step,count,errors,error_rate"));
+        Assert.assertTrue(lines.contains("5,browse-home.open,1,1,1.0000,0.0,0.0,0.0,0.0,0.0"), lines.toString());
+        Assert.assertTrue(lines.contains("all,browse-home.open,2,1,0.5000,800.0,800.0,800.0,800.0,800.0"),
+                lines.toString());
+        Assert.assertEquals(lines.size(), 1 + 3 + 2);
+    }
+}
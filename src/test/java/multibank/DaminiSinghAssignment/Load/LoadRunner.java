@@ -0,0 +1,225 @@
+package multibank.DaminiSinghAssignment.Load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import multibank.DaminiSinghAssignment.Core.DriverFactory;
+import multibank.DaminiSinghAssignment.PageObjects.BasePage;
+
+/**
+ * LoadRunner
+ * ------------------------------------------------------------------
+ * Open-model load generator: journeys arrive at a fixed average rate whether
+ * or not earlier ones have finished, the way real visitors do.
+ *
+ *   arrival thread ──offer──▶ backlog queue ──take──▶ N workers ──borrow──▶ DriverPool (N browsers)
+ *
+ *   • The arrival thread schedules arrivals against absolute times, so a slow
+ *     offer never lowers the rate; a full backlog drops the arrival (recorded
+ *     as an "arrival.queueWait" error).
+ *   • Each worker records how long its arrival waited, borrows a reset
+ *     browser ("driver.acquire"), runs a weighted-random journey and records
+ *     every step plus "<journey>.total".
+ *   • After the arrival window the backlog is drained for up to
+ *     LoadProfile.drain; anything still queued then counts as dropped.
+ *
+ * Page performance capture (BasePage) is off for load runs unless -Dperf is
+ * given explicitly: measurements under synthetic load would skew the
+ * per-deploy budget history.
+ */
+public final class LoadRunner {
+
+    /**
+     * Outcome of a run.
+     *
+     * @param arrivals  journeys that arrived
+     * @param dropped   arrivals that never ran (backlog full or drain timeout)
+     * @param completed journeys that finished without error
+     * @param failed    journeys that threw
+     */
+    public record Result(long arrivals, long dropped, long completed, long failed, long elapsedMillis,
+                         int browserLaunches, int browsersDiscarded, LoadRecorder recorder) {
+
+        /** Failed + dropped share of all arrivals. */
+        public double errorRate() {
+            return arrivals == 0 ? 0 : (double) (failed + dropped) / arrivals;
+        }
+    }
+
+    private LoadRunner() {
+    }
+
+    public static Result run(LoadProfile profile, String baseUrl) throws InterruptedException {
+        if (System.getProperty("perf") == null) {
+            System.setProperty("perf", "false");
+        }
+        System.out.println("Load run against " + baseUrl + ": " + profile);
+
+        DriverPool pool = new DriverPool(profile.users(),
+                () -> DriverFactory.createInstance(profile.browser(), true));
+        long prewarmStart = System.nanoTime();
+        pool.prewarm(Math.min(8, profile.users()));
+        System.out.println("Load browsers ready: " + pool.getLaunches() + " in "
+                + (System.nanoTime() - prewarmStart) / 1_000_000 + " ms");
+
+        long start = System.nanoTime();
+        LoadRecorder recorder = new LoadRecorder(start, profile.windowSeconds());
+        BlockingQueue<Long> backlog = new ArrayBlockingQueue<>(Math.max(1, profile.backlog()));
+        AtomicBoolean arriving = new AtomicBoolean(true);
+        LongAdder arrivals = new LongAdder();
+        LongAdder dropped = new LongAdder();
+        LongAdder completed = new LongAdder();
+        LongAdder failed = new LongAdder();
+
+        List<Journeys> weighted = weighted(profile.journeys());
+        ExecutorService workers = Executors.newFixedThreadPool(profile.users(), r -> {
+            Thread thread = new Thread(r, "load-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < profile.users(); i++) {
+            workers.execute(() -> work(pool, backlog, arriving, weighted, baseUrl, recorder, completed, failed));
+        }
+
+        // Arrivals on the calling thread
+        long end = start + profile.duration().toNanos();
+        double meanGapNanos = 1_000_000_000.0 / profile.arrivalsPerSecond();
+        long next = start;
+        while (true) {
+            next += (long) (profile.poisson()
+                    ? -Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanGapNanos
+                    : meanGapNanos);
+            if (next >= end) {
+                break;
+            }
+            LockSupport.parkNanos(next - System.nanoTime());
+            arrivals.increment();
+            if (!backlog.offer(System.nanoTime())) {
+                dropped.increment();
+                recorder.record("arrival.queueWait", System.nanoTime(), 0, true);
+            }
+        }
+        arriving.set(false);
+
+        workers.shutdown();
+        if (!workers.awaitTermination(profile.drain().toSeconds(), TimeUnit.SECONDS)) {
+            System.out.println("Load drain timed out after " + profile.drain().toSeconds() + " s");
+        }
+        List<Long> stranded = new ArrayList<>();
+        backlog.drainTo(stranded);
+        stranded.forEach(arrivedAt -> recorder.record("arrival.queueWait", arrivedAt, 0, true));
+        dropped.add(stranded.size());
+        workers.shutdownNow();
+        pool.close();
+
+        return new Result(arrivals.sum(), dropped.sum(), completed.sum(), failed.sum(),
+                (System.nanoTime() - start) / 1_000_000, pool.getLaunches(), pool.getDiscarded(), recorder);
+    }
+
+    /** Worker loop: one journey per arrival until arrivals stop and the backlog is empty. */
+    private static void work(DriverPool pool, BlockingQueue<Long> backlog, AtomicBoolean arriving,
+                             List<Journeys> weighted, String baseUrl, LoadRecorder recorder,
+                             LongAdder completed, LongAdder failed) {
+        try {
+            while (true) {
+                Long arrivedAt = backlog.poll(100, TimeUnit.MILLISECONDS);
+                if (arrivedAt == null) {
+                    if (!arriving.get()) {
+                        return;
+                    }
+                    continue;
+                }
+                recorder.record("arrival.queueWait", arrivedAt, System.nanoTime() - arrivedAt, false);
+
+                long acquireStart = System.nanoTime();
+                WebDriver driver;
+                try {
+                    driver = pool.borrow();
+                } catch (RuntimeException e) {
+                    recorder.record("driver.acquire", acquireStart, System.nanoTime() - acquireStart, true);
+                    failed.increment();
+                    continue;
+                }
+                recorder.record("driver.acquire", acquireStart, System.nanoTime() - acquireStart, false);
+
+                Journeys journey = weighted.get(ThreadLocalRandom.current().nextInt(weighted.size()));
+                long journeyStart = System.nanoTime();
+                boolean ok = false;
+                boolean broken = false;
+                try {
+                    journey.run(driver, baseUrl, new Journey.Steps(journey.journeyName(), recorder));
+                    ok = true;
+                } catch (WebDriverException e) {
+                    broken = !isAlive(driver);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    // check failed; logged through the step error counts
+                } finally {
+                    recorder.record(journey.journeyName() + ".total", journeyStart,
+                            System.nanoTime() - journeyStart, !ok);
+                    BasePage.drainCapturedTimings();
+                }
+
+                if (ok) {
+                    completed.increment();
+                } else {
+                    failed.increment();
+                }
+                if (broken) {
+                    pool.discard(driver);
+                } else {
+                    pool.release(driver);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    /** Journey list in which each journey appears weight times (uniform pick = weighted pick). */
+    static List<Journeys> weighted(Map<Journeys, Integer> weights) {
+        List<Journeys> weighted = new ArrayList<>();
+        weights.forEach((journey, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(journey);
+            }
+        });
+        return weighted;
+    }
+
+    /** Console summary of a run. */
+    public static void print(Result result) {
+        System.out.println("=== LOAD RUN: " + result.arrivals() + " arrivals, " + result.completed() + " completed, "
+                + result.failed() + " failed, " + result.dropped() + " dropped in " + result.elapsedMillis() + " ms"
+                + " | browsers launched " + result.browserLaunches() + ", replaced " + result.browsersDiscarded()
+                + " | error rate " + String.format("%.1f%%", result.errorRate() * 100) + " ===");
+        System.out.println("--- per window ---");
+        System.out.print(LoadRecorder.table(result.recorder().byWindow()));
+        System.out.println("--- whole run ---");
+        System.out.print(LoadRecorder.table(result.recorder().overall()));
+    }
+}
@@ -0,0 +1,236 @@
+package multibank.DaminiSinghAssignment.Soak;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.JsonInput;
+
+/**
+ * MemoryProbe
+ * ------------------------------------------------------------------
+ * Samples the memory footprint of one browser session for soak runs.
+ *
+ * Metrics (keys of a sample, MB / counts):
+ *   jsHeapUsedMb, jsHeapTotalMb   V8 heap of the page (CDP Performance.getMetrics,
+ *                                 else performance.memory)
+ *   domNodes                      elements attached to the document
+ *   nodes                         all live DOM nodes incl. detached ones (CDP);
+ *                                 nodes growing while domNodes stays flat = detached-node leak
+ *   listeners                     JS event listeners (CDP)
+ *   documents                     live documents incl. iframes (CDP)
+ *   rssMb                         resident memory of all browser processes of this
+ *                                 session (local Linux only: /proc, matched by user-data-dir)
+ *
+ * With collectGarbage (CDP only) a full GC runs before each sample, so the
+ * heap and node counts show what is still reachable rather than when the
+ * collector last happened to run.
+ *
+ * A metric the browser cannot report is simply absent from the sample.
+ * Firefox gets domNodes only.
+ */
+final class MemoryProbe {
+
+    static final String JS_HEAP_USED = "jsHeapUsedMb";
+    static final String JS_HEAP_TOTAL = "jsHeapTotalMb";
+    static final String DOM_NODES = "domNodes";
+    static final String NODES = "nodes";
+    static final String LISTENERS = "listeners";
+    static final String DOCUMENTS = "documents";
+    static final String RSS = "rssMb";
+
+    /** CSV / trend order of the metrics. */
+    static final List<String> METRICS = List.of(JS_HEAP_USED, JS_HEAP_TOTAL, DOM_NODES, NODES, LISTENERS,
+            DOCUMENTS, RSS);
+
+    private static final double MB = 1024.0 * 1024.0;
+
+    private static final String PAGE_SCRIPT =
+            "var m = window.performance && performance.memory;"
+          + "return { domNodes: document.getElementsByTagName('*').length,"
+          + "         used: m ? m.usedJSHeapSize : null, total: m ? m.totalJSHeapSize : null };";
+
+    private final WebDriver driver;
+    private final DevTools devTools;
+    private final String userDataDir;
+    private final boolean collectGarbage;
+
+    private MemoryProbe(WebDriver driver, DevTools devTools, String userDataDir, boolean collectGarbage) {
+        this.driver = driver;
+        this.devTools = devTools;
+        this.userDataDir = userDataDir;
+        this.collectGarbage = collectGarbage;
+    }
+
+    /**
+     * Probe for the given session; CDP is used for Chrome/Edge when available.
+     */
+    static MemoryProbe attach(WebDriver driver, boolean collectGarbage) {
+        DevTools devTools = null;
+        String userDataDir = null;
+        if (driver instanceof HasCapabilities) {
+            String browser = ((HasCapabilities) driver).getCapabilities().getBrowserName().toLowerCase();
+            boolean chromium = browser.contains("chrome") || browser.contains("edge");
+            if (chromium && driver instanceof HasDevTools) {
+                try {
+                    devTools = ((HasDevTools) driver).getDevTools();
+                    devTools.createSessionIfThereIsNotOne();
+                    devTools.send(new Command<Void>("Performance.enable", Map.of()));
+                } catch (RuntimeException e) {
+                    System.out.println("Soak: CDP metrics unavailable, falling back to page script: " + e.getMessage());
+                    devTools = null;
+                }
+            }
+            userDataDir = chromium ? userDataDir(((HasCapabilities) driver).getCapabilities().asMap()) : null;
+        }
+        return new MemoryProbe(driver, devTools, userDataDir, collectGarbage);
+    }
+
+    /** One sample; never throws for a metric that cannot be read. */
+    Map<String, Double> sample() {
+        Map<String, Double> metrics = new LinkedHashMap<>();
+
+        if (devTools != null && collectGarbage) {
+            try {
+                devTools.send(new Command<Void>("HeapProfiler.collectGarbage", Map.of()));
+            } catch (RuntimeException e) {
+                System.out.println("Soak: HeapProfiler.collectGarbage failed: " + e.getMessage());
+            }
+        }
+
+        Object raw = ((JavascriptExecutor) driver).executeScript(PAGE_SCRIPT);
+        if (raw instanceof Map<?, ?> page) {
+            putNumber(metrics, DOM_NODES, page.get("domNodes"), 1);
+            putNumber(metrics, JS_HEAP_USED, page.get("used"), MB);
+            putNumber(metrics, JS_HEAP_TOTAL, page.get("total"), MB);
+        }
+
+        if (devTools != null) {
+            try {
+                Map<String, Double> cdp = devTools.send(
+                        new Command<>("Performance.getMetrics", Map.of(), MemoryProbe::readMetrics));
+                putNumber(metrics, JS_HEAP_USED, cdp.get("JSHeapUsedSize"), MB);
+                putNumber(metrics, JS_HEAP_TOTAL, cdp.get("JSHeapTotalSize"), MB);
+                putNumber(metrics, NODES, cdp.get("Nodes"), 1);
+                putNumber(metrics, LISTENERS, cdp.get("JSEventListeners"), 1);
+                putNumber(metrics, DOCUMENTS, cdp.get("Documents"), 1);
+            } catch (RuntimeException e) {
+                System.out.println("Soak: Performance.getMetrics failed: " + e.getMessage());
+            }
+        }
+
+        if (userDataDir != null) {
+            long rssKb = rssKb(userDataDir);
+            if (rssKb > 0) {
+                metrics.put(RSS, rssKb / 1024.0);
+            }
+        }
+        return metrics;
+    }
+
+    private static void putNumber(Map<String, Double> metrics, String metric, Object value, double divisor) {
+        if (value instanceof Number) {
+            metrics.put(metric, ((Number) value).doubleValue() / divisor);
+        }
+    }
+
+    /** Performance.getMetrics result: { metrics: [ { name, value }, ... ] } → name → value. */
+    private static Map<String, Double> readMetrics(JsonInput input) {
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        input.beginObject();
+        while (input.hasNext()) {
+            if (!"metrics".equals(input.nextName())) {
+                input.skipValue();
+                continue;
+            }
+            input.beginArray();
+            while (input.hasNext()) {
+                String name = null;
+                double value = 0;
+                input.beginObject();
+                while (input.hasNext()) {
+                    switch (input.nextName()) {
+                        case "name" -> name = input.nextString();
+                        case "value" -> value = input.nextNumber().doubleValue();
+                        default -> input.skipValue();
+                    }
+                }
+                input.endObject();
+                if (name != null) {
+                    metrics.put(name, value);
+                }
+            }
+            input.endArray();
+        }
+        input.endObject();
+        return metrics;
+    }
+
+    // =========================================================================
+    //  Browser process RSS (/proc)
+    // =========================================================================
+
+    /**
+     * User data directory of a local Chrome/Edge session, from the returned
+     * capabilities ("chrome" / "msedge" → userDataDir).
+     */
+    static String userDataDir(Map<String, Object> capabilities) {
+        for (String vendor : List.of("chrome", "msedge")) {
+            if (capabilities.get(vendor) instanceof Map<?, ?> details
+                    && details.get("userDataDir") instanceof String dir && !dir.isBlank()) {
+                return dir;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sum of VmRSS (kB) over all processes started with --user-data-dir=dir:
+     * browser, GPU, renderer and utility processes of this one session.
+     * 0 when /proc is not available (non-Linux, remote browsers).
+     */
+    static long rssKb(String userDataDir) {
+        Path proc = Path.of("/proc");
+        if (!Files.isDirectory(proc)) {
+            return 0;
+        }
+        String flag = "--user-data-dir=" + userDataDir + '\0';   // cmdline arguments are NUL-terminated
+        long total = 0;
+        try (DirectoryStream<Path> processes = Files.newDirectoryStream(proc, p -> p.getFileName().toString().matches("\\d+"))) {
+            for (Path process : processes) {
+                try {
+                    String cmdline = new String(Files.readAllBytes(process.resolve("cmdline")), StandardCharsets.UTF_8);
+                    if (cmdline.contains(flag)) {
+                        total += vmRssKb(Files.readString(process.resolve("status")));
+                    }
+                } catch (IOException e) {
+                    // process exited between listing and reading
+                }
+            }
+        } catch (IOException e) {
+            return 0;
+        }
+        return total;
+    }
+
+    /** VmRSS line of /proc/&lt;pid&gt;/status in kB (0 if absent, e.g. zombie processes). */
+    static long vmRssKb(String status) {
+        for (String line : status.split("\n")) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.substring(6).replace("kB", "").trim());
+            }
+        }
+        return 0;
+    }
+}
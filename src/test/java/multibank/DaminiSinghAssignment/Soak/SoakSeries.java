@@ -0,0 +1,133 @@
+package multibank.DaminiSinghAssignment.Soak;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * SoakSeries
+ * ------------------------------------------------------------------
+ * Memory time series of a soak run and its growth trends.
+ *
+ * For every metric a least-squares line is fitted through the samples taken
+ * after the warm-up (the first minute is dominated by initial page load and
+ * JIT, not by leaks). A metric is flagged as growing when
+ *
+ *   • the slope, relative to the fitted value at warm-up end, exceeds
+ *     maxGrowthPercentPerHour, and
+ *   • the line explains the data (R² ≥ minR2) — a steady climb, not a
+ *     single GC-timing spike.
+ */
+final class SoakSeries {
+
+    /**
+     * One sample.
+     *
+     * @param elapsedMillis time since the soak started
+     * @param category      Spot category shown when sampled
+     * @param metrics       MemoryProbe metric → value
+     */
+    record Sample(long elapsedMillis, String category, Map<String, Double> metrics) {
+    }
+
+    /**
+     * Fitted trend of one metric.
+     *
+     * @param slopePerHour         metric units per hour
+     * @param growthPercentPerHour slope relative to the fitted start value
+     * @param r2                   coefficient of determination of the fit
+     */
+    record Trend(String metric, int samples, double start, double end, double slopePerHour,
+                 double growthPercentPerHour, double r2, boolean flagged) {
+
+        String describe() {
+            return String.format(Locale.ROOT, "%-13s %4d samples  %10.1f → %10.1f  slope %+10.2f/h  %+7.1f%%/h  R² %.2f%s",
+                    metric, samples, start, end, slopePerHour, growthPercentPerHour, r2, flagged ? "  ← GROWING" : "");
+        }
+    }
+
+    /** Least-squares fit y = intercept + slope·x. */
+    record Fit(double intercept, double slope, double r2) {
+    }
+
+    private final List<Sample> samples = new ArrayList<>();
+
+    void add(Sample sample) {
+        samples.add(sample);
+    }
+
+    /**
+     * Trend per metric over samples taken at or after warmupMillis
+     * (metrics with fewer than 3 such samples are skipped).
+     */
+    List<Trend> trends(long warmupMillis, double maxGrowthPercentPerHour, double minR2) {
+        List<Trend> trends = new ArrayList<>();
+        for (String metric : MemoryProbe.METRICS) {
+            List<double[]> points = new ArrayList<>();
+            for (Sample sample : samples) {
+                Double value = sample.metrics().get(metric);
+                if (value != null && sample.elapsedMillis() >= warmupMillis) {
+                    points.add(new double[] {sample.elapsedMillis() / 3_600_000.0, value});
+                }
+            }
+            if (points.size() < 3) {
+                continue;
+            }
+            double[] hours = points.stream().mapToDouble(p -> p[0]).toArray();
+            double[] values = points.stream().mapToDouble(p -> p[1]).toArray();
+            Fit fit = fit(hours, values);
+
+            double start = fit.intercept() + fit.slope() * hours[0];
+            double end = fit.intercept() + fit.slope() * hours[hours.length - 1];
+            double growth = start > 0 ? fit.slope() / start * 100 : 0;
+            trends.add(new Trend(metric, points.size(), start, end, fit.slope(), growth, fit.r2(),
+                    growth > maxGrowthPercentPerHour && fit.r2() >= minR2));
+        }
+        return trends;
+    }
+
+    /** Ordinary least squares; R² is 0 for a constant series. */
+    static Fit fit(double[] x, double[] y) {
+        int n = x.length;
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = 0; i < n; i++) {
+            meanX += x[i] / n;
+            meanY += y[i] / n;
+        }
+        double sxy = 0;
+        double sxx = 0;
+        double syy = 0;
+        for (int i = 0; i < n; i++) {
+            sxy += (x[i] - meanX) * (y[i] - meanY);
+            sxx += (x[i] - meanX) * (x[i] - meanX);
+            syy += (y[i] - meanY) * (y[i] - meanY);
+        }
+        double slope = sxx == 0 ? 0 : sxy / sxx;
+        double r2 = sxx == 0 || syy == 0 ? 0 : (sxy * sxy) / (sxx * syy);
+        return new Fit(meanY - slope * meanX, slope, r2);
+    }
+
+    /** Writes the time series as CSV: one row per sample, one column per metric (empty = not reported). */
+    void writeCsv(Path file) throws IOException {
+        StringBuilder csv = new StringBuilder("elapsed_s,category");
+        MemoryProbe.METRICS.forEach(metric -> csv.append(',').append(metric));
+        csv.append('\n');
+        for (Sample sample : samples) {
+            csv.append(String.format(Locale.ROOT, "%.1f", sample.elapsedMillis() / 1000.0))
+                    .append(',').append(sample.category());
+            for (String metric : MemoryProbe.METRICS) {
+                Double value = sample.metrics().get(metric);
+                csv.append(',').append(value == null ? "" : String.format(Locale.ROOT, "%.2f", value));
+            }
+            csv.append('\n');
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,86 @@
+package multibank.DaminiSinghAssignment.Soak;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Offline tests for soak growth trends, the CSV time series and RSS parsing.
+ */
+public class SoakSeriesTest {
+
+    private static final long MINUTE = 60_000;
+
+    private static SoakSeries series(double heapPerMinute, double nodesNoise) {
+        SoakSeries series = new SoakSeries();
+        for (int minute = 0; minute <= 60; minute++) {
+            series.add(new SoakSeries.Sample(minute * MINUTE, "Top", Map.of(
+                    MemoryProbe.JS_HEAP_USED, 20 + heapPerMinute * minute,
+                    MemoryProbe.NODES, 1500 + (minute % 2 == 0 ? nodesNoise : -nodesNoise))));
+        }
+        return series;
+    }
+
+    private static SoakSeries.Trend trend(List<SoakSeries.Trend> trends, String metric) {
+        return trends.stream().filter(t -> t.metric().equals(metric)).findFirst().orElseThrow();
+    }
+
+    @Test
+    public void steadyClimbIsFlaggedNoiseIsNot() {
+        List<SoakSeries.Trend> trends = series(0.1, 40).trends(0, 10, 0.6);
+
+        SoakSeries.Trend heap = trend(trends, MemoryProbe.JS_HEAP_USED);
+        Assert.assertEquals(heap.slopePerHour(), 6.0, 1e-6);
+        Assert.assertEquals(heap.growthPercentPerHour(), 30.0, 1e-6);
+        Assert.assertEquals(heap.r2(), 1.0, 1e-9);
+        Assert.assertTrue(heap.flagged());
+
+        SoakSeries.Trend nodes = trend(trends, MemoryProbe.NODES);
+        Assert.assertFalse(nodes.flagged(), nodes.describe());
+        Assert.assertEquals(trends.size(), 2, "metrics without samples are skipped");
+    }
+
+    @Test
+    public void warmupIsLeftOutOfTheFit() {
+        SoakSeries series = new SoakSeries();
+        series.add(new SoakSeries.Sample(0, "Top", Map.of(MemoryProbe.DOM_NODES, 200.0)));
+        for (int minute = 2; minute <= 30; minute++) {
+            series.add(new SoakSeries.Sample(minute * MINUTE, "Top", Map.of(MemoryProbe.DOM_NODES, 900.0)));
+        }
+
+        SoakSeries.Trend flat = trend(series.trends(2 * MINUTE, 10, 0.6), MemoryProbe.DOM_NODES);
+        Assert.assertEquals(flat.samples(), 29);
+        Assert.assertEquals(flat.slopePerHour(), 0.0, 1e-9);
+        Assert.assertFalse(flat.flagged());
+
+        Assert.assertTrue(trend(series.trends(0, 10, 0.1), MemoryProbe.DOM_NODES).slopePerHour() > 0,
+                "the initial page build-up alone looks like growth");
+    }
+
+    @Test
+    public void csvHasOneColumnPerMetric() throws IOException {
+        SoakSeries series = new SoakSeries();
+        series.add(new SoakSeries.Sample(1500, "Gainers", Map.of(MemoryProbe.DOM_NODES, 812.0, MemoryProbe.RSS, 301.25)));
+
+        Path csv = Files.createTempDirectory("soak").resolve("memory.csv");
+        series.writeCsv(csv);
+        List<String> lines = Files.readAllLines(csv);
+
+        Assert.assertEquals(lines.get(0), "elapsed_s,category,jsHeapUsedMb,jsHeapTotalMb,domNodes,nodes,listeners,documents,rssMb");
+        Assert.assertEquals(lines.get(1), "1.5,Gainers,,,812.00,,,,301.25");
+    }
+
+    @Test
+    public void rssIsReadFromProcStatus() {
+        Assert.assertEquals(MemoryProbe.vmRssKb("Name:\tchrome\nVmPeak:\t 900 kB\nVmRSS:\t  183452 kB\nThreads:\t12\n"), 183452);
+        Assert.assertEquals(MemoryProbe.vmRssKb("Name:\tzombie\nState:\tZ\n"), 0);
+        Assert.assertEquals(MemoryProbe.userDataDir(Map.of("chrome", Map.of("userDataDir", "/tmp/.org.chromium.X"))),
+                "/tmp/.org.chromium.X");
+        Assert.assertNull(MemoryProbe.userDataDir(Map.of("browserName", "firefox")));
+    }
+}
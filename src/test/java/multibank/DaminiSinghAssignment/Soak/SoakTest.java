@@ -0,0 +1,131 @@
+package multibank.DaminiSinghAssignment.Soak;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import multibank.DaminiSinghAssignment.Core.DriverFactory;
+import multibank.DaminiSinghAssignment.Load.FixtureServer;
+import multibank.DaminiSinghAssignment.PageObjects.SpotSectionPage;
+
+/**
+ * SoakTest
+ * ------------------------------------------------------------------
+ * Long-running single-session soak (soaktest.xml): one browser stays on the
+ * homepage for hours, cycles the Spot categories on a schedule and samples
+ * its memory footprint (MemoryProbe) at fixed intervals.
+ *
+ *   -Dsoak.duration=3600           seconds to run
+ *   -Dsoak.cycleSeconds=30         switch to the next Spot category every N s
+ *   -Dsoak.sampleSeconds=60        memory sample every N s
+ *   -Dsoak.warmupSeconds=120       samples left out of the trend fit
+ *   -Dsoak.maxGrowthPerHour=10     % per hour above which a metric is flagged
+ *   -Dsoak.minR2=0.6               fit quality required to flag (steady climb, not noise)
+ *   -Dsoak.gc=true                 full GC before each sample (CDP)
+ *   -Dsoak.failOnGrowth=true       fail the test when a metric is flagged
+ *   -Dsoak.browser=chrome          browser (headless per -Dheadless)
+ *
+ * Targets the local fixture site with live row updates (?live=1000) unless
+ * -DbaseUrl is given. The time series goes to target/soak/memory.csv.
+ */
+public class SoakTest {
+
+    @Test
+    public void memoryStaysFlat() throws Exception {
+        long duration = TimeUnit.SECONDS.toMillis(Long.getLong("soak.duration", 3600));
+        long cycleEvery = TimeUnit.SECONDS.toMillis(Long.getLong("soak.cycleSeconds", 30));
+        long sampleEvery = TimeUnit.SECONDS.toMillis(Long.getLong("soak.sampleSeconds", 60));
+        long warmup = TimeUnit.SECONDS.toMillis(Long.getLong("soak.warmupSeconds", 120));
+        double maxGrowth = Double.parseDouble(System.getProperty("soak.maxGrowthPerHour", "10"));
+        double minR2 = Double.parseDouble(System.getProperty("soak.minR2", "0.6"));
+        boolean collectGarbage = Boolean.parseBoolean(System.getProperty("soak.gc", "true"));
+
+        String baseUrl = System.getProperty("baseUrl");
+        FixtureServer fixture = baseUrl == null ? FixtureServer.start(0) : null;
+        WebDriver driver = null;
+        SoakSeries series = new SoakSeries();
+        int cycles = 0;
+        int failedCycles = 0;
+
+        try {
+            driver = DriverFactory.createInstance(System.getProperty("soak.browser", "chrome"));
+            driver.get(fixture != null ? fixture.getBaseUrl() + "?live=1000" : baseUrl);
+            SpotSectionPage spot = new SpotSectionPage(driver);
+            waitForRows(driver, spot);
+
+            List<String> categories = spot.getSpotCategoryButtonText();
+            MemoryProbe probe = MemoryProbe.attach(driver, collectGarbage);
+            System.out.println("Soak started: " + duration / 1000 + " s, categories " + categories
+                    + " every " + cycleEvery / 1000 + " s, sample every " + sampleEvery / 1000 + " s");
+
+            long start = System.nanoTime();
+            long nextSample = 0;
+            long nextCycle = cycleEvery;
+            int category = 0;
+            while (true) {
+                long elapsed = (System.nanoTime() - start) / 1_000_000;
+                if (elapsed >= duration) {
+                    break;
+                }
+                if (elapsed >= nextSample) {
+                    Map<String, Double> metrics = probe.sample();
+                    series.add(new SoakSeries.Sample(elapsed, categories.get(category), metrics));
+                    System.out.println("Soak " + elapsed / 1000 + " s [" + categories.get(category) + "] " + metrics);
+                    nextSample += sampleEvery;
+                }
+                if (elapsed >= nextCycle) {
+                    category = (category + 1) % categories.size();
+                    cycles++;
+                    try {
+                        spot.clickSpotCategoryByName(categories.get(category));
+                        waitForRows(driver, spot);
+                    } catch (RuntimeException e) {
+                        failedCycles++;
+                        System.out.println("Soak: switching to " + categories.get(category) + " failed: " + e.getMessage());
+                    }
+                    nextCycle += cycleEvery;
+                }
+                long sleep = Math.min(Math.min(nextSample, nextCycle), duration) - (System.nanoTime() - start) / 1_000_000;
+                if (sleep > 0) {
+                    Thread.sleep(sleep);
+                }
+            }
+            series.add(new SoakSeries.Sample((System.nanoTime() - start) / 1_000_000, categories.get(category),
+                    probe.sample()));
+        } finally {
+            if (driver != null) {
+                driver.quit();
+            }
+            if (fixture != null) {
+                fixture.stop();
+            }
+            Path csv = Path.of("target", "soak", "memory.csv");
+            series.writeCsv(csv);
+            System.out.println("Soak time series written to " + csv.toAbsolutePath());
+        }
+
+        List<SoakSeries.Trend> trends = series.trends(warmup, maxGrowth, minR2);
+        System.out.println("=== SOAK TRENDS (after " + warmup / 1000 + " s warm-up, flag > " + maxGrowth
+                + " %/h with R² ≥ " + minR2 + ", " + failedCycles + "/" + cycles + " category switches failed) ===");
+        trends.forEach(trend -> System.out.println(trend.describe()));
+
+        List<String> growing = trends.stream().filter(SoakSeries.Trend::flagged).map(SoakSeries.Trend::metric).toList();
+        if (Boolean.parseBoolean(System.getProperty("soak.failOnGrowth", "true"))) {
+            Assert.assertTrue(growing.isEmpty(), "Memory growing over the soak: " + growing);
+        }
+        // A live table may occasionally be mid-refresh; more than 5 % failed switches is a real problem
+        Assert.assertTrue(failedCycles * 20 <= cycles,
+                "Category switching failed " + failedCycles + " of " + cycles + " times");
+    }
+
+    private static void waitForRows(WebDriver driver, SpotSectionPage spot) {
+        new WebDriverWait(driver, Duration.ofSeconds(30)).until(d -> spot.hasTradingPairsInCurrentCategory());
+    }
+}
@@ -0,0 +1,59 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Offline tests for ContentValidationCache persistence and key hashing.
+ */
+public class ContentValidationCacheTest {
+
+    @Test
+    public void verifiedSectionSurvivesSaveAndLoad() throws IOException {
+        Path file = Files.createTempDirectory("validation-cache").resolve("content-validation.json");
+
+        ContentValidationCache cache = ContentValidationCache.load(file);
+        cache.markVerified("page", "buttons", "abc", "def");
+        cache.save();
+
+        ContentValidationCache reloaded = ContentValidationCache.load(file);
+        Assert.assertTrue(reloaded.isVerified("page", "buttons", "abc", "def"));
+        Assert.assertFalse(reloaded.isVerified("page", "buttons", "changed", "def"));
+        Assert.assertFalse(reloaded.isVerified("page", "buttons", "abc", "changed"));
+        Assert.assertFalse(reloaded.isVerified("page", "headings", "abc", "def"));
+    }
+
+    @Test
+    public void invalidatedSectionIsNotVerified() throws IOException {
+        Path file = Files.createTempDirectory("validation-cache").resolve("content-validation.json");
+
+        ContentValidationCache cache = ContentValidationCache.load(file);
+        cache.markVerified("page", "buttons", "abc", "def");
+        cache.invalidate("page", "buttons");
+
+        Assert.assertFalse(cache.isVerified("page", "buttons", "abc", "def"));
+    }
+
+    @Test
+    public void corruptFileYieldsEmptyCache() throws IOException {
+        Path file = Files.createTempFile("content-validation", ".json");
+        Files.writeString(file, "{ not json");
+
+        Assert.assertFalse(ContentValidationCache.load(file).isVerified("page", "buttons", "abc", "def"));
+    }
+
+    @Test
+    public void expectedHashDependsOnTextsAndMode() {
+        String strict = ContentValidationCache.hashExpected(List.of("A", "B"), true);
+
+        Assert.assertEquals(ContentValidationCache.hashExpected(List.of("A", "B"), true), strict);
+        Assert.assertNotEquals(ContentValidationCache.hashExpected(List.of("A", "B"), false), strict);
+        Assert.assertNotEquals(ContentValidationCache.hashExpected(List.of("B", "A"), true), strict);
+        Assert.assertNotEquals(ContentValidationCache.hashExpected(List.of("AB"), true), strict);
+    }
+}
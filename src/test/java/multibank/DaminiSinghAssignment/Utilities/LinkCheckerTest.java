@@ -0,0 +1,122 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Offline tests for LinkChecker against a local stub HTTP server.
+ *
+ * Stub routes:
+ *  - /ok          → 200
+ *  - /redirect    → 302 → /ok
+ *  - /loop        → 302 → /loop (redirect loop)
+ *  - /head-denied → 405 for HEAD, 200 for GET
+ *  - /missing     → 404
+ *
+ * No browser is involved, so these tests run in milliseconds.
+ */
+public class LinkCheckerTest {
+
+    private HttpServer server;
+    private String base;
+
+    @BeforeClass
+    public void startStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> respond(exchange, 200, null));
+        server.createContext("/redirect", exchange -> respond(exchange, 302, "/ok"));
+        server.createContext("/loop", exchange -> respond(exchange, 302, "/loop"));
+        server.createContext("/head-denied", exchange ->
+                respond(exchange, "HEAD".equals(exchange.getRequestMethod()) ? 405 : 200, null));
+        server.createContext("/missing", exchange -> respond(exchange, 404, null));
+        server.start();
+
+        base = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStubServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String location) throws IOException {
+        if (location != null) {
+            exchange.getResponseHeaders().add("Location", location);
+        }
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+
+    private LinkChecker.LinkResult checkSingle(String path) {
+        Map<String, String> links = Map.of("link", base + path);
+        List<LinkChecker.LinkResult> results = new LinkChecker(4, Duration.ofSeconds(5), 3).check(links);
+        Assert.assertEquals(results.size(), 1);
+        return results.get(0);
+    }
+
+    @Test
+    public void okLinkPassesWithHead() {
+        LinkChecker.LinkResult result = checkSingle("/ok");
+        Assert.assertTrue(result.isOk(), result.toString());
+        Assert.assertEquals(result.method(), "HEAD");
+        Assert.assertTrue(result.redirects().isEmpty());
+    }
+
+    @Test
+    public void redirectIsFollowedAndRecorded() {
+        LinkChecker.LinkResult result = checkSingle("/redirect");
+        Assert.assertTrue(result.isOk(), result.toString());
+        Assert.assertEquals(result.status(), 200);
+        Assert.assertEquals(result.redirects(), List.of(base + "/ok"));
+    }
+
+    @Test
+    public void redirectLoopIsReported() {
+        LinkChecker.LinkResult result = checkSingle("/loop");
+        Assert.assertFalse(result.isOk());
+        Assert.assertTrue(result.error().startsWith("Too many redirects"), result.toString());
+    }
+
+    @Test
+    public void headRejectionFallsBackToGet() {
+        LinkChecker.LinkResult result = checkSingle("/head-denied");
+        Assert.assertTrue(result.isOk(), result.toString());
+        Assert.assertEquals(result.method(), "GET");
+    }
+
+    @Test
+    public void missingLinkIsBroken() {
+        LinkChecker.LinkResult result = checkSingle("/missing");
+        Assert.assertFalse(result.isOk());
+        Assert.assertEquals(result.status(), 404);
+    }
+
+    @Test
+    public void nonHttpLinksAreSkippedAndOrderIsKept() {
+        Map<String, String> links = new LinkedHashMap<>();
+        links.put("first", base + "/ok");
+        links.put("anchor", "#top");
+        links.put("script", "javascript:void(0)");
+        links.put("second", base + "/missing");
+
+        List<LinkChecker.LinkResult> results = new LinkChecker(2, Duration.ofSeconds(5), 3).check(links);
+
+        Assert.assertEquals(results.size(), 2);
+        Assert.assertEquals(results.get(0).label(), "first");
+        Assert.assertEquals(results.get(1).label(), "second");
+    }
+}
@@ -0,0 +1,84 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import multibank.DaminiSinghAssignment.Listeners.MetricsListener;
+
+/**
+ * Offline tests for the lock-free metrics registry and its OpenMetrics endpoint.
+ */
+public class MetricsTest {
+
+    @Test
+    public void concurrentIncrementsAreNotLost() throws Exception {
+        Metrics.Counter counter = Metrics.counter("test_concurrent", "Concurrency check", null, null);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        counter.increment();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        Assert.assertEquals(counter.get(), 80_000);
+    }
+
+    @Test
+    public void histogramBucketsAreCumulative() {
+        Metrics.Histogram histogram = Metrics.histogram("test_latency_seconds", "Bucket check", "browser", "chrome");
+        histogram.observeNanos(5_000_000);        // 5 ms   → le 0.01
+        histogram.observeNanos(300_000_000);      // 300 ms → le 0.5
+        histogram.observeNanos(120_000_000_000L); // 120 s  → +Inf only
+
+        String text = Metrics.render();
+        Assert.assertTrue(text.contains("# TYPE multibank_test_latency_seconds histogram"), text);
+        Assert.assertTrue(text.contains("multibank_test_latency_seconds_bucket{browser=\"chrome\",le=\"0.01\"} 1"), text);
+        Assert.assertTrue(text.contains("multibank_test_latency_seconds_bucket{browser=\"chrome\",le=\"0.5\"} 2"), text);
+        Assert.assertTrue(text.contains("multibank_test_latency_seconds_bucket{browser=\"chrome\",le=\"60.0\"} 2"), text);
+        Assert.assertTrue(text.contains("multibank_test_latency_seconds_bucket{browser=\"chrome\",le=\"+Inf\"} 3"), text);
+        Assert.assertTrue(text.contains("multibank_test_latency_seconds_count{browser=\"chrome\"} 3"), text);
+        Assert.assertTrue(text.endsWith("# EOF\n"));
+    }
+
+    @Test
+    public void endpointServesOpenMetricsText() throws Exception {
+        Metrics.tests("passed").increment();
+        HttpServer server = MetricsListener.startServer(0);
+        try {
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create(
+                            "http://127.0.0.1:" + server.getAddress().getPort() + "/metrics")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+
+            Assert.assertEquals(response.statusCode(), 200);
+            Assert.assertTrue(response.headers().firstValue("Content-Type").orElse("")
+                    .startsWith("application/openmetrics-text"));
+            Assert.assertTrue(response.body().contains("# TYPE multibank_tests counter"), response.body());
+            Assert.assertTrue(response.body().contains("multibank_tests_total{outcome=\"passed\"}"), response.body());
+            Assert.assertTrue(response.body().contains("multibank_webdriver_active_sessions 0"), response.body());
+        } finally {
+            server.stop(0);
+        }
+    }
+}
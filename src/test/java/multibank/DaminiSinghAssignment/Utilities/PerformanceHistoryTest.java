@@ -0,0 +1,81 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Offline tests for page-timing budgets and the cross-run percentile tables.
+ */
+public class PerformanceHistoryTest {
+
+    private static PageTiming timing(String page, double lcp, Double cls) {
+        Map<String, Object> raw = new HashMap<>();
+        raw.put("url", "https://example.test/");
+        raw.put(PageTiming.LCP, lcp);
+        raw.put(PageTiming.RESOURCES, 40L);
+        raw.put(PageTiming.CLS, cls);
+        return PageTiming.fromScript(page, "chrome", raw, Map.of(PageTiming.LCP, 2500.0, PageTiming.CLS, 0.1));
+    }
+
+    @Test
+    public void onlyMeasuredMetricsCanBreachTheBudget() {
+        Assert.assertEquals(timing("Home", 3120, null).violations(), List.of("lcp 3120 > 2500"));
+        Assert.assertTrue(timing("Home", 2400, 0.05).violations().isEmpty());
+        Assert.assertEquals(timing("Home", 1000, 0.25).violations(), List.of("cls 0.250 > 0.100"));
+    }
+
+    @Test
+    public void percentilesUseTheNewestWindowPerPage() {
+        List<PageTiming> timings = new ArrayList<>();
+        timings.add(timing("Home", 99_000, null));   // outside the window below
+        for (int i = 1; i <= 20; i++) {
+            timings.add(timing("Home", i * 200, null));
+        }
+        timings.add(timing("About Us > Why Multibank?", 1500, 0.02));
+
+        List<PerformanceHistory.Row> rows = PerformanceHistory.aggregate(timings, 20);
+        PerformanceHistory.Row lcp = rows.stream()
+                .filter(r -> r.page().equals("Home") && r.metric().equals(PageTiming.LCP))
+                .findFirst().orElseThrow();
+
+        Assert.assertEquals(lcp.samples(), 20);
+        Assert.assertEquals(lcp.p50(), 2000.0);
+        Assert.assertEquals(lcp.p75(), 3000.0);
+        Assert.assertEquals(lcp.p95(), 3800.0);
+        Assert.assertEquals(lcp.budget(), 2500.0);
+        Assert.assertEquals(lcp.overBudget(), 8);
+
+        Assert.assertTrue(rows.stream().noneMatch(r -> r.page().equals("Home") && r.metric().equals(PageTiming.CLS)),
+                "a metric no sample reported gets no row");
+        Assert.assertEquals(rows.get(0).page(), "About Us > Why Multibank?");
+    }
+
+    @Test
+    public void historySurvivesAPartialLastLine() throws IOException {
+        Path dir = Files.createTempDirectory("perf-history");
+        PerformanceHistory history = new PerformanceHistory(dir.resolve("page-timings.jsonl"));
+        history.append(timing("Home", 1800, 0.01));
+        history.append(timing("Home", 2600, 0.01));
+        Files.writeString(history.getFile(), "{\"page\":\"Home\",\"brow", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        List<PageTiming> loaded = history.load();
+        Assert.assertEquals(loaded.size(), 2);
+        Assert.assertEquals(loaded.get(1).metrics().get(PageTiming.LCP), 2600.0);
+        Assert.assertEquals(loaded.get(1).budgets().get(PageTiming.LCP), 2500.0);
+
+        List<String[]> table = PerformanceHistory.asTable(PerformanceHistory.aggregate(loaded, 50));
+        Assert.assertEquals(table.get(0)[0], "Page");
+        Assert.assertTrue(table.stream().anyMatch(r -> r[2].equals(PageTiming.LCP) && r[8].equals("1/2")));
+    }
+}
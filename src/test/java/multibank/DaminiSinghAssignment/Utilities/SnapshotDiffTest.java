@@ -0,0 +1,73 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Offline tests for SnapshotDiff and TextNormalizer.
+ *
+ * No browser is involved, so these tests run in milliseconds.
+ */
+public class SnapshotDiffTest {
+
+    @Test
+    public void identicalSectionsAreClean() {
+        SnapshotDiff diff = SnapshotDiff.compare(
+                Map.of("headings", List.of("A", "B")),
+                Map.of("headings", List.of("A", "B")),
+                Set.of("headings"));
+
+        Assert.assertTrue(diff.isClean(), diff.toString());
+    }
+
+    @Test
+    public void orderIsCheckedOnlyForOrderedSections() {
+        Map<String, List<String>> actual = Map.of("headings", List.of("B", "A"));
+        Map<String, List<String>> expected = Map.of("headings", List.of("A", "B"));
+
+        Assert.assertTrue(SnapshotDiff.compare(actual, expected, Set.of("headings"))
+                .section("headings").orderMismatch());
+        Assert.assertTrue(SnapshotDiff.compare(actual, expected, Set.of()).isClean());
+    }
+
+    @Test
+    public void missingExtraAndChangedAreReported() {
+        SnapshotDiff.SectionDiff section = SnapshotDiff.compareSection("paragraphs",
+                List.of("Trade with confidence", "Regulated in 12 jurisdictions", "Brand new text"),
+                List.of("Trade with confidence", "Regulated in 11 jurisdictions", "Removed paragraph"),
+                false);
+
+        Assert.assertEquals(section.missing(), List.of("Removed paragraph"));
+        Assert.assertEquals(section.extra(), List.of("Brand new text"));
+        Assert.assertEquals(section.changed(), List.of(
+                new SnapshotDiff.Change("Regulated in 11 jurisdictions", "Regulated in 12 jurisdictions", 1)));
+        Assert.assertFalse(section.containsAllExpected());
+    }
+
+    @Test
+    public void extraTextsAreToleratedByPresenceMatch() {
+        SnapshotDiff.SectionDiff section = SnapshotDiff.compareSection("paragraphs",
+                List.of("One", "Two", "Two", "Hidden duplicate"),
+                List.of("Two", "One"),
+                false);
+
+        Assert.assertTrue(section.containsAllExpected(), section.toString());
+        Assert.assertFalse(section.isClean());
+    }
+
+    @Test
+    public void editDistanceRespectsBound() {
+        Assert.assertEquals(SnapshotDiff.editDistance("kitten", "sitting", 5), 3);
+        Assert.assertEquals(SnapshotDiff.editDistance("kitten", "sitting", 2), -1);
+    }
+
+    @Test
+    public void normalizerCollapsesAllSpaceKinds() {
+        Assert.assertEquals(TextNormalizer.normalize("  Open Live \n\t Account  "), "Open Live Account");
+        Assert.assertEquals(TextNormalizer.normalize(null), "");
+    }
+}
@@ -0,0 +1,85 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Offline tests for the SpotRowStream chunk/dedup loop, driven by a
+ * simulated virtualized table instead of a browser.
+ */
+public class SpotRowStreamTest {
+
+    /**
+     * Virtualized table of n rows with a viewport of 40 rendered rows.
+     * Each call scrolls down by 30 rows (10 rows overlap the previous viewport),
+     * and every fifth call the table first jumps back up by 200 rows, the way a
+     * re-rendering feed re-emits rows long after they scrolled out of view.
+     */
+    private static SpotRowStream.ChunkSource virtualizedTable(int n) {
+        int[] top = {0};
+        int[] calls = {0};
+        return reset -> {
+            if (reset) {
+                top[0] = 0;
+            } else if (++calls[0] % 5 == 0 && top[0] >= 200) {
+                top[0] -= 200;
+            } else {
+                top[0] += 30;
+            }
+            List<SpotRow> rows = new ArrayList<>();
+            for (int i = top[0]; i < Math.min(n, top[0] + 40); i++) {
+                rows.add(new SpotRow("PAIR" + i + "-USDT", "1.00", "+0.10%", "1.10", "0.90", 1));
+            }
+            return new SpotRowStream.Chunk(rows, top[0] + 40 >= n);
+        };
+    }
+
+    @Test
+    public void everySymbolIsEmittedExactlyOnce() {
+        int n = 10_000;
+        Map<String, Integer> seen = new HashMap<>();
+
+        SpotRowStream.Stats stats = SpotRowStream.stream(virtualizedTable(n),
+                row -> seen.merge(row.symbol(), 1, Integer::sum));
+
+        Assert.assertEquals(seen.size(), n);
+        Assert.assertTrue(seen.values().stream().allMatch(count -> count == 1), "a symbol was emitted twice");
+        Assert.assertEquals(stats.rows(), n);
+        Assert.assertTrue(stats.duplicatesSkipped() > n, "re-rendered rows must be skipped: " + stats);
+        Assert.assertTrue(stats.rowsPerSecond() > 0, stats.toString());
+    }
+
+    @Test
+    public void stopsAfterRepeatedEmptyChunks() {
+        int[] calls = {0};
+        List<SpotRow> emitted = new ArrayList<>();
+
+        SpotRowStream.Stats stats = SpotRowStream.stream(reset -> {
+            calls[0]++;
+            return new SpotRowStream.Chunk(reset
+                    ? List.of(new SpotRow("BTC-USDT", "1", "+1%", "2", "0.5", 1))
+                    : List.of(), false);
+        }, emitted::add);
+
+        Assert.assertEquals(emitted.size(), 1);
+        Assert.assertEquals(calls[0], 1 + SpotRowStream.MAX_EMPTY_CHUNKS);
+        Assert.assertEquals(stats.chunks(), calls[0]);
+    }
+
+    @Test
+    public void onlyTheFirstCallResets() {
+        List<Boolean> resets = new ArrayList<>();
+
+        SpotRowStream.stream(reset -> {
+            resets.add(reset);
+            return new SpotRowStream.Chunk(List.of(), resets.size() == 3);
+        }, row -> { });
+
+        Assert.assertEquals(resets, List.of(true, false, false));
+    }
+}
@@ -0,0 +1,121 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Offline tests for SpotNumberParser, SpotRow.directionOf and SpotRowValidator.
+ */
+public class SpotRowValidatorTest {
+
+    private static SpotRow row(String symbol, String price, String change, String high, String low, int direction) {
+        return new SpotRow(symbol, price, change, high, low, direction);
+    }
+
+    private static List<String> rules(List<SpotRowValidator.Violation> violations) {
+        List<String> rules = new ArrayList<>();
+        violations.forEach(violation -> rules.add(violation.rule()));
+        return rules;
+    }
+
+    @Test
+    public void parsesFormattedNumbers() {
+        Assert.assertEquals(SpotNumberParser.parse("1,234.56"), 1234.56, 1e-9);
+        Assert.assertEquals(SpotNumberParser.parse("+2.31%"), 2.31, 1e-9);
+        Assert.assertEquals(SpotNumberParser.parse("-0.45 %"), -0.45, 1e-9);
+        Assert.assertEquals(SpotNumberParser.parse("−3.5%"), -3.5, 1e-9);
+        Assert.assertEquals(SpotNumberParser.parse("$ 68,000"), 68000.0, 1e-9);
+        Assert.assertEquals(SpotNumberParser.parse("0.00001234"), 0.00001234, 1e-15);
+    }
+
+    @Test
+    public void placeholdersAreNaN() {
+        for (String missing : new String[] {"—", "-", "--", "N/A", "", "   ", "12abc", null}) {
+            Assert.assertTrue(Double.isNaN(SpotNumberParser.parse(missing)), "Expected NaN for: " + missing);
+        }
+        Assert.assertTrue(SpotNumberParser.isMissing("—"));
+        Assert.assertFalse(SpotNumberParser.isMissing("0"));
+    }
+
+    @Test
+    public void directionUsesWholeClassTokensOnly() {
+        Assert.assertEquals(SpotRow.directionOf("up"), 1);
+        Assert.assertEquals(SpotRow.directionOf("cell text-green"), 1);
+        Assert.assertEquals(SpotRow.directionOf("style_change__a1 style_down__x1Yz"), -1);
+        Assert.assertEquals(SpotRow.directionOf("Price-Negative"), -1);
+
+        Assert.assertEquals(SpotRow.directionOf("style_update__a9 icon_upper"), 0);
+        Assert.assertEquals(SpotRow.directionOf("style_reduced style_downloaded"), 0);
+        Assert.assertEquals(SpotRow.directionOf("up down"), 0);
+        Assert.assertEquals(SpotRow.directionOf(""), 0);
+        Assert.assertEquals(SpotRow.directionOf(null), 0);
+    }
+
+    @Test
+    public void consistentRowsPass() {
+        List<SpotRow> rows = List.of(
+                row("BTC-USDT", "68,000.50", "+2.31%", "69,000", "66,500", 1),
+                row("ETH-USDT", "3,500", "-1.20%", "3,600", "3,450", -1),
+                row("USDC-USDT", "1.0000", "0.00%", "1.0001", "0.9999", 0));
+
+        Assert.assertEquals(SpotRowValidator.withDefaultRules().validate(rows), List.of());
+    }
+
+    @Test
+    public void rangeAndSignViolationsAreReported() {
+        SpotRowValidator validator = SpotRowValidator.withDefaultRules();
+
+        Assert.assertEquals(rules(validator.validate(List.of(
+                row("BTC-USDT", "70,500", "+2.31%", "69,000", "66,500", 1)))), List.of("PRICE_IN_RANGE"));
+        Assert.assertEquals(rules(validator.validate(List.of(
+                row("BTC-USDT", "68,000", "+2.31%", "66,500", "69,000", 1)))),
+                List.of("LOW_LE_HIGH", "PRICE_IN_RANGE"));
+        Assert.assertEquals(rules(validator.validate(List.of(
+                row("ETH-USDT", "3,500", "-1.20%", "3,600", "3,450", 1)))), List.of("CHANGE_SIGN"));
+
+        // Live tick just above the high is tolerated
+        Assert.assertEquals(validator.validate(List.of(
+                row("BTC-USDT", "69,050", "+2.31%", "69,000", "66,500", 1))), List.of());
+    }
+
+    @Test
+    public void missingValuesAndBadSymbolsAreReported() {
+        List<SpotRowValidator.Violation> violations = SpotRowValidator.withDefaultRules().validate(List.of(
+                row("btc/usdt", "—", "N/A", "-", "66,500", 0)));
+
+        Assert.assertEquals(rules(violations),
+                List.of("PAIR_FORMAT", "PRICE_PRESENT", "CHANGE_PRESENT", "HIGH_LOW_PRESENT"));
+        Assert.assertEquals(violations.get(0).rowIndex(), 0);
+        Assert.assertEquals(violations.get(0).symbol(), "btc/usdt");
+    }
+
+    @Test
+    public void validatesFiveThousandRowsInMilliseconds() {
+        List<SpotRow> rows = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            double price = 100 + i;
+            rows.add(row("PAIR" + i + "-USDT",
+                    String.format(Locale.ROOT, "%,.2f", price),
+                    String.format(Locale.ROOT, "%+.2f%%", (i % 7) - 3.0),
+                    String.format(Locale.ROOT, "%,.2f", price * 1.02),
+                    String.format(Locale.ROOT, "%,.2f", price * 0.98),
+                    (int) Math.signum((i % 7) - 3.0)));
+        }
+        SpotRowValidator validator = SpotRowValidator.withDefaultRules();
+        for (int warmup = 0; warmup < 5; warmup++) {
+            Assert.assertEquals(validator.validate(rows), List.of());
+        }
+
+        long start = System.nanoTime();
+        List<SpotRowValidator.Violation> violations = validator.validate(rows);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        Assert.assertEquals(violations, List.of());
+        // Budget is generous for slow CI agents; a warm run takes a few ms
+        Assert.assertTrue(millis < 250, "5,000 rows validated in " + millis + " ms");
+    }
+}
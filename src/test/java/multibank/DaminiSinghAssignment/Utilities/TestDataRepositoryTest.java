@@ -0,0 +1,84 @@
+package multibank.DaminiSinghAssignment.Utilities;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Offline tests for TestDataRepository discovery, streaming parsing and memoization.
+ */
+public class TestDataRepositoryTest {
+
+    private Path dir;
+
+    @BeforeClass
+    public void createDatasets() throws IOException {
+        dir = Files.createTempDirectory("testdata");
+        Files.writeString(dir.resolve("page.json"),
+                "{ \"buttons\": [\"Open\", \"Close\", null],"
+              + "  \"title\": \"Why\","
+              + "  \"footer\": { \"links\": [\"Legal\", 1] } }");
+        Files.createDirectories(dir.resolve("nested"));
+        Files.writeString(dir.resolve("nested/other.json"), "{ \"a\": [] }");
+        Files.writeString(dir.resolve("notes.txt"), "ignored");
+    }
+
+    @Test
+    public void datasetsAreDiscoveredByRelativeName() {
+        TestDataRepository repository = TestDataRepository.fromDirectory(dir);
+        Assert.assertEquals(List.copyOf(repository.datasetNames()), List.of("nested/other", "page"));
+    }
+
+    @Test
+    public void datasetIsParsedAndIndexedByKey() {
+        TestDataRepository.Dataset data = TestDataRepository.fromDirectory(dir).get("page");
+
+        Assert.assertEquals(data.texts("buttons"), List.of("Open", "Close"));
+        Assert.assertEquals(data.text("title"), "Why");
+        Assert.assertEquals(data.texts("footer.links"), List.of("Legal", "1"));
+        Assert.assertTrue(data.texts("unknown").isEmpty());
+        Assert.assertThrows(UnsupportedOperationException.class, () -> data.asMap().put("x", List.of()));
+    }
+
+    @Test
+    public void concurrentCallersShareOneParsedInstance() throws Exception {
+        TestDataRepository repository = TestDataRepository.fromDirectory(dir);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<TestDataRepository.Dataset>> calls = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                calls.add(() -> repository.get("page"));
+            }
+            TestDataRepository.Dataset first = repository.get("page");
+            for (Future<TestDataRepository.Dataset> future : pool.invokeAll(calls)) {
+                Assert.assertSame(future.get(), first);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void unknownDatasetFailsWithKnownNames() {
+        IllegalStateException e = Assert.expectThrows(IllegalStateException.class,
+                () -> TestDataRepository.fromDirectory(dir).get("missing"));
+        Assert.assertTrue(e.getMessage().contains("page"), e.getMessage());
+    }
+
+    @Test
+    public void classpathDatasetIsServedByTestDataLoader() throws IOException {
+        Assert.assertTrue(TestDataRepository.shared().datasetNames().contains("why_multilink_expected_texts"));
+        Assert.assertSame(TestDataLoader.loadWhyMultiLinkExpectedTexts(),
+                TestDataLoader.loadWhyMultiLinkExpectedTexts());
+    }
+}
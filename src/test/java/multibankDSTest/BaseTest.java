@@ -2,11 +2,18 @@ package multibankDSTest;
 
 import java.time.Duration;
 
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.testng.annotations.*;
 
 import multibank.DaminiSinghAssignment.Core.DriverFactory;
 import multibank.DaminiSinghAssignment.Core.DriverManager;
+import multibank.DaminiSinghAssignment.Listeners.BrowserLogRecorder;
+import multibank.DaminiSinghAssignment.Listeners.PhaseTimingListener;
+import multibank.DaminiSinghAssignment.Listeners.ScreencastRecorder;
+import multibank.DaminiSinghAssignment.PageObjects.BasePage;
+import multibank.DaminiSinghAssignment.PageObjects.HomePage;
 
 /**
  * BaseTest:
@@ -17,7 +24,9 @@ import multibank.DaminiSinghAssignment.Core.DriverManager;
  *  - Manage WebDriver lifecycle (create → use → quit)
  *  - Provide a clean, isolated WebDriver instance per test method using ThreadLocal
  *  - Handle cross-browser execution through @Parameters
- *  - Navigate to the base URL before each test
+ *  - Navigate to the base URL before each test and measure its page performance
+ *  - Keep the browser across a retry when RetryAnalyzer asks for it
+ *    (transient failure, healthy session) and only reset its state
  *
  * Pattern:
  *  - All test classes extend BaseTest
@@ -25,8 +34,8 @@ import multibank.DaminiSinghAssignment.Core.DriverManager;
  */
 public abstract class BaseTest {
 
-    // Base URL for the AUT (Application Under Test)
-    protected String baseUrl = "https://trade.multibank.io/";
+    // Base URL for the AUT (Application Under Test); -DbaseUrl points the suite at e.g. the fixture site
+    protected String baseUrl = System.getProperty("baseUrl", "https://trade.multibank.io/");
 
     /**
      * @BeforeMethod
@@ -37,6 +46,7 @@ public abstract class BaseTest {
      *  - Store the driver in ThreadLocal via DriverManager so tests do not share drivers
      *  - Configure implicit waits + maximize window
      *  - Navigate to base URL
+     *  - Measure the landing page against HomePage's @PerformanceBudget
      *
      * @param browser  Browser name passed from TestNG XML or defaults to "chrome"
      */
@@ -44,7 +54,19 @@ public abstract class BaseTest {
     @BeforeMethod(alwaysRun = true)
     public void setUp(@Optional("chrome") String browser) {
 
+        // Measurements of an earlier setUp whose test never ran (config failure)
+        BasePage.drainCapturedTimings();
+
+        // Retry of a transient failure: reuse the still-open browser if it can be reset
+        if (DriverManager.isReuseRequested()) {
+            DriverManager.clearReuseRequest();
+            if (resetForRetry()) {
+                return;
+            }
+        }
+
         // Create a new isolated driver instance for THIS thread (for parallel execution compatibility)
+        long launchStart = System.nanoTime();
         WebDriver driver = DriverFactory.createInstance(browser);
 
         // Store driver in ThreadLocal container
@@ -55,8 +77,74 @@ public abstract class BaseTest {
                 .implicitlyWait(Duration.ofSeconds(10));  // fallback for simple waits
         DriverManager.getDriver().manage().window().maximize();
 
-        // Navigate to the application
+        // Navigate to the application (its own phase in the suite benchmark)
+        PhaseTimingListener.phase(PhaseTimingListener.NAVIGATION);
         DriverManager.getDriver().get(baseUrl);
+
+        // Baseline for the time a later driver reuse saves
+        DriverManager.recordLaunch((System.nanoTime() - launchStart) / 1_000_000);
+
+        // Failure-only screencast ring buffer (-Dscreencast=true, Chrome/Edge)
+        ScreencastRecorder.attach(DriverManager.getDriver());
+
+        // Console / JS exception / network rings, written only on failure (Chrome/Edge)
+        BrowserLogRecorder.attach(DriverManager.getDriver());
+
+        // Navigation Timing + web vitals of the landing page against HomePage's budget
+        // (fresh browser only: a reused one would measure a warm cache)
+        new HomePage(DriverManager.getDriver()).capturePerformance("Home");
+    }
+
+    /**
+     * Lightweight state reset of the kept browser before a retry:
+     * close extra windows, clear cookies + web storage, reload the base URL.
+     *
+     * @return false if the session broke meanwhile (it is quit → fresh launch)
+     */
+    private boolean resetForRetry() {
+        WebDriver driver = DriverManager.getDriver();
+        long start = System.nanoTime();
+        try {
+            String main = driver.getWindowHandles().iterator().next();
+            for (String handle : driver.getWindowHandles()) {
+                if (!handle.equals(main)) {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            driver.switchTo().window(main);
+
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            driver.get(baseUrl);
+
+            // The retry's failure log should only contain the retry's own events
+            if (BrowserLogRecorder.current() != null) {
+                BrowserLogRecorder.current().reset();
+            }
+        } catch (WebDriverException e) {
+            System.out.println("Driver reuse failed, launching a fresh browser: " + e.getClass().getSimpleName());
+            quitQuietly(driver);
+            return false;
+        }
+
+        long resetMillis = (System.nanoTime() - start) / 1_000_000;
+        long saved = DriverManager.recordReuse(resetMillis);
+        System.out.println("Retry reused driver on thread " + Thread.currentThread().getId()
+                + " | reset " + resetMillis + " ms | saved ~" + saved + " ms"
+                + " | total saved " + DriverManager.getTotalSavedMillis() + " ms");
+        return true;
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        ScreencastRecorder.detach();
+        BrowserLogRecorder.detach();
+        try {
+            driver.quit();
+        } catch (WebDriverException ignored) {
+            // session already gone
+        }
+        DriverManager.unload();
     }
 
     /**
@@ -64,15 +152,24 @@ public abstract class BaseTest {
      * Runs AFTER every @Test method.
      *
      * Responsibilities:
-     *  - Quit WebDriver cleanly
+     *  - Quit WebDriver cleanly (skipped when the driver is kept for a retry)
      *  - Remove WebDriver reference from ThreadLocal to prevent memory leaks
      */
     @AfterMethod(alwaysRun = true)
     public void tearDown() {
+        // Failed attempt that will be retried on the same browser → keep it open
+        if (DriverManager.isReuseRequested()) {
+            return;
+        }
+
         WebDriver driver = DriverManager.getDriver();
 
         if (driver != null) {
+            ScreencastRecorder.detach();   // stop frames + print capture overhead
+            BrowserLogRecorder.detach();
+            long start = System.nanoTime();
             driver.quit();   // Close browser + WebDriver session
+            DriverManager.recordQuit((System.nanoTime() - start) / 1_000_000);
         }
 
         // Remove driver object from ThreadLocal storage
@@ -1,8 +1,9 @@
 package multibankDSTest;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
@@ -11,6 +12,7 @@ import org.testng.annotations.*;
 
 import multibank.DaminiSinghAssignment.PageObjects.HomePage;
 import multibank.DaminiSinghAssignment.Utilities.FlakySimulator;
+import multibank.DaminiSinghAssignment.Utilities.LinkChecker;
 import multibank.DaminiSinghAssignment.Core.DriverManager;
 import multibank.DaminiSinghAssignment.Listeners.RetryAnalyzer;
 
@@ -31,7 +33,8 @@ import multibank.DaminiSinghAssignment.Listeners.RetryAnalyzer;
  */
 public class HomePageTest extends BaseTest {
 
-    private HomePage homePage;
+    // Per-thread page object: methods of this class may run in parallel (DurationAwareScheduler)
+    private final ThreadLocal<HomePage> homePage = new ThreadLocal<>();
 
     /**
      * Common setup executed before each test.
@@ -47,7 +50,7 @@ public class HomePageTest extends BaseTest {
     @BeforeMethod(alwaysRun = true)
     public void initPage() {
         WebDriver driver = DriverManager.getDriver();
-        homePage = new HomePage(driver);
+        homePage.set(new HomePage(driver));
     }
 
     // ============================================================
@@ -71,7 +74,7 @@ public class HomePageTest extends BaseTest {
         description = "RETRY-001 demo: flaky-style test with retry"
     )
     public void RETRY_001_demoRetryOnTransientFailure() {
-        homePage = new HomePage(DriverManager.getDriver());
+        homePage.set(new HomePage(DriverManager.getDriver()));
 
         // Simulate transient/flaky behaviour
         if (FlakySimulator.isFirstRun("RETRY_001_demoRetryOnTransientFailure")) {
@@ -79,7 +82,7 @@ public class HomePageTest extends BaseTest {
         }
 
         // On retry, this should pass
-        Assert.assertTrue(homePage.isLogoDisplayed(), "Logo should be visible after retry.");
+        Assert.assertTrue(homePage.get().isLogoDisplayed(), "Logo should be visible after retry.");
     }
 
     // ============================================================
@@ -102,12 +105,12 @@ public class HomePageTest extends BaseTest {
      */
     @Test
     public void NAV_001_TopNavigation_HeaderAndNavVisible() {
-        String title = homePage.getPageTitle();
+        String title = homePage.get().getPageTitle();
         Assert.assertTrue(title != null && !title.isEmpty(), "Page title is empty!");
 
-        Assert.assertTrue(homePage.isLogoDisplayed(), "MultiBank logo is not visible!");
+        Assert.assertTrue(homePage.get().isLogoDisplayed(), "MultiBank logo is not visible!");
 
-        List<String> actualNav = homePage.getNavigationItemTexts();
+        List<String> actualNav = homePage.get().getNavigationItemTexts();
         Assert.assertFalse(actualNav.isEmpty(), "Navigation items list is empty!");
 
         List<String> expectedNav = Arrays.asList(
@@ -120,7 +123,7 @@ public class HomePageTest extends BaseTest {
         );
 
         Assert.assertTrue(
-                homePage.areAllExpectedNavItemsPresent(expectedNav),
+                homePage.get().areAllExpectedNavItemsPresent(expectedNav),
                 "Not all expected top navigation items are present!"
         );
     }
@@ -143,18 +146,33 @@ public class HomePageTest extends BaseTest {
      *      - Hover on each
      *      - Retrieve href attribute
      *      - Assert href is non-null and non-empty
+     *  - Export all top-nav + sub-menu hrefs in one call and verify every
+     *    target over HTTP concurrently via LinkChecker (status + latency report)
      */
     @Test
     public void NAV_002_TopNavigation_HoverAndHrefMapping() {
         List<String> expectedNav = Arrays.asList("Trade", "Features", "About Us", "Support");
 
         for (String menu : expectedNav) {
-            homePage.hoverNavigationItem(menu);
+            homePage.get().hoverNavigationItem(menu);
 
-            String href = homePage.getNavigationItemHref(menu);
+            String href = homePage.get().getNavigationItemHref(menu);
             Assert.assertNotNull(href, "Href is null for menu: " + menu);
             Assert.assertFalse(href.trim().isEmpty(), "Href is empty for menu: " + menu);
         }
+
+        // Validate every exported nav/sub-menu target without driving the browser
+        Map<String, String> hrefs = homePage.get().getNavigationHrefs();
+        List<LinkChecker.LinkResult> results =
+                new LinkChecker(8, Duration.ofSeconds(15), 5).check(hrefs);
+
+        System.out.println("=== NAVIGATION LINK CHECK ===");
+        results.forEach(System.out::println);
+
+        List<LinkChecker.LinkResult> broken = results.stream()
+                .filter(r -> !r.isOk())
+                .toList();
+        Assert.assertTrue(broken.isEmpty(), "Broken navigation links: " + broken);
     }
 
     // ============================================================
@@ -171,21 +189,33 @@ public class HomePageTest extends BaseTest {
      *
      * Implementation:
      *  - Scroll into view of the market banner section
+     *  - Wait for any carousel transition to settle (event-driven, no fixed sleep)
      *  - Assert banner container is visible
      *  - Read active banner texts via HomePage POM
+     *  - Read all slides in one pass and assert each has content
      */
     @Test
-    public void FOOT_001_MarketBanner_VisibleAndHasTexts() throws InterruptedException {
+    public void FOOT_001_MarketBanner_VisibleAndHasTexts() {
         JavascriptExecutor js = (JavascriptExecutor) DriverManager.getDriver();
-        js.executeScript("arguments[0].scrollIntoView(true);", homePage.getMarketBanner());
-        Thread.sleep(800);  // small pause to let animation complete
+        js.executeScript("arguments[0].scrollIntoView(true);", homePage.get().getMarketBanner());
+        homePage.get().waitForCarouselToSettle();
 
-        Assert.assertTrue(homePage.isMarketBannerVisible(), "Market banner container is not visible!");
+        Assert.assertTrue(homePage.get().isMarketBannerVisible(), "Market banner container is not visible!");
 
-        List<String> bannerTexts = homePage.getActiveBannerTexts();
+        List<String> bannerTexts = homePage.get().getActiveBannerTexts();
         Assert.assertFalse(bannerTexts.isEmpty(), "No texts found in active banner!");
 
         System.out.println("Active Banner Texts: " + bannerTexts);
+
+        List<HomePage.BannerSlide> slides = homePage.get().getAllBannerSlides();
+        Assert.assertFalse(slides.isEmpty(), "No banner slides found!");
+
+        for (HomePage.BannerSlide slide : slides) {
+            System.out.println("Banner slide " + slide.index() + ": " + slide.texts()
+                    + " | images: " + slide.images() + " | links: " + slide.links());
+            Assert.assertFalse(slide.texts().isEmpty() && slide.images().isEmpty(),
+                    "Banner slide " + slide.index() + " has neither text nor image!");
+        }
     }
 
     // ============================================================
@@ -197,38 +227,27 @@ public class HomePageTest extends BaseTest {
      * Requirement:
      *  - Home page loaded.
      *  - Under download section, click 'Download app' → 'App Store'.
-     *  - Switch to new tab.
-     *  - Capture URL and page title.
-     *  - Ensure it navigates to correct Apple App Store product page (URL pattern + title).
+     *  - Capture the URL of the new tab.
+     *  - Ensure it navigates to correct Apple App Store product page (URL pattern).
      *
      * Implementation:
-     *  - Click App Store button via HomePage POM
-     *  - Switch to newly opened tab
-     *  - Assert URL contains 'apple.com'
-     *  - Assert title is non-empty
-     *  - Close tab and return to original window
+     *  - Click App Store button via HomePage POM with new-window interception
+     *  - The new tab's target URL is captured from window.open / BiDi events
+     *  - Navigation is cancelled, so apple.com is never loaded
+     *  - Assert intercepted URL contains 'apple.com'
      */
     @Test
-    public void APP_001_AppleAppStoreLink_NavigatesToCorrectPage() throws InterruptedException {
+    public void APP_001_AppleAppStoreLink_NavigatesToCorrectPage() {
         WebDriver driver = DriverManager.getDriver();
         String originalWindow = driver.getWindowHandle();
 
-        // Click on the App Store button in download section
-        homePage.clickAppleAppStore();
-
-        // Switch context to newly opened tab/window
-        switchToNewTab(originalWindow);
-
-        String currentUrl = driver.getCurrentUrl();
-        String title = driver.getTitle();
+        HomePage.NewWindowTarget target = homePage.get().captureAppleAppStoreTarget(true);
 
-        Assert.assertTrue(currentUrl.contains("apple.com"),
-                "Apple Store URL does not look correct: " + currentUrl);
-        Assert.assertFalse(title.isEmpty(), "Apple Store page title is empty!");
+        Assert.assertTrue(target.url().contains("apple.com"),
+                "Apple Store URL does not look correct: " + target.url());
 
-        // Clean up: close new tab and return to original
-        driver.close();
-        driver.switchTo().window(originalWindow);
+        // Still on the original page: nothing to close or switch back from
+        Assert.assertEquals(driver.getWindowHandle(), originalWindow);
     }
 
     // ============================================================
@@ -240,60 +259,26 @@ public class HomePageTest extends BaseTest {
      * Requirement:
      *  - Home page loaded.
      *  - Under download section, click 'Download MultiBank.io app' → 'Google Play'.
-     *  - Switch to new tab.
-     *  - Capture URL and page title.
-     *  - Ensure it navigates to correct Google Play product page (URL pattern + title).
+     *  - Capture the URL of the new tab.
+     *  - Ensure it navigates to correct Google Play product page (URL pattern).
      *
      * Implementation:
-     *  - Click Google Play button via HomePage POM
-     *  - Switch to newly opened tab
-     *  - Assert URL contains 'play.google.com'
-     *  - Assert title is non-empty
-     *  - Close tab and return to original window
+     *  - Click Google Play button via HomePage POM with new-window interception
+     *  - The new tab's target URL is captured from window.open / BiDi events
+     *  - Navigation is cancelled, so play.google.com is never loaded
+     *  - Assert intercepted URL contains 'play.google.com'
      */
     @Test
-    public void APP_002_GooglePlayLink_NavigatesToCorrectPage() throws InterruptedException {
+    public void APP_002_GooglePlayLink_NavigatesToCorrectPage() {
         WebDriver driver = DriverManager.getDriver();
         String originalWindow = driver.getWindowHandle();
 
-        // Click on the Google Play button in download section
-        homePage.clickGooglePlayStore();
-
-        // Switch context to newly opened tab/window
-        switchToNewTab(originalWindow);
-
-        String currentUrl = driver.getCurrentUrl();
-        String title = driver.getTitle();
+        HomePage.NewWindowTarget target = homePage.get().captureGooglePlayTarget(true);
 
-        Assert.assertTrue(currentUrl.contains("play.google.com"),
-                "Google Play URL does not look correct: " + currentUrl);
-        Assert.assertFalse(title.isEmpty(), "Google Play page title is empty!");
+        Assert.assertTrue(target.url().contains("play.google.com"),
+                "Google Play URL does not look correct: " + target.url());
 
-        // Clean up: close new tab and return to original
-        driver.close();
-        driver.switchTo().window(originalWindow);
-    }
-
-    // ============================================================
-    // Helper: switch to newly opened tab/window
-    // ============================================================
-    /**
-     * Helper to switch WebDriver context to a newly opened tab/window.
-     *
-     * Logic:
-     *  - Capture all window handles
-     *  - Switch to the first handle that is not the original
-     *  - If none found, fail the test explicitly
-     */
-    private void switchToNewTab(String originalWindow) {
-        WebDriver driver = DriverManager.getDriver();
-        Set<String> allWindows = driver.getWindowHandles();
-        for (String window : allWindows) {
-            if (!window.equals(originalWindow)) {
-                driver.switchTo().window(window);
-                return;
-            }
-        }
-        Assert.fail("No new tab/window was opened!");
+        // Still on the original page: nothing to close or switch back from
+        Assert.assertEquals(driver.getWindowHandle(), originalWindow);
     }
 }
@@ -9,6 +9,7 @@ import org.testng.annotations.Test;
 
 import multibank.DaminiSinghAssignment.Core.DriverManager;
 import multibank.DaminiSinghAssignment.PageObjects.SpotSectionPage;
+import multibank.DaminiSinghAssignment.Utilities.SpotRowValidator;
 
 /**
  * Test class for the Spot section on the homepage.
@@ -21,7 +22,8 @@ import multibank.DaminiSinghAssignment.PageObjects.SpotSectionPage;
  */
 public class SpotSectionTest extends BaseTest {
 
-    private SpotSectionPage spotSectionPage;
+    // Per-thread page object: methods of this class may run in parallel (DurationAwareScheduler)
+    private final ThreadLocal<SpotSectionPage> spotSectionPage = new ThreadLocal<>();
 
     /**
      * Common setup executed before each test method.
@@ -37,7 +39,7 @@ public class SpotSectionTest extends BaseTest {
      */
     @BeforeMethod(alwaysRun = true)
     public void initPage() {
-        spotSectionPage = new SpotSectionPage(DriverManager.getDriver());
+        spotSectionPage.set(new SpotSectionPage(DriverManager.getDriver()));
     }
 
     /**
@@ -60,12 +62,12 @@ public class SpotSectionTest extends BaseTest {
 
         // Ensure Spot section is present before interacting
         Assert.assertTrue(
-                spotSectionPage.isSpotSectionVisible(),
+                spotSectionPage.get().isSpotSectionVisible(),
                 "Spot section is not visible on the homepage."
         );
 
         // Get all category names (e.g., Top, New, Favorites)
-        List<String> categories = spotSectionPage.getSpotCategoryButtonText();
+        List<String> categories = spotSectionPage.get().getSpotCategoryButtonText();
         Assert.assertFalse(categories.isEmpty(), "No Spot categories found.");
 
         for (String category : categories) {
@@ -77,16 +79,16 @@ public class SpotSectionTest extends BaseTest {
             }
 
             // Click category button by visible text
-            spotSectionPage.clickSpotCategoryByName(category);
+            spotSectionPage.get().clickSpotCategoryByName(category);
 
             // Check that category has at least one pair in DOM
             Assert.assertTrue(
-                    spotSectionPage.hasTradingPairsInCurrentCategory(),
+                    spotSectionPage.get().hasTradingPairsInCurrentCategory(),
                     "Category '" + category + "' has no trading pairs listed."
             );
 
             // Scrape currently visible pairs for debug/logging
-            List<String> pairs = spotSectionPage.getVisibleTradingPairs();
+            List<String> pairs = spotSectionPage.get().getVisibleTradingPairs();
             System.out.println("Pairs for category '" + category + "': " + pairs);
 
             // Ensure pair list is not empty for this category
@@ -109,6 +111,7 @@ public class SpotSectionTest extends BaseTest {
      *  - Validate column headers against expected spec
      *  - Check pair symbol format (e.g., BTC-USDT)
      *  - Check that numeric columns (Price, 24h Change, High, Low) have data
+     *  - Check row invariants via SpotRowValidator (low ≤ price ≤ high, change sign)
      *  - Check that "Last 7 days" / Base Volume column contains SVG indicators
      */
     @Test(priority = 2, description = "SPOT-002: Validate Spot table structure and data")
@@ -126,42 +129,56 @@ public class SpotSectionTest extends BaseTest {
 
         // Structural check: headers must match exactly in text and order
         Assert.assertTrue(
-                spotSectionPage.validateSpotColumnHeaders(expectedHeaders),
+                spotSectionPage.get().validateSpotColumnHeaders(expectedHeaders),
                 "Spot column headers do not match expected spec."
         );
 
         // Symbol format check: e.g., BTC-USDT, ETH-USDT
         Assert.assertTrue(
-                spotSectionPage.arePairSymbolsInCorrectFormat(),
+                spotSectionPage.get().arePairSymbolsInCorrectFormat(),
                 "One or more pair symbols are not in the expected format (e.g., BTC-USDT)."
         );
 
         // Data presence checks for numeric columns
         Assert.assertTrue(
-                spotSectionPage.isPriceDataPresent(),
+                spotSectionPage.get().isPriceDataPresent(),
                 "Price column has no data."
         );
 
         Assert.assertTrue(
-                spotSectionPage.is24HrChangeDataPresent(),
+                spotSectionPage.get().is24HrChangeDataPresent(),
                 "24h Change column has no data."
         );
 
         Assert.assertTrue(
-                spotSectionPage.isHighDataPresent(),
+                spotSectionPage.get().isHighDataPresent(),
                 "High column has no data."
         );
 
         Assert.assertTrue(
-                spotSectionPage.isLowDataPresent(),
+                spotSectionPage.get().isLowDataPresent(),
                 "Low column has no data."
         );
 
+        // Row invariants: numeric cells parse, low ≤ price ≤ high, change sign consistent
+        List<SpotRowValidator.Violation> violations = spotSectionPage.get().validateSpotRows();
+        Assert.assertTrue(
+                violations.isEmpty(),
+                "Spot rows violate data invariants: " + violations
+        );
+
         // Visual/data check for Last 7 days / Base Volume column (SVG mini-charts)
         Assert.assertTrue(
-                spotSectionPage.isBaseVolumeColumnHavingSvgIndicators(),
+                spotSectionPage.get().isBaseVolumeColumnHavingSvgIndicators(),
                 "Base Volume / Last 7 days column does not contain SVG indicators."
         );
+
+        // Decoded sparklines: enough points and a non-flat shape when the price moved
+        List<String> sparklineIssues = spotSectionPage.get().findInvalidSparklines(2, false);
+        Assert.assertTrue(
+                sparklineIssues.isEmpty(),
+                "Invalid Last 7 days sparklines: " + sparklineIssues
+        );
     }
 
     /**
@@ -195,7 +212,7 @@ public class SpotSectionTest extends BaseTest {
         // We EXPECT this assertion to fail (return false), which throws AssertionError.
         // expectedExceptions = AssertionError.class tells TestNG this is the expected outcome.
         Assert.assertTrue(
-                spotSectionPage.validateSpotColumnHeaders(wrongHeaders),
+                spotSectionPage.get().validateSpotColumnHeaders(wrongHeaders),
                 "Validation should fail for incorrect header spec but it passed."
         );
     }
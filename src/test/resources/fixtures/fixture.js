@@ -0,0 +1,61 @@
+/*
+ * Shared script of the local stand-in site (FixtureServer).
+ * Builds the header navigation with the same class names and hover behaviour
+ * the page objects rely on: popover entries are mounted on hover and
+ * removed shortly after the pointer leaves (like the production site).
+ */
+(function () {
+  var MENU = [
+    ['Dashboard', '/', null],
+    ['Markets', null, [['Spot', 'Trade 300+ crypto pairs', '/#spot'],
+                       ['Futures', 'Coming soon', null]]],
+    ['Trade', null, [['Spot Trading', 'Buy and sell instantly', '/#spot']]],
+    ['About Us', null, [['Why Multibank?', 'Regulated since 2005', '/why-multibank.html'],
+                        ['Contact', 'Get in touch', '/why-multibank.html#contact']]]
+  ];
+
+  var header = document.createElement('header');
+  header.className = 'style_header';
+  header.innerHTML = '<img class="style_logo" alt="MultiBank" src="data:image/svg+xml,'
+      + encodeURIComponent('<svg xmlns="http://www.w3.org/2000/svg" width="120" height="24">'
+      + '<rect width="120" height="24" fill="#1b5cff"/></svg>') + '">'
+      + '<div class="style_menu-container"></div>';
+  var container = header.querySelector('.style_menu-container');
+
+  MENU.forEach(function (menu) {
+    var group = document.createElement('div');
+    group.className = 'style_menu-group';
+    var item = document.createElement(menu[1] ? 'a' : 'span');
+    item.className = 'style_menu-item';
+    item.textContent = menu[0];
+    if (menu[1]) { item.href = menu[1]; }
+    group.appendChild(item);
+    container.appendChild(group);
+    if (!menu[2]) { return; }
+
+    var popover = null, timer = null;
+    function open() {
+      clearTimeout(timer);
+      if (popover) { return; }
+      popover = document.createElement('div');
+      popover.className = 'style_popover';
+      menu[2].forEach(function (sub) {
+        var text = '<div class="style_text">' + sub[0] + '<br><small>' + sub[1] + '</small></div>';
+        popover.insertAdjacentHTML('beforeend', sub[2] ? '<a href="' + sub[2] + '">' + text + '</a>' : text);
+      });
+      popover.addEventListener('mouseenter', open);
+      popover.addEventListener('mouseleave', close);
+      group.appendChild(popover);
+    }
+    function close() {
+      clearTimeout(timer);
+      timer = setTimeout(function () {
+        if (popover) { popover.remove(); popover = null; }
+      }, 150);
+    }
+    item.addEventListener('mouseenter', open);
+    item.addEventListener('mouseleave', close);
+  });
+
+  document.body.insertBefore(header, document.body.firstChild);
+})();